@@ -0,0 +1,361 @@
+package asia.fourtitude.interviewq.jumble.console;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+
+/**
+ * Non-interactive (batch/pipe) mode of the console app.
+ *
+ * Reads one query per line, executes the queries on a pool of workers
+ * sharing one engine, and writes one result line per query to `out`, in
+ * the input order. Blank lines and lines starting with '#' are skipped.
+ * At the end, the throughput and latency summary is written to `err`, so
+ * that `out` stays machine readable.
+ *
+ * Queries (words separated by spaces, '-' to ignore a search criteria):
+ *   exists   word
+ *   prefix   prefix
+ *   search   startChar endChar length     e.g. "search a - 5"
+ *   subwords word [minLength]
+ *   anagram  word
+ *
+ * Result line is the query, a TAB, and either "true"/"false" (exists), or
+ * the number of words, a TAB, and the words separated by spaces.
+ * Invalid query gives "ERROR", a TAB, and the reason.
+ *
+ * Run with: mvn -pl jumble-console -am compile exec:java -Dexec.args="--batch=queries.txt --threads=8"
+ *       or: cat queries.txt | mvn -q -pl jumble-console -am compile exec:java -Dexec.args="--batch"
+ */
+public class BatchRunner {
+
+    public static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+
+    /*
+     * Maximum number of queries in flight per worker. The oldest query is
+     * written out (waiting for it, if needed) before reading more, which
+     * keeps the output in input order, and the memory bounded.
+     */
+    private static final int WINDOW_PER_THREAD = 64;
+
+    private final JumbleEngine engine;
+
+    private final int threads;
+
+    private final PrintStream out;
+
+    private final PrintStream err;
+
+    public BatchRunner(JumbleEngine engine, int threads, PrintStream out, PrintStream err) {
+        this.engine = engine;
+        this.threads = Math.max(1, threads);
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Executes all the queries of `in`, and writes the summary.
+     *
+     * @param in  The queries, one per line.
+     * @return  The number of queries which are invalid.
+     */
+    public long run(BufferedReader in) throws IOException, InterruptedException {
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "jumble-batch-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        int window = threads * WINDOW_PER_THREAD;
+        ArrayDeque<Future<Result>> pending = new ArrayDeque<>(window);
+        Map<String, Latencies> latencies = new TreeMap<>();
+        long errors = 0;
+        long tStart = System.nanoTime();
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String query = line.trim();
+                if (query.isEmpty() || query.startsWith("#")) {
+                    continue;
+                }
+                if (pending.size() == window) {
+                    errors += write(pending.poll(), latencies);
+                }
+                pending.add(pool.submit(() -> execute(query)));
+            }
+            while (!pending.isEmpty()) {
+                errors += write(pending.poll(), latencies);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        long tStop = System.nanoTime();
+        out.flush();
+        summary(latencies, errors, tStop - tStart);
+        return errors;
+    }
+
+    private int write(Future<Result> future, Map<String, Latencies> latencies) throws InterruptedException {
+        Result result;
+        try {
+            result = future.get();
+        } catch (ExecutionException e) {
+            // execute() catches the query failures, this is a bug
+            throw new IllegalStateException("Failed to execute query.", e.getCause());
+        }
+        out.print(result.query);
+        out.print('\t');
+        out.println(result.output);
+        latencies.computeIfAbsent(result.error ? "(error)" : result.op, k -> new Latencies()).record(result.nanos);
+        return result.error ? 1 : 0;
+    }
+
+    Result execute(String query) {
+        String[] tokens = query.split("\\s+");
+        String op = tokens[0].toLowerCase(Locale.ROOT);
+        long tStart = System.nanoTime();
+        String output;
+        boolean error = false;
+        try {
+            output = execute(op, tokens);
+        } catch (IllegalArgumentException e) {
+            output = "ERROR\t" + e.getMessage();
+            error = true;
+        } catch (RuntimeException e) {
+            output = "ERROR\t" + e;
+            error = true;
+        }
+        return new Result(query, op, output, error, System.nanoTime() - tStart);
+    }
+
+    private String execute(String op, String[] tokens) {
+        switch (op) {
+        case "exists":
+            expectArgs(tokens, 1, 1);
+            return Boolean.toString(engine.exists(tokens[1]));
+        case "prefix":
+            expectArgs(tokens, 1, 1);
+            return words(engine.wordsMatchingPrefix(tokens[1]));
+        case "search":
+            expectArgs(tokens, 3, 3);
+            return words(engine.searchWords(charArg(tokens[1]), charArg(tokens[2]), intArg(tokens[3])));
+        case "subwords":
+            expectArgs(tokens, 1, 2);
+            return words(engine.generateSubWords(tokens[1], tokens.length > 2 ? intArg(tokens[2]) : null));
+        case "anagram":
+            expectArgs(tokens, 1, 1);
+            return words(engine.anagramsOf(tokens[1]));
+        default:
+            throw new IllegalArgumentException("Unknown query=[" + op + "]");
+        }
+    }
+
+    private static void expectArgs(String[] tokens, int min, int max) {
+        int numArgs = tokens.length - 1;
+        if (numArgs < min || numArgs > max) {
+            throw new IllegalArgumentException(min == max
+                    ? "Expect " + min + " argument(s) for query=[" + tokens[0] + "]"
+                    : "Expect " + min + " to " + max + " arguments for query=[" + tokens[0] + "]");
+        }
+    }
+
+    private static Character charArg(String token) {
+        if ("-".equals(token)) {
+            return null;
+        }
+        if (token.length() != 1) {
+            throw new IllegalArgumentException("Invalid character=[" + token + "]");
+        }
+        return token.charAt(0);
+    }
+
+    private static Integer intArg(String token) {
+        if ("-".equals(token)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(token);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number=[" + token + "]");
+        }
+    }
+
+    private static String words(Collection<String> words) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(words.size()).append('\t');
+        for (String word : words) {
+            sb.append(word).append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    private void summary(Map<String, Latencies> latencies, long errors, long elapsedNanos) {
+        long total = 0;
+        Latencies all = new Latencies();
+        for (Latencies each : latencies.values()) {
+            total += each.size;
+            all.addAll(each);
+        }
+        double seconds = elapsedNanos / 1e9;
+        err.printf("queries    : %d%n", total);
+        err.printf("errors     : %d%n", errors);
+        err.printf("threads    : %d%n", threads);
+        err.printf("elapsed    : %.3f sec%n", seconds);
+        err.printf("throughput : %.1f queries/sec%n", seconds > 0 ? total / seconds : 0.0);
+        err.printf("%-10s %10s %10s %10s %10s %10s%n", "query", "count", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (Map.Entry<String, Latencies> entry : latencies.entrySet()) {
+            report(entry.getKey(), entry.getValue());
+        }
+        report("(all)", all);
+        err.flush();
+    }
+
+    private void report(String name, Latencies latencies) {
+        long[] nanos = latencies.sorted();
+        err.printf("%-10s %10d %10.3f %10.3f %10.3f %10.3f%n",
+                name,
+                nanos.length,
+                percentile(nanos, 0.50) / 1e6,
+                percentile(nanos, 0.99) / 1e6,
+                percentile(nanos, 0.999) / 1e6,
+                percentile(nanos, 1.0) / 1e6);
+    }
+
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int pos = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(pos, sorted.length - 1))];
+    }
+
+    static final class Result {
+
+        final String query;
+
+        final String op;
+
+        final String output;
+
+        final boolean error;
+
+        final long nanos;
+
+        Result(String query, String op, String output, boolean error, long nanos) {
+            this.query = query;
+            this.op = op;
+            this.output = output;
+            this.error = error;
+            this.nanos = nanos;
+        }
+
+    }
+
+    /*
+     * Raw latencies (nanoseconds), recorded by the (single) writer thread.
+     * 8 bytes per query, exact percentiles.
+     */
+    private static final class Latencies {
+
+        private long[] values = new long[1024];
+
+        private int size;
+
+        void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        void addAll(Latencies other) {
+            for (int ix = 0; ix < other.size; ix += 1) {
+                record(other.values[ix]);
+            }
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+    }
+
+    /**
+     * @return  The options of `--name=value` (or `--name`, as empty value) arguments.
+     */
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.length() > 2) {
+                int pos = arg.indexOf('=');
+                if (pos < 0) {
+                    options.put(arg.substring(2), "");
+                } else if (pos > 2) {
+                    options.put(arg.substring(2, pos), arg.substring(pos + 1));
+                }
+            }
+        }
+        return options;
+    }
+
+    /**
+     * @return  The value of the option `name` as an integer, `defaultValue`
+     *          when none (or empty).
+     * @throws IllegalArgumentException  When not an integer, or less than `min`.
+     */
+    static int intOption(Map<String, String> options, String name, int defaultValue, int min) {
+        String value = options.get(name);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        int number;
+        try {
+            number = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid --" + name + "=[" + value + "], expect an integer");
+        }
+        if (number < min) {
+            throw new IllegalArgumentException("Invalid --" + name + "=[" + value + "], expect at least " + min);
+        }
+        return number;
+    }
+
+    /**
+     * @return  The value of the option `name` as a rate, `defaultValue` when
+     *          none (or empty).
+     * @throws IllegalArgumentException  When not a number, or not in [0, 1).
+     */
+    static double rateOption(Map<String, String> options, String name, double defaultValue) {
+        String value = options.get(name);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        double rate;
+        try {
+            rate = Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid --" + name + "=[" + value + "], expect a number");
+        }
+        if (!(rate >= 0 && rate < 1)) {
+            throw new IllegalArgumentException("Invalid --" + name + "=[" + value + "], expect in [0, 1)");
+        }
+        return rate;
+    }
+
+}
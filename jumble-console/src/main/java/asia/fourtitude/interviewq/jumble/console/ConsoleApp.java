@@ -1,18 +1,38 @@
 package asia.fourtitude.interviewq.jumble.console;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Scanner;
 
+import asia.fourtitude.interviewq.jumble.core.DictionarySource;
 import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.WordStorage;
 
 public class ConsoleApp extends AConsole {
 
+    static final String USAGE = "Usage: ConsoleApp [--words=file] [--index=file] [--storage=arena|front-coded|off-heap]\n"
+            + "                  [--filter-fpr=rate] [--batch[=file|-]] [--threads=n]";
+
     private final JumbleEngine engine;
 
     public ConsoleApp(Scanner cin, PrintStream cout) {
+        this(cin, cout, new JumbleEngine());
+    }
+
+    public ConsoleApp(Scanner cin, PrintStream cout, JumbleEngine engine) {
         super(cin, cout);
-        this.engine = new JumbleEngine();
+        this.engine = engine;
     }
 
     private void scramble() {
@@ -234,8 +254,95 @@ public class ConsoleApp extends AConsole {
         } while (! finish && ! exit);
     }
 
-    public static void main(String[] args) {
-        new ConsoleApp(new Scanner(System.in), new PrintStream(System.out)).run();
+    /*
+     * Batch mode, see BatchRunner. The exit status is 0 when all queries are
+     * valid, 1 if any is not, and 2 when the options are invalid, or the
+     * input cannot be read.
+     */
+    private static int batch(Map<String, String> options) throws InterruptedException {
+        String input = options.get("batch");
+        int threads;
+        JumbleEngine engine;
+        try {
+            threads = BatchRunner.intOption(options, "threads", BatchRunner.DEFAULT_THREADS, 1);
+            // word list and indexes are loaded once, before the clock starts
+            engine = newEngine(options);
+        } catch (IllegalArgumentException e) {
+            return usage(e.getMessage());
+        }
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16), false);
+        BatchRunner runner = new BatchRunner(engine, threads, out, System.err);
+        Reader reader = null;
+        try {
+            reader = input.isEmpty() || "-".equals(input)
+                    ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                    : new InputStreamReader(new FileInputStream(input), StandardCharsets.UTF_8);
+            return runner.run(new BufferedReader(reader, 1 << 16)) > 0 ? 1 : 0;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return 2;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException ignore) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    /*
+     * --words=file reads the word list from the file, instead of words.txt
+     * of the jumble-core jar.
+     * --index=file maps the dictionary from the index file (see
+     * DictionaryFileBuilder), instead of building it from the word list.
+     * --storage=arena|front-coded|off-heap selects the storage of the words.
+     * --filter-fpr=rate sets the false positive rate of the word filter, 0
+     * for none.
+     *
+     * @throws IllegalArgumentException  When an option is invalid.
+     */
+    private static JumbleEngine newEngine(Map<String, String> options) {
+        String words = options.get("words");
+        String index = options.get("index");
+        WordStorage storage;
+        try {
+            storage = WordStorage.of(options.get("storage"));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid --storage=[" + options.get("storage") + "], expect arena, front-coded or off-heap");
+        }
+        double filterFpr = BatchRunner.rateOption(options, "filter-fpr", JumbleEngine.DEFAULT_WORD_FILTER_RATE);
+        return new JumbleEngine(JumbleEngine.DEFAULT_PARALLELISM, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD,
+                words == null || words.isEmpty() ? DictionarySource.defaultWordList() : DictionarySource.file(Paths.get(words)),
+                index == null || index.isEmpty() ? null : Paths.get(index),
+                storage, filterFpr);
+    }
+
+    /*
+     * Prints `message` and the usage to stderr.
+     *
+     * @return  The exit status of invalid options, 2.
+     */
+    static int usage(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        return 2;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = BatchRunner.parseOptions(args);
+        if (options.containsKey("batch")) {
+            System.exit(batch(options));
+        }
+        JumbleEngine engine;
+        try {
+            engine = newEngine(options);
+        } catch (IllegalArgumentException e) {
+            System.exit(usage(e.getMessage()));
+            return;
+        }
+        new ConsoleApp(new Scanner(System.in), new PrintStream(System.out), engine).run();
     }
 
 }
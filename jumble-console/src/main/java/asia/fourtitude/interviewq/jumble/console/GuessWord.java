@@ -34,9 +34,9 @@ public class GuessWord extends AConsole {
         boolean finish = false;
         do {
             List<String> guessedWords = gameState.getGuessedWords();
-            int remaining = gameState.getSubWords().size() - guessedWords.size();
+            int remaining = gameState.getRemainingWords();
             cout.println();
-            cout.println("Total possible : " + gameState.getSubWords().size());
+            cout.println("Total possible : " + gameState.getTotalWords());
             if (guessedWords.isEmpty()) {
                 cout.println("No word guessed yet.");
             } else {
@@ -0,0 +1,86 @@
+package asia.fourtitude.interviewq.jumble.console;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+
+class BatchRunnerTest {
+
+    static JumbleEngine engine;
+
+    @BeforeAll
+    static void setUp() {
+        engine = new JumbleEngine();
+    }
+
+    @Test
+    void givenQueries_whenRunInParallel_thenResultsInInputOrder() throws Exception {
+        List<String> words = Arrays.asList("least", "listen", "yellow", "zzqx", "post", "evil", "angel", "dusty");
+        StringBuilder input = new StringBuilder("# anagrams\n\n");
+        List<String> expected = new ArrayList<>();
+        for (int ix = 0; ix < 500; ix += 1) {
+            String word = words.get(ix % words.size());
+            input.append("anagram ").append(word).append('\n');
+            List<String> anagrams = new ArrayList<>(engine.anagramsOf(word));
+            expected.add(("anagram " + word + "\t" + anagrams.size() + "\t" + String.join(" ", anagrams)).trim());
+        }
+        input.append("search a\n");
+        expected.add("search a\tERROR\tExpect 3 argument(s) for query=[search]");
+        input.append("exists hello\n");
+        expected.add("exists hello\ttrue");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        long errors = new BatchRunner(engine, 4, new PrintStream(out, true, "UTF-8"), new PrintStream(err, true, "UTF-8"))
+                .run(new BufferedReader(new StringReader(input.toString())));
+
+        assertEquals(1, errors, "errors");
+        assertEquals(expected, Arrays.asList(new String(out.toByteArray(), StandardCharsets.UTF_8).split("\\R")), "output");
+        String summary = new String(err.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(summary.contains("queries    : 502"), summary);
+        assertTrue(summary.contains("throughput : "), summary);
+    }
+
+    @Test
+    void givenArgs_whenParseOptions_thenOptions() {
+        Map<String, String> options = BatchRunner.parseOptions(new String[] { "--batch", "--threads=8", "x", "--=1" });
+        assertEquals("", options.get("batch"), "batch");
+        assertEquals("8", options.get("threads"), "threads");
+        assertEquals(2, options.size(), "size");
+    }
+
+    @Test
+    void givenOptions_whenIntOption_thenValidated() {
+        Map<String, String> options = BatchRunner.parseOptions(new String[] { "--threads=8", "--zero=0", "--bad=x", "--empty" });
+        assertEquals(8, BatchRunner.intOption(options, "threads", 4, 1), "threads");
+        assertEquals(4, BatchRunner.intOption(options, "missing", 4, 1), "missing");
+        assertEquals(4, BatchRunner.intOption(options, "empty", 4, 1), "empty");
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.intOption(options, "zero", 4, 1), "zero");
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.intOption(options, "bad", 4, 1), "bad");
+    }
+
+    @Test
+    void givenOptions_whenRateOption_thenValidated() {
+        Map<String, String> options = BatchRunner.parseOptions(new String[] { "--fpr=0.001", "--zero=0", "--one=1", "--bad=x", "--empty" });
+        assertEquals(0.001, BatchRunner.rateOption(options, "fpr", 0.01), "fpr");
+        assertEquals(0, BatchRunner.rateOption(options, "zero", 0.01), "zero");
+        assertEquals(0.01, BatchRunner.rateOption(options, "missing", 0.01), "missing");
+        assertEquals(0.01, BatchRunner.rateOption(options, "empty", 0.01), "empty");
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.rateOption(options, "one", 0.01), "one");
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.rateOption(options, "bad", 0.01), "bad");
+    }
+
+}
@@ -0,0 +1,78 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the single-shot {@link JumbleEngine} operations, against
+ * the real word list ("words.txt" of jumble-core).
+ *
+ * Run with: mvn -pl jumble-core -Pjmh test-compile exec:exec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JumbleEngineBenchmark {
+
+    private JumbleEngine engine;
+
+    @Setup
+    public void setup() {
+        this.engine = new JumbleEngine();
+    }
+
+    @Benchmark
+    public String scramble() {
+        return engine.scramble("elephant");
+    }
+
+    @Benchmark
+    public boolean existsHit() {
+        return engine.exists("kangaroo");
+    }
+
+    @Benchmark
+    public boolean existsMiss() {
+        return engine.exists("fourtitude");
+    }
+
+    @Benchmark
+    public Collection<String> wordsMatchingShortPrefix() {
+        return engine.wordsMatchingPrefix("p");
+    }
+
+    @Benchmark
+    public Collection<String> wordsMatchingLongPrefix() {
+        return engine.wordsMatchingPrefix("pendul");
+    }
+
+    @Benchmark
+    public String pickOneRandomWord() {
+        return engine.pickOneRandomWord(6);
+    }
+
+    @Benchmark
+    public String pickOneRandomWordAnyLength() {
+        return engine.pickOneRandomWord(null);
+    }
+
+    @Benchmark
+    public GameState createGameState() {
+        return engine.createGameState(6, 3);
+    }
+
+}
@@ -0,0 +1,57 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link JumbleEngine#searchWords(Character, Character, Integer)}
+ * for every combination of the searching criteria.
+ *
+ * The `criteria` parameter lists which inputs are given:
+ * S = startChar, E = endChar, L = length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchWordsBenchmark {
+
+    @Param({ "S", "E", "L", "SE", "SL", "EL", "SEL" })
+    public String criteria;
+
+    private JumbleEngine engine;
+
+    private Character startChar;
+
+    private Character endChar;
+
+    private Integer length;
+
+    @Setup
+    public void setup() {
+        this.engine = new JumbleEngine();
+        this.startChar = criteria.indexOf('S') >= 0 ? Character.valueOf('m') : null;
+        this.endChar = criteria.indexOf('E') >= 0 ? Character.valueOf('n') : null;
+        this.length = criteria.indexOf('L') >= 0 ? Integer.valueOf(9) : null;
+    }
+
+    @Benchmark
+    public Collection<String> searchWords() {
+        return engine.searchWords(startChar, endChar, length);
+    }
+
+}
@@ -0,0 +1,55 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link JumbleEngine#generateSubWords(String, Integer)}
+ * by length of the seed word.
+ *
+ * The seed word of each length is picked with a fixed seed, so that
+ * results are comparable between runs/commits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubWordsBenchmark {
+
+    @Param({ "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15" })
+    public int length;
+
+    private JumbleEngine engine;
+
+    private String word;
+
+    @Setup
+    public void setup() {
+        this.engine = new JumbleEngine();
+        List<String> words = new ArrayList<>(engine.searchWords(null, null, length));
+        this.word = words.get(new Random(length).nextInt(words.size()));
+    }
+
+    @Benchmark
+    public Collection<String> generateSubWords() {
+        return engine.generateSubWords(word, 3);
+    }
+
+}
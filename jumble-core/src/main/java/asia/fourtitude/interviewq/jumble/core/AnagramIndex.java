@@ -0,0 +1,154 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Anagram index: the sorted letters of a word (its "signature") to the
+ * word ids of all words with the same letters.
+ *
+ * Example: "aelst" -> [least, slate, stale, steal, tales, teals].
+ *
+ * The word ids are sorted by (signature, id), so that the words of a
+ * signature (a "group") are contiguous. A hash table (open addressing,
+ * slot holds group + 1) finds the group of a signature; the signatures
+ * themselves are not stored, but recomputed from the first word of the
+ * group to confirm a match.
+ */
+final class AnagramIndex {
+
+    private static final int[] NONE = new int[0];
+
+    private final WordStore words;
+
+    /*
+     * Word ids, by (signature, id).
+     */
+    private final IntBuffer ids;
+
+    /*
+     * [group] -> start position of its word ids; [groups] is the end.
+     */
+    private final IntBuffer groupStarts;
+
+    private final IntBuffer slots;
+
+    private final int mask;
+
+    AnagramIndex(WordStore words, IntBuffer ids, IntBuffer groupStarts, IntBuffer slots) {
+        this.words = words;
+        this.ids = ids;
+        this.groupStarts = groupStarts;
+        this.slots = slots;
+        this.mask = slots.limit() - 1;
+    }
+
+    static AnagramIndex of(WordStore words) {
+        int size = words.size();
+        String[] signatures = new String[size];
+        Integer[] order = new Integer[size];
+        for (int id = 0; id < size; id += 1) {
+            signatures[id] = signature(words.word(id));
+            order[id] = id;
+        }
+        // stable sort, ids stay ascending within a signature
+        Arrays.sort(order, Comparator.comparing(id -> signatures[id]));
+
+        int[] ids = new int[size];
+        int[] groupStarts = new int[size + 1];
+        int groups = 0;
+        for (int pos = 0; pos < size; pos += 1) {
+            ids[pos] = order[pos];
+            if (pos == 0 || !signatures[order[pos]].equals(signatures[order[pos - 1]])) {
+                groupStarts[groups++] = pos;
+            }
+        }
+        groupStarts[groups] = size;
+
+        int[] slots = new int[capacity(groups)];
+        int mask = slots.length - 1;
+        for (int group = 0; group < groups; group += 1) {
+            int slot = WordArena.hash(signatures[ids[groupStarts[group]]]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = group + 1;
+        }
+        return new AnagramIndex(words, IntBuffer.wrap(ids),
+                IntBuffer.wrap(Arrays.copyOf(groupStarts, groups + 1)), IntBuffer.wrap(slots));
+    }
+
+    /*
+     * Power of 2, at least twice `size`.
+     */
+    private static int capacity(int size) {
+        int capacity = 16;
+        while (capacity < size * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * @param word  The (normalized) word.
+     * @return  The letters of `word` in ascending order.
+     */
+    static String signature(String word) {
+        char[] letters = word.toCharArray();
+        Arrays.sort(letters);
+        return new String(letters);
+    }
+
+    /**
+     * @param signature  The signature, see {@link #signature(String)}.
+     * @return  The word ids (ascending) having the signature, never null.
+     */
+    int[] lookup(String signature) {
+        int slot = WordArena.hash(signature) & mask;
+        int entry;
+        while ((entry = slots.get(slot)) != 0) {
+            int start = groupStarts.get(entry - 1);
+            if (hasSignature(ids.get(start), signature)) {
+                int[] found = new int[groupStarts.get(entry) - start];
+                for (int ix = 0; ix < found.length; ix += 1) {
+                    found[ix] = ids.get(start + ix);
+                }
+                return found;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NONE;
+    }
+
+    private boolean hasSignature(int id, String signature) {
+        int len = words.length(id);
+        if (len != signature.length()) {
+            return false;
+        }
+        char[] letters = new char[len];
+        for (int pos = 0; pos < len; pos += 1) {
+            letters[pos] = words.charAt(id, pos);
+        }
+        Arrays.sort(letters);
+        for (int pos = 0; pos < len; pos += 1) {
+            if (letters[pos] != signature.charAt(pos)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    IntBuffer ids() {
+        return ids.duplicate();
+    }
+
+    IntBuffer groupStarts() {
+        return groupStarts.duplicate();
+    }
+
+    IntBuffer slots() {
+        return slots.duplicate();
+    }
+
+}
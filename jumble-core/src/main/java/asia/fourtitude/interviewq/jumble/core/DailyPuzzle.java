@@ -0,0 +1,87 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The puzzle of one day, the same for every player. Immutable, shared by
+ * all the game states created from it; each player only holds its own
+ * guessed flags, see {@link #newGameState()}.
+ */
+public final class DailyPuzzle {
+
+    private final LocalDate date;
+
+    private final String original;
+
+    private final String scramble;
+
+    /*
+     * Sorted, read only.
+     */
+    private final List<String> subWords;
+
+    private final long dictionaryVersion;
+
+    DailyPuzzle(LocalDate date, String original, String scramble, List<String> subWords, long dictionaryVersion) {
+        this.date = date;
+        this.original = original;
+        this.scramble = scramble;
+        this.subWords = subWords;
+        this.dictionaryVersion = dictionaryVersion;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public String getOriginal() {
+        return original;
+    }
+
+    public String getScramble() {
+        return scramble;
+    }
+
+    /**
+     * @return  The sub words, sorted, read only.
+     */
+    public List<String> getSubWords() {
+        return subWords;
+    }
+
+    /**
+     * @return  The version of the dictionary the puzzle was created from.
+     */
+    public long getDictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    /**
+     * @return  A new game state (nothing guessed yet) of this puzzle,
+     *          sharing the sub words.
+     */
+    public GameState newGameState() {
+        return new GameState(this, scramble, new BitSet(subWords.size()));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (date != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("date=[").append(date).append(']');
+        }
+        if (original != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("original=[").append(original).append(']');
+        }
+        if (scramble != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("scramble=[").append(scramble).append(']');
+        }
+        if (subWords != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("subWords.size=[").append(subWords.size()).append(']');
+        }
+        return sb.toString();
+    }
+
+}
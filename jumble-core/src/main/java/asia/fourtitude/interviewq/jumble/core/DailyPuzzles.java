@@ -0,0 +1,136 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the daily puzzles, computed once per day and shared by all
+ * players.
+ *
+ * Today's puzzle plus `precomputeDays` future days are computed ahead.
+ * Once started, it is refreshed every day just before midnight (of the
+ * clock's zone), so the next day's puzzle is ready when the day begins.
+ * Past days are evicted (the game states already created keep their
+ * puzzle).
+ */
+public class DailyPuzzles {
+
+    /*
+     * Time of the day to compute the upcoming puzzles.
+     */
+    private static final LocalTime REFRESH_TIME = LocalTime.of(23, 50);
+
+    private final JumbleEngine engine;
+
+    private final long seed;
+
+    private final int precomputeDays;
+
+    private final Clock clock;
+
+    private final Map<LocalDate, DailyPuzzle> puzzles = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param engine          The engine to create the puzzles.
+     * @param seed            The seed of puzzles, see {@link JumbleEngine#createDailyPuzzle(LocalDate, long)}.
+     * @param precomputeDays  The number of future days to compute ahead.
+     * @param clock           The clock (and zone) of "today".
+     */
+    public DailyPuzzles(JumbleEngine engine, long seed, int precomputeDays, Clock clock) {
+        if (precomputeDays < 0) {
+            throw new IllegalArgumentException("Invalid precomputeDays=[" + precomputeDays + "], expect positive integer or 0");
+        }
+        this.engine = engine;
+        this.seed = seed;
+        this.precomputeDays = precomputeDays;
+        this.clock = clock;
+    }
+
+    /**
+     * @return  The puzzle of today.
+     */
+    public DailyPuzzle today() {
+        return puzzleOf(LocalDate.now(clock));
+    }
+
+    /**
+     * @param date  The date.
+     * @return  The puzzle of `date`, computed on first request.
+     */
+    public DailyPuzzle puzzleOf(LocalDate date) {
+        return puzzles.computeIfAbsent(date, d -> engine.createDailyPuzzle(d, seed));
+    }
+
+    /**
+     * Computes the puzzles of today and the next `precomputeDays` days,
+     * and evicts the past days.
+     */
+    public void precompute() {
+        LocalDate today = LocalDate.now(clock);
+        puzzles.keySet().removeIf(date -> date.isBefore(today));
+        for (int day = 0; day <= precomputeDays; day += 1) {
+            puzzleOf(today.plusDays(day));
+        }
+    }
+
+    /**
+     * @return  The number of puzzles in cache.
+     */
+    public int size() {
+        return puzzles.size();
+    }
+
+    /**
+     * Computes the puzzles now, then schedules daily refresh.
+     */
+    public synchronized void start() {
+        precompute();
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jumble-daily-puzzles");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduleRefresh();
+        }
+    }
+
+    private void scheduleRefresh() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        ZonedDateTime next = now.with(REFRESH_TIME);
+        if (!next.isAfter(now)) {
+            next = now.plusDays(1).with(REFRESH_TIME);
+        }
+        scheduler.schedule(() -> {
+            try {
+                // refreshing before midnight, the upcoming day is "today + 1"
+                precompute();
+                puzzleOf(LocalDate.now(clock).plusDays(1));
+            } finally {
+                synchronized (this) {
+                    if (scheduler != null) {
+                        scheduleRefresh();
+                    }
+                }
+            }
+        }, Duration.between(now, next).toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+}
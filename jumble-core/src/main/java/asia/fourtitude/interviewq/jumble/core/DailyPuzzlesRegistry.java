@@ -0,0 +1,117 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The daily puzzles of every dictionary and view of a
+ * {@link DictionaryRegistry}: one {@link DailyPuzzles} per engine and
+ * view, created on first request.
+ *
+ * Names sharing a word list share one engine, hence one series of
+ * puzzles. Once started, the puzzles created later are started too.
+ */
+public class DailyPuzzlesRegistry {
+
+    private final DictionaryRegistry dictionaries;
+
+    private final long seed;
+
+    private final int precomputeDays;
+
+    private final Clock clock;
+
+    /*
+     * engine (of the whole dictionary) -> view ("" for none) -> puzzles.
+     * JumbleEngine is compared by identity.
+     */
+    private final Map<JumbleEngine, Map<String, DailyPuzzles>> puzzles = new ConcurrentHashMap<>();
+
+    private boolean started;
+
+    /**
+     * @param dictionaries    The dictionaries.
+     * @param seed            The seed of puzzles, see {@link JumbleEngine#createDailyPuzzle(java.time.LocalDate, long)}.
+     * @param precomputeDays  The number of future days to compute ahead.
+     * @param clock           The clock (and zone) of "today".
+     */
+    public DailyPuzzlesRegistry(DictionaryRegistry dictionaries, long seed, int precomputeDays, Clock clock) {
+        if (precomputeDays < 0) {
+            throw new IllegalArgumentException("Invalid precomputeDays=[" + precomputeDays + "], expect positive integer or 0");
+        }
+        this.dictionaries = dictionaries;
+        this.seed = seed;
+        this.precomputeDays = precomputeDays;
+        this.clock = clock;
+    }
+
+    /**
+     * @param name  The name of the dictionary, case insensitive.
+     *              Null or blank for the default.
+     * @param view  The name of the view of the dictionary, case
+     *              insensitive. Null or blank for the whole dictionary.
+     * @return  The daily puzzles of the view of the dictionary, or null
+     *          when no such name or view.
+     */
+    public DailyPuzzles get(String name, String view) {
+        JumbleEngine engine = dictionaries.get(name);
+        JumbleEngine viewed = dictionaries.get(name, view);
+        if (engine == null || viewed == null) {
+            return null;
+        }
+        String key = view == null ? "" : view.trim().toLowerCase(Locale.ROOT);
+        return puzzles.computeIfAbsent(engine, e -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> newPuzzles(viewed));
+    }
+
+    /**
+     * @return  The daily puzzles of the default dictionary.
+     */
+    public DailyPuzzles getDefault() {
+        return get(null, null);
+    }
+
+    private synchronized DailyPuzzles newPuzzles(JumbleEngine engine) {
+        DailyPuzzles created = new DailyPuzzles(engine, seed, precomputeDays, clock);
+        if (started) {
+            created.start();
+        }
+        return created;
+    }
+
+    /**
+     * Starts the daily puzzles of the default dictionary now, and of the
+     * others on first request.
+     */
+    public void start() {
+        synchronized (this) {
+            started = true;
+        }
+        for (DailyPuzzles daily : all()) {
+            daily.start();
+        }
+        getDefault();
+    }
+
+    public void close() {
+        synchronized (this) {
+            started = false;
+        }
+        for (DailyPuzzles daily : all()) {
+            daily.close();
+        }
+    }
+
+    private List<DailyPuzzles> all() {
+        List<DailyPuzzles> all = new ArrayList<>();
+        for (Map<String, DailyPuzzles> views : puzzles.values()) {
+            all.addAll(views.values());
+        }
+        return all;
+    }
+
+}
@@ -0,0 +1,485 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * The word list, loaded once, and the indexes built on top of it.
+ *
+ * Words are normalized (trimmed, lower case), de-duplicated and sorted.
+ * The position of a word in the sorted array is its "word id", which all
+ * the indexes refer to. Because the array is sorted, the words sharing a
+ * prefix are a contiguous range, which doubles as an implicit prefix trie.
+ *
+ * The words are kept in a {@link WordStore}, see {@link WordStorage}.
+ * With the {@link WordArena}, the arena, the perfect hash, the prefix
+ * table, the length buckets and the anagram index are flat buffers, either
+ * built from the text word list, or mapped from an index file (see
+ * {@link DictionaryFile}). The other indexes are built from them: eagerly
+ * when built from text, on first use when mapped, so that opening an index
+ * file does not depend on the number of words. Front coded words have no
+ * perfect hash, lookup is a binary search on the words.
+ *
+ * Off the heap (see {@link WordStorage#OFF_HEAP}, or mapped), the flat
+ * buffers are direct, and so are the suffix, trigram and pattern indexes
+ * (built on first use); only the objects stay on the heap, see
+ * {@link #heapBytes()} and {@link #offHeapBytes()}.
+ */
+final class Dictionary {
+
+    /*
+     * The 1 letter prefixes ('a' to 'z'), then the 2 letters prefixes.
+     */
+    static final int PREFIX_BUCKETS = 26 + 26 * 26;
+
+    private final WordStore words;
+
+    /*
+     * Null when the words are not an arena.
+     */
+    private final PerfectHash perfectHash;
+
+    /*
+     * [bucket * 2] and [bucket * 2 + 1] -> the range [from, to) of word ids
+     * of the prefix bucket, see prefixBucket().
+     */
+    private final IntBuffer prefixRanges;
+
+    /*
+     * [length] -> start position of the word ids of the length in
+     * idsByLength; [maxLength + 1] is the end.
+     */
+    private final IntBuffer lengthStarts;
+
+    /*
+     * Word ids, by (length, id).
+     */
+    private final IntBuffer idsByLength;
+
+    private final AnagramIndex anagramIndex;
+
+    private final WordStorage storage;
+
+    /*
+     * true if mapped from an index file.
+     */
+    private final boolean mapped;
+
+    private final Lazy<PatternIndex> patternIndex = new Lazy<>(() -> new PatternIndex(this));
+
+    private final Lazy<SuffixIndex> suffixIndex = new Lazy<>(() -> new SuffixIndex(this));
+
+    private final Lazy<TrigramIndex> trigramIndex = new Lazy<>(() -> new TrigramIndex(this));
+
+    private final Lazy<FuzzyMatcher> fuzzyMatcher = new Lazy<>(() -> new FuzzyMatcher(this));
+
+    Dictionary(Collection<String> lines) {
+        this(lines, WordStorage.ARENA);
+    }
+
+    Dictionary(Collection<String> lines, WordStorage storage) {
+        this(WordListParser.sortedWords(lines), storage);
+    }
+
+    /*
+     * `sortedWords`: normalized, de-duplicated and sorted, see WordListParser.
+     */
+    Dictionary(String[] sortedWords, WordStorage storage) {
+        this(sortedWords, storage == WordStorage.FRONT_CODED ? storage : WordStorage.ARENA, true);
+    }
+
+    /*
+     * On the heap, with (`buildIndexes`) or without the other indexes.
+     */
+    private Dictionary(String[] sortedWords, WordStorage storage, boolean buildIndexes) {
+        List<String> sorted = Arrays.asList(sortedWords);
+        if (storage == WordStorage.FRONT_CODED) {
+            this.words = FrontCodedWords.of(sorted);
+            this.perfectHash = null;
+        } else {
+            WordArena arena = WordArena.of(sorted);
+            this.words = arena;
+            this.perfectHash = PerfectHash.of(arena);
+        }
+        this.prefixRanges = buildPrefixRanges();
+        int maxLength = 0;
+        for (int id = 0; id < words.size(); id += 1) {
+            maxLength = Math.max(maxLength, words.length(id));
+        }
+        int[] starts = new int[maxLength + 2];
+        for (int id = 0; id < words.size(); id += 1) {
+            starts[words.length(id) + 1] += 1;
+        }
+        for (int len = 1; len < starts.length; len += 1) {
+            starts[len] += starts[len - 1];
+        }
+        int[] ids = new int[words.size()];
+        int[] fill = starts.clone();
+        for (int id = 0; id < words.size(); id += 1) {
+            ids[fill[words.length(id)]++] = id;
+        }
+        this.lengthStarts = IntBuffer.wrap(starts);
+        this.idsByLength = IntBuffer.wrap(ids);
+        this.anagramIndex = AnagramIndex.of(this.words);
+        this.storage = storage;
+        this.mapped = false;
+        if (buildIndexes) {
+            buildIndexes();
+        }
+    }
+
+    Dictionary(WordArena arena, PerfectHash perfectHash, IntBuffer prefixRanges, IntBuffer lengthStarts,
+            IntBuffer idsByLength, AnagramIndex anagramIndex, WordStorage storage, boolean mapped) {
+        this.words = arena;
+        this.perfectHash = perfectHash;
+        this.prefixRanges = prefixRanges;
+        this.lengthStarts = lengthStarts;
+        this.idsByLength = idsByLength;
+        this.anagramIndex = anagramIndex;
+        this.storage = storage;
+        this.mapped = mapped;
+    }
+
+    /**
+     * @param sortedWords  Normalized, de-duplicated and sorted, see {@link WordListParser}.
+     * @return  The dictionary of `sortedWords` in `storage`, with all the indexes built.
+     */
+    static Dictionary of(String[] sortedWords, WordStorage storage) throws IOException {
+        if (storage != WordStorage.OFF_HEAP) {
+            return new Dictionary(sortedWords, storage);
+        }
+        Dictionary dictionary = DictionaryFile.offHeap(new Dictionary(sortedWords, WordStorage.ARENA, false));
+        dictionary.buildIndexes();
+        return dictionary;
+    }
+
+    private void buildIndexes() {
+        this.patternIndex.get();
+        this.suffixIndex.get();
+        this.trigramIndex.get();
+        this.fuzzyMatcher.get();
+    }
+
+    static String normalize(String word) {
+        return word == null ? "" : word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    int size() {
+        return words.size();
+    }
+
+    String word(int id) {
+        return words.word(id);
+    }
+
+    int length(int id) {
+        return words.length(id);
+    }
+
+    /**
+     * @return  The letter at `depth` of word `id`, or 0 when word is shorter
+     *          (so that shorter word sorts first, same as String ordering).
+     */
+    char charAt(int id, int depth) {
+        return depth < words.length(id) ? words.charAt(id, depth) : 0;
+    }
+
+    WordStore words() {
+        return words;
+    }
+
+    WordStorage storage() {
+        return storage;
+    }
+
+    boolean isMapped() {
+        return mapped;
+    }
+
+    /**
+     * @return  true if the flat buffers are outside the Java heap (direct or mapped).
+     */
+    boolean isOffHeap() {
+        return storage == WordStorage.OFF_HEAP || mapped;
+    }
+
+    /**
+     * @return  The memory (bytes) on the Java heap of the words and of the
+     *          indexes built so far.
+     */
+    long heapBytes() {
+        return memoryBytes(false);
+    }
+
+    /**
+     * @return  The memory (bytes) outside the Java heap (direct or mapped)
+     *          of the words and of the indexes built so far.
+     */
+    long offHeapBytes() {
+        return memoryBytes(true);
+    }
+
+    private long memoryBytes(boolean direct) {
+        long total = 0;
+        if (words instanceof WordArena) {
+            WordArena arena = (WordArena) words;
+            total += bytesOf(arena.bytes(), 1, direct) + bytesOf(arena.offsets(), 4, direct);
+        } else if (!direct) {
+            total += words.sizeInBytes();
+        }
+        if (perfectHash != null) {
+            total += bytesOf(perfectHash.levelStarts(), 4, direct) + bytesOf(perfectHash.bits(), 8, direct)
+                    + bytesOf(perfectHash.ranks(), 4, direct) + bytesOf(perfectHash.ids(), 4, direct)
+                    + bytesOf(perfectHash.fingerprints(), 1, direct);
+        }
+        total += bytesOf(prefixRanges, 4, direct) + bytesOf(lengthStarts, 4, direct) + bytesOf(idsByLength, 4, direct);
+        total += bytesOf(anagramIndex.ids(), 4, direct) + bytesOf(anagramIndex.groupStarts(), 4, direct)
+                + bytesOf(anagramIndex.slots(), 4, direct);
+        SuffixIndex suffixes = suffixIndex.peek();
+        if (suffixes != null) {
+            total += bytesOf(suffixes.ids(), 4, direct);
+        }
+        TrigramIndex trigrams = trigramIndex.peek();
+        if (trigrams != null) {
+            total += bytesOf(trigrams.postings(), 1, direct) + (direct ? 0 : trigrams.offsetsBytes());
+        }
+        PatternIndex patterns = patternIndex.peek();
+        if (patterns != null) {
+            total += patterns.sizeInBytes(direct);
+        }
+        return total;
+    }
+
+    private static long bytesOf(Buffer buffer, int unit, boolean direct) {
+        return buffer.isDirect() == direct ? (long) buffer.limit() * unit : 0;
+    }
+
+    /**
+     * @return  Null when the words are not an arena.
+     */
+    PerfectHash perfectHash() {
+        return perfectHash;
+    }
+
+    /**
+     * @return  The memory (bytes) of the words, and of the perfect hash if any.
+     */
+    long storageBytes() {
+        return words.sizeInBytes() + (perfectHash == null ? 0 : perfectHash.sizeInBytes());
+    }
+
+    PatternIndex patternIndex() {
+        return patternIndex.get();
+    }
+
+    AnagramIndex anagramIndex() {
+        return anagramIndex;
+    }
+
+    SuffixIndex suffixIndex() {
+        return suffixIndex.get();
+    }
+
+    TrigramIndex trigramIndex() {
+        return trigramIndex.get();
+    }
+
+    FuzzyMatcher fuzzyMatcher() {
+        return fuzzyMatcher.get();
+    }
+
+    /**
+     * @return  The word id of `word`, or negative if not exists.
+     */
+    int indexOf(String word) {
+        return perfectHash != null ? perfectHash.indexOf(word) : words.indexOf(word);
+    }
+
+    int maxLength() {
+        return lengthStarts.limit() - 2;
+    }
+
+    /**
+     * @return  The word ids (ascending) of words of `length`, never null.
+     */
+    int[] idsOfLength(int length) {
+        if (length < 0 || length > maxLength()) {
+            return new int[0];
+        }
+        int start = lengthStarts.get(length);
+        int[] ids = new int[lengthStarts.get(length + 1) - start];
+        for (int ix = 0; ix < ids.length; ix += 1) {
+            ids[ix] = idsByLength.get(start + ix);
+        }
+        return ids;
+    }
+
+    /**
+     * @return  The number of words of `length`.
+     */
+    int countOfLength(int length) {
+        if (length < 0 || length > maxLength()) {
+            return 0;
+        }
+        return lengthStarts.get(length + 1) - lengthStarts.get(length);
+    }
+
+    /**
+     * @param index  The position, 0 to {@link #countOfLength(int)} (exclusive).
+     * @return  The word id of the `index`-th (ascending) word of `length`.
+     */
+    int idOfLength(int length, int index) {
+        return idsByLength.get(lengthStarts.get(length) + index);
+    }
+
+    IntBuffer prefixRanges() {
+        return prefixRanges.duplicate();
+    }
+
+    IntBuffer lengthStarts() {
+        return lengthStarts.duplicate();
+    }
+
+    IntBuffer idsByLength() {
+        return idsByLength.duplicate();
+    }
+
+    /**
+     * @param prefix  The prefix, expects normalized.
+     * @return  The range [from, to) of word ids of the words beginning with `prefix`.
+     */
+    int[] prefixRange(String prefix) {
+        int from = 0;
+        int to = size();
+        int depth = 0;
+        int bucket = prefixBucket(prefix);
+        if (bucket >= 0) {
+            from = prefixRanges.get(bucket * 2);
+            to = prefixRanges.get(bucket * 2 + 1);
+            depth = bucket < 26 ? 1 : 2;
+        }
+        for (; depth < prefix.length() && from < to; depth += 1) {
+            char ch = prefix.charAt(depth);
+            int start = childStart(from, to, depth, ch);
+            to = childEnd(start, to, depth, ch);
+            from = start;
+        }
+        return new int[] { from, to };
+    }
+
+    /*
+     * The bucket of the first (up to) 2 letters of `prefix`, or negative
+     * when not 'a' to 'z'.
+     */
+    private static int prefixBucket(String prefix) {
+        int first = prefix.isEmpty() ? -1 : prefix.charAt(0) - 'a';
+        if (first < 0 || first >= 26) {
+            return -1;
+        }
+        int second = prefix.length() < 2 ? -1 : prefix.charAt(1) - 'a';
+        if (second < 0 || second >= 26) {
+            return first;
+        }
+        return 26 + first * 26 + second;
+    }
+
+    private IntBuffer buildPrefixRanges() {
+        int[] ranges = new int[PREFIX_BUCKETS * 2];
+        for (char first = 'a'; first <= 'z'; first += 1) {
+            int from = childStart(0, size(), 0, first);
+            int to = childEnd(from, size(), 0, first);
+            int bucket = first - 'a';
+            ranges[bucket * 2] = from;
+            ranges[bucket * 2 + 1] = to;
+            for (char second = 'a'; second <= 'z'; second += 1) {
+                int start = childStart(from, to, 1, second);
+                bucket = 26 + (first - 'a') * 26 + (second - 'a');
+                ranges[bucket * 2] = start;
+                ranges[bucket * 2 + 1] = childEnd(start, to, 1, second);
+            }
+        }
+        return IntBuffer.wrap(ranges);
+    }
+
+    /**
+     * Narrows the range [from, to) of words which share the first `depth`
+     * letters, to the words having letter `ch` at `depth`.
+     *
+     * @return  The start of the narrowed range (inclusive).
+     *          Use {@link #childEnd(int, int, int, char)} for the end.
+     */
+    int childStart(int from, int to, int depth, char ch) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (charAt(mid, depth) < ch) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @return  The end (exclusive) of the words in [from, to) having letter
+     *          `ch` (or smaller) at `depth`.
+     */
+    int childEnd(int from, int to, int depth, char ch) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (charAt(mid, depth) <= ch) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /*
+     * Built on first use, once (other threads wait for it).
+     */
+    private static final class Lazy<T> {
+
+        private final Supplier<T> supplier;
+
+        private volatile T value;
+
+        Lazy(Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        /*
+         * @return  The value, or null when not built yet.
+         */
+        T peek() {
+            return value;
+        }
+
+        T get() {
+            T result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        result = supplier.get();
+                        value = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,288 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * The binary index file of a {@link Dictionary}: the word arena, and the
+ * flat indexes on top of it, ready to use as mapped (no parsing, no
+ * building). Opening is O(1) in the number of words, apart from the
+ * checksum, and the pages are shared (OS page cache) between all the JVMs
+ * mapping the same file.
+ *
+ * Layout (big endian), version 3:
+ * <pre>
+ *   header, 64 bytes:
+ *     int   magic "JMBX"
+ *     int   version
+ *     long  length (bytes) of the text word list it is built from
+ *     long  CRC32 of the text word list it is built from
+ *     long  CRC32 of everything after it (the rest of the header included)
+ *     int   number of words
+ *     (4 bytes zero padding)
+ *     long  seed of the perfect hash
+ *     (zero padding)
+ *   sections, each an int length (bytes), then the data padded to 4 bytes:
+ *     1. arena offsets         int[words + 1]
+ *     2. arena letters         byte[]
+ *     3. perfect hash levels   int[levels + 1]
+ *     4. perfect hash bits     long[]
+ *     5. perfect hash ranks    int[]
+ *     6. word ids by slot      int[words]
+ *     7. fingerprints by slot  byte[words]
+ *     8. prefix ranges         int[PREFIX_BUCKETS * 2]
+ *     9. length starts         int[maxLength + 2]
+ *    10. word ids by length    int[words]
+ *    11. word ids by signature int[words]
+ *    12. anagram group starts  int[groups + 1]
+ *    13. anagram slots         int[capacity]
+ * </pre>
+ *
+ * A file built from another word list (length or CRC32 differs) is
+ * "stale", and is rejected the same as a corrupted one.
+ *
+ * The same layout, in one direct buffer instead of a file, keeps a
+ * dictionary off the Java heap, see {@link WordStorage#OFF_HEAP}.
+ */
+final class DictionaryFile {
+
+    static final int MAGIC = 0x4A4D4258;
+
+    static final int VERSION = 3;
+
+    static final int HEADER_SIZE = 64;
+
+    /*
+     * The first byte covered by the checksum, right after it.
+     */
+    private static final int CHECKSUMMED = 32;
+
+    private static final int SECTIONS = 13;
+
+    private DictionaryFile() {
+    }
+
+    /**
+     * Writes the index file of `dictionary`, atomically (to a temporary
+     * file, then renamed), so that readers never see a partial file.
+     *
+     * @param sourceLength    The length (bytes) of the text word list.
+     * @param sourceChecksum  The CRC32 of the text word list.
+     * @return  The size (bytes) of the file.
+     */
+    static long write(Dictionary dictionary, long sourceLength, long sourceChecksum, Path path) throws IOException {
+        ByteBuffer buf = encode(dictionary, sourceLength, sourceChecksum, false);
+        long total = buf.remaining();
+
+        Path dir = path.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buf.hasRemaining()) {
+                    channel.write(buf);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return total;
+    }
+
+    /**
+     * Copies the arena and the flat indexes of `dictionary` (built on the
+     * heap) to one direct buffer, outside the Java heap.
+     *
+     * @return  The dictionary, backed by the direct buffer.
+     */
+    static Dictionary offHeap(Dictionary dictionary) throws IOException {
+        return decode(encode(dictionary, 0, 0, true), "off-heap", 0, 0, WordStorage.OFF_HEAP, false);
+    }
+
+    /*
+     * @return  The content of the index file of `dictionary`, from position 0.
+     */
+    private static ByteBuffer encode(Dictionary dictionary, long sourceLength, long sourceChecksum, boolean direct) throws IOException {
+        if (!(dictionary.words() instanceof WordArena)) {
+            throw new IOException("Index file only supports storage=[" + WordStorage.ARENA + "], not " + dictionary.storage());
+        }
+        WordArena arena = (WordArena) dictionary.words();
+        AnagramIndex anagramIndex = dictionary.anagramIndex();
+        PerfectHash perfectHash = dictionary.perfectHash();
+        List<ByteBuffer> sections = Arrays.asList(
+                bytesOf(arena.offsets()),
+                arena.bytes(),
+                bytesOf(perfectHash.levelStarts()),
+                bytesOf(perfectHash.bits()),
+                bytesOf(perfectHash.ranks()),
+                bytesOf(perfectHash.ids()),
+                perfectHash.fingerprints(),
+                bytesOf(dictionary.prefixRanges()),
+                bytesOf(dictionary.lengthStarts()),
+                bytesOf(dictionary.idsByLength()),
+                bytesOf(anagramIndex.ids()),
+                bytesOf(anagramIndex.groupStarts()),
+                bytesOf(anagramIndex.slots()));
+        long total = HEADER_SIZE;
+        for (ByteBuffer section : sections) {
+            total += 4 + padded(section.remaining());
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IOException("Index file too large, size=[" + total + "]");
+        }
+
+        ByteBuffer buf = direct ? ByteBuffer.allocateDirect((int) total) : ByteBuffer.allocate((int) total);
+        buf.position(HEADER_SIZE);
+        for (ByteBuffer section : sections) {
+            int len = section.remaining();
+            buf.putInt(len);
+            buf.put(section);
+            buf.position(buf.position() + padded(len) - len);
+        }
+        buf.putInt(0, MAGIC);
+        buf.putInt(4, VERSION);
+        buf.putLong(8, sourceLength);
+        buf.putLong(16, sourceChecksum);
+        buf.putInt(32, dictionary.size());
+        buf.putLong(40, perfectHash.seed());
+        buf.putLong(24, checksum(buf));
+        buf.rewind();
+        return buf;
+    }
+
+    /**
+     * Maps the index file (read only), and validates it.
+     *
+     * @param sourceLength    The length (bytes) of the current text word list.
+     * @param sourceChecksum  The CRC32 of the current text word list.
+     * @return  The dictionary, backed by the mapped file.
+     * @throws IOException  When the file cannot be read, is corrupted, of
+     *                      another version, or stale.
+     */
+    static Dictionary open(Path path, long sourceLength, long sourceChecksum) throws IOException {
+        return open(path, sourceLength, sourceChecksum, WordStorage.ARENA);
+    }
+
+    /**
+     * Same as {@link #open(Path, long, long)}, reported as of `storage`.
+     */
+    static Dictionary open(Path path, long sourceLength, long sourceChecksum, WordStorage storage) throws IOException {
+        MappedByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid index file=[" + path + "], size=[" + size + "]");
+            }
+            // the mapping stays valid after the channel is closed
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return decode(buf, path.toString(), sourceLength, sourceChecksum, storage, true);
+    }
+
+    /*
+     * Validates the content of the index file in `buf` (`path` for the
+     * messages), and slices its sections.
+     */
+    private static Dictionary decode(ByteBuffer buf, String path, long sourceLength, long sourceChecksum,
+            WordStorage storage, boolean mapped) throws IOException {
+        if (buf.getInt(0) != MAGIC) {
+            throw new IOException("Invalid index file=[" + path + "], not an index file");
+        }
+        if (buf.getInt(4) != VERSION) {
+            throw new IOException("Invalid index file=[" + path + "], version=[" + buf.getInt(4) + "], expect " + VERSION);
+        }
+        if (buf.getLong(8) != sourceLength || buf.getLong(16) != sourceChecksum) {
+            throw new IOException("Stale index file=[" + path + "], built from another word list");
+        }
+        if (buf.getLong(24) != checksum(buf)) {
+            throw new IOException("Invalid index file=[" + path + "], checksum mismatch");
+        }
+        int numWords = buf.getInt(32);
+
+        ByteBuffer[] sections = new ByteBuffer[SECTIONS];
+        buf.position(HEADER_SIZE);
+        for (int ix = 0; ix < SECTIONS; ix += 1) {
+            int len = buf.remaining() >= 4 ? buf.getInt() : -1;
+            if (len < 0 || padded(len) > buf.remaining()) {
+                throw new IOException("Invalid index file=[" + path + "], truncated section=[" + (ix + 1) + "]");
+            }
+            ByteBuffer section = buf.slice();
+            section.limit(len);
+            sections[ix] = section;
+            buf.position(buf.position() + padded(len));
+        }
+
+        IntBuffer offsets = sections[0].asIntBuffer();
+        if (offsets.limit() != numWords + 1) {
+            throw new IOException("Invalid index file=[" + path + "], number of words mismatch");
+        }
+        WordArena arena = new WordArena(sections[1], offsets);
+        if (sections[5].limit() != numWords * 4 || sections[6].limit() != numWords) {
+            throw new IOException("Invalid index file=[" + path + "], number of slots mismatch");
+        }
+        PerfectHash perfectHash = new PerfectHash(arena, buf.getLong(40), sections[2].asIntBuffer(),
+                sections[3].asLongBuffer(), sections[4].asIntBuffer(), sections[5].asIntBuffer(), sections[6]);
+        AnagramIndex anagramIndex = new AnagramIndex(arena,
+                sections[10].asIntBuffer(), sections[11].asIntBuffer(), sections[12].asIntBuffer());
+        return new Dictionary(arena, perfectHash,
+                sections[7].asIntBuffer(), sections[8].asIntBuffer(), sections[9].asIntBuffer(), anagramIndex,
+                storage, mapped);
+    }
+
+    /**
+     * @return  The CRC32 of `bytes`.
+     */
+    static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return crc.getValue();
+    }
+
+    /*
+     * CRC32 of everything after the checksum: the number of words and the
+     * seed of the perfect hash too, not only the sections.
+     */
+    private static long checksum(ByteBuffer buf) {
+        ByteBuffer payload = buf.duplicate();
+        payload.clear();
+        payload.position(CHECKSUMMED);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    private static ByteBuffer bytesOf(LongBuffer longs) {
+        ByteBuffer bytes = ByteBuffer.allocate(longs.remaining() * 8);
+        bytes.asLongBuffer().put(longs);
+        return bytes;
+    }
+
+    private static ByteBuffer bytesOf(IntBuffer ints) {
+        ByteBuffer bytes = ByteBuffer.allocate(ints.remaining() * 4);
+        bytes.asIntBuffer().put(ints);
+        return bytes;
+    }
+
+    private static int padded(int len) {
+        return (len + 3) & ~3;
+    }
+
+}
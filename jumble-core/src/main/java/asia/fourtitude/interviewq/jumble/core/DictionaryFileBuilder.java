@@ -0,0 +1,59 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Builds the index file of the word list (classpath resource, or a word
+ * file), for {@link JumbleEngine#JumbleEngine(int, int, Path)} to map at
+ * startup instead of building the dictionary.
+ *
+ * Usage: DictionaryFileBuilder &lt;index file&gt; [word file]
+ */
+public final class DictionaryFileBuilder {
+
+    private DictionaryFileBuilder() {
+    }
+
+    /**
+     * Builds the dictionary from the word list, and writes its index file.
+     *
+     * @return  The size (bytes) of the index file.
+     */
+    public static long build(Path indexFile) throws IOException {
+        return build(indexFile, DictionarySource.defaultWordList());
+    }
+
+    /**
+     * Same as {@link #build(Path)}, from the word list of `wordList`.
+     *
+     * @return  The size (bytes) of the index file.
+     */
+    public static long build(Path indexFile, DictionarySource wordList) throws IOException {
+        byte[] source = wordList.read();
+        Dictionary dictionary = new Dictionary(WordListParser.parse(source, ForkJoinPool.commonPool()), WordStorage.ARENA);
+        return DictionaryFile.write(dictionary, source.length, DictionaryFile.checksum(source), indexFile);
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: DictionaryFileBuilder <index file> [word file]");
+            System.exit(2);
+        }
+        Path indexFile = Paths.get(args[0]);
+        DictionarySource wordList = args.length > 1
+                ? DictionarySource.file(Paths.get(args[1])) : DictionarySource.defaultWordList();
+        long start = System.nanoTime();
+        try {
+            long size = build(indexFile, wordList);
+            System.out.println("Wrote index file=[" + indexFile + "], size=[" + size + "] bytes, in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.exit(2);
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * The named dictionaries (e.g. one per market), each with its own engine
+ * and indexes, side by side. The first one is the default.
+ *
+ * Shared where possible:
+ * - names of the same word list (see {@link DictionarySource#equals(Object)})
+ *   share one engine, i.e. one copy of the words and indexes;
+ * - all the engines share one sub words generation pool.
+ */
+public final class DictionaryRegistry {
+
+    private static final Logger LOG = Logger.getLogger(DictionaryRegistry.class.getName());
+
+    /*
+     * name -> engine, the default first.
+     */
+    private final Map<String, JumbleEngine> engines;
+
+    private final String defaultName;
+
+    /**
+     * @param engines  name -> engine, the first one is the default. Names
+     *                 are case insensitive.
+     */
+    public DictionaryRegistry(Map<String, JumbleEngine> engines) {
+        if (engines.isEmpty()) {
+            throw new IllegalArgumentException("Expect at least one dictionary");
+        }
+        Map<String, JumbleEngine> named = new LinkedHashMap<>();
+        for (Map.Entry<String, JumbleEngine> entry : engines.entrySet()) {
+            named.put(normalizeName(entry.getKey()), Objects.requireNonNull(entry.getValue(), "engine must not be null"));
+        }
+        this.engines = Collections.unmodifiableMap(named);
+        this.defaultName = named.keySet().iterator().next();
+    }
+
+    /**
+     * Loads the dictionaries in parallel, one thread per word list.
+     *
+     * @param sources            name -> word list, the first one is the default.
+     *                           Names are case insensitive, of letters, digits, '-' and '_'.
+     * @param indexFiles         name -> index file (see {@link JumbleEngine#JumbleEngine(int, int, Path)}),
+     *                           none for the names without.
+     * @param storage            The storage backend of the words.
+     * @param parallelism        The number of threads to generate sub words in
+     *                           parallel, shared by all the dictionaries. 1 means always sequential.
+     * @param parallelThreshold  The minimum length of seed word, to generate
+     *                           sub words in parallel.
+     * @return  The registry.
+     * @throws UnsupportedOperationException  When a word list cannot be read.
+     */
+    public static DictionaryRegistry load(Map<String, DictionarySource> sources, Map<String, Path> indexFiles,
+            WordStorage storage, int parallelism, int parallelThreshold) {
+        return load(sources, indexFiles, storage, parallelism, parallelThreshold, JumbleEngine.DEFAULT_WORD_FILTER_RATE);
+    }
+
+    /**
+     * Same as {@link #load(Map, Map, WordStorage, int, int)}, with the false
+     * positive rate of the word filters, see
+     * {@link JumbleEngine#JumbleEngine(int, int, DictionarySource, Path, WordStorage, double)}.
+     */
+    public static DictionaryRegistry load(Map<String, DictionarySource> sources, Map<String, Path> indexFiles,
+            WordStorage storage, int parallelism, int parallelThreshold, double wordFilterRate) {
+        Objects.requireNonNull(sources, "sources must not be null");
+        Map<String, DictionarySource> named = new LinkedHashMap<>();
+        for (Map.Entry<String, DictionarySource> entry : sources.entrySet()) {
+            String name = normalizeName(entry.getKey());
+            if (!name.matches("^[a-z0-9_-]+$")) {
+                throw new IllegalArgumentException("Invalid dictionary name=[" + entry.getKey() + "]");
+            }
+            if (named.put(name, Objects.requireNonNull(entry.getValue(), "source must not be null")) != null) {
+                throw new IllegalArgumentException("Duplicated dictionary name=[" + name + "]");
+            }
+        }
+        if (named.isEmpty()) {
+            throw new IllegalArgumentException("Expect at least one dictionary");
+        }
+
+        long start = System.nanoTime();
+        ForkJoinPool subWordsPool = JumbleEngine.newSubWordsPool(parallelism);
+        List<DictionarySource> distinct = new ArrayList<>(new LinkedHashSet<>(named.values()));
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService loaders = Executors.newFixedThreadPool(
+                Math.min(distinct.size(), Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "jumble-dictionary-loader-" + seq.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Map<DictionarySource, JumbleEngine> bySource = new LinkedHashMap<>();
+        try {
+            Map<DictionarySource, Future<JumbleEngine>> loading = new LinkedHashMap<>();
+            for (DictionarySource source : distinct) {
+                Path indexFile = indexFileOf(source, named, indexFiles);
+                loading.put(source, loaders.submit(
+                        () -> new JumbleEngine(subWordsPool, parallelThreshold, source, indexFile, storage, wordFilterRate)));
+            }
+            for (Map.Entry<DictionarySource, Future<JumbleEngine>> entry : loading.entrySet()) {
+                bySource.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading dictionaries");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            loaders.shutdownNow();
+        }
+
+        Map<String, JumbleEngine> engines = new LinkedHashMap<>();
+        for (Map.Entry<String, DictionarySource> entry : named.entrySet()) {
+            engines.put(entry.getKey(), bySource.get(entry.getValue()));
+        }
+        DictionaryRegistry registry = new DictionaryRegistry(engines);
+        for (String name : registry.getNames()) {
+            LOG.info("Dictionary=[" + name + "]: " + registry.get(name).getDictionaryStats());
+        }
+        LOG.info("Loaded dictionaries=[" + named.size() + "], word lists=[" + distinct.size() + "], in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return registry;
+    }
+
+    /*
+     * The index file of the first name of `source` having one.
+     */
+    private static Path indexFileOf(DictionarySource source, Map<String, DictionarySource> named, Map<String, Path> indexFiles) {
+        if (indexFiles == null) {
+            return null;
+        }
+        for (Map.Entry<String, Path> entry : indexFiles.entrySet()) {
+            if (entry.getValue() != null && source.equals(named.get(normalizeName(entry.getKey())))) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String normalizeName(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return  The names, the default first.
+     */
+    public Collection<String> getNames() {
+        return engines.keySet();
+    }
+
+    public String getDefaultName() {
+        return defaultName;
+    }
+
+    public JumbleEngine getDefault() {
+        return engines.get(defaultName);
+    }
+
+    /**
+     * @param name  The name of the dictionary, case insensitive.
+     *              Null or blank for the default.
+     * @return  The engine of the dictionary, or null when no such name.
+     */
+    public JumbleEngine get(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return getDefault();
+        }
+        return engines.get(normalizeName(name));
+    }
+
+    /**
+     * @param name  The name of the dictionary, case insensitive.
+     *              Null or blank for the default.
+     * @param view  The name of the view of the dictionary (see
+     *              {@link JumbleEngine#withView(String)}), case insensitive.
+     *              Null or blank for the whole dictionary.
+     * @return  The engine of the view of the dictionary, or null when no
+     *          such name or view.
+     */
+    public JumbleEngine get(String name, String view) {
+        JumbleEngine engine = get(name);
+        if (engine == null || view == null || view.trim().isEmpty()) {
+            return engine;
+        }
+        String normalized = normalizeName(view);
+        return engine.getViewNames().contains(normalized) ? engine.withView(normalized) : null;
+    }
+
+    /**
+     * @return  The distinct engines, i.e. once per word list.
+     */
+    public Collection<JumbleEngine> getEngines() {
+        return Collections.unmodifiableCollection(new LinkedHashSet<>(engines.values()));
+    }
+
+    /**
+     * @return  name -> figures (version, memory, load time) of its dictionary.
+     *          Names sharing a word list have the same figures.
+     */
+    public Map<String, DictionaryStats> getDictionaryStats() {
+        Map<String, DictionaryStats> stats = new LinkedHashMap<>();
+        for (Map.Entry<String, JumbleEngine> entry : engines.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().getDictionaryStats());
+        }
+        return stats;
+    }
+
+}
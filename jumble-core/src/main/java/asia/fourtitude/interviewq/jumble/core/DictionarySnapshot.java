@@ -0,0 +1,134 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One loaded version of the dictionary, with everything derived from its
+ * word ids. Never changed once published: a reload builds a new snapshot
+ * and swaps it in, queries in flight finish on the snapshot they started
+ * with.
+ */
+final class DictionarySnapshot {
+
+    private final long version;
+
+    private final Dictionary dictionary;
+
+    private final DictionaryStats stats;
+
+    /*
+     * Null when disabled.
+     */
+    private final WordFilter wordFilter;
+
+    /*
+     * View name -> word ids in the view, see DictionaryView. Read only
+     * once added.
+     */
+    private final ConcurrentMap<String, BitSet> views = new ConcurrentHashMap<>();
+
+    /*
+     * (view, length, minLength) -> number of sub words per word, computed
+     * on demand (or ahead, see JumbleEngine#precomputeSubWordCounts).
+     */
+    private final ConcurrentMap<SubWordCountKey, SubWordCountIndex> subWordCountIndexes = new ConcurrentHashMap<>();
+
+    DictionarySnapshot(long version, Dictionary dictionary, WordFilter wordFilter, DictionaryStats stats) {
+        this.version = version;
+        this.dictionary = dictionary;
+        this.wordFilter = wordFilter;
+        this.stats = stats;
+    }
+
+    long version() {
+        return version;
+    }
+
+    Dictionary dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * @return  The filter of the words of the dictionary, null when disabled.
+     */
+    WordFilter wordFilter() {
+        return wordFilter;
+    }
+
+    /**
+     * @return  The figures of the dictionary, the memory including the
+     *          indexes built on first use since loaded.
+     */
+    DictionaryStats stats() {
+        return stats.withMemory(dictionary.heapBytes(), dictionary.offHeapBytes());
+    }
+
+    void addView(String name, BitSet ids) {
+        views.put(name, ids);
+    }
+
+    /**
+     * @param name  The view name, or null for the whole dictionary.
+     * @return  The word ids in the view, null for the whole dictionary.
+     */
+    BitSet view(String name) {
+        if (name == null) {
+            return null;
+        }
+        BitSet ids = views.get(name);
+        if (ids == null) {
+            throw new IllegalArgumentException("Unknown view=[" + name + "]");
+        }
+        return ids;
+    }
+
+    Map<String, BitSet> views() {
+        return views;
+    }
+
+    SubWordCountIndex subWordCountIndex(String view, int length, int minLength) {
+        BitSet ids = view(view);
+        return subWordCountIndexes.computeIfAbsent(new SubWordCountKey(view, length, minLength),
+                k -> new SubWordCountIndex(dictionary, ids, length, minLength));
+    }
+
+    Set<SubWordCountKey> subWordCountKeys() {
+        return subWordCountIndexes.keySet();
+    }
+
+    static final class SubWordCountKey {
+
+        final String view;
+
+        final int length;
+
+        final int minLength;
+
+        SubWordCountKey(String view, int length, int minLength) {
+            this.view = view;
+            this.length = length;
+            this.minLength = minLength;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SubWordCountKey)) {
+                return false;
+            }
+            SubWordCountKey other = (SubWordCountKey) obj;
+            return Objects.equals(view, other.view) && length == other.length && minLength == other.minLength;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(view, length, minLength);
+        }
+
+    }
+
+}
@@ -0,0 +1,116 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Where the word list (UTF-8, one word per line) is read from: a classpath
+ * resource (e.g. "words.txt" of the jumble-core jar), or a file, which can
+ * be watched and reloaded (see {@link DictionaryWatcher}). Either one is
+ * gzip compressed when its name ends with ".gz".
+ */
+public final class DictionarySource {
+
+    /*
+     * The word list of the jumble-core jar.
+     */
+    private static final String DEFAULT_RESOURCE = "words.txt";
+
+    /*
+     * Bytes per read.
+     */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private final String resource;
+
+    private final Path path;
+
+    private DictionarySource(String resource, Path path) {
+        this.resource = resource;
+        this.path = path;
+    }
+
+    /**
+     * @return  The word list of the jumble-core jar ("words.txt").
+     */
+    public static DictionarySource defaultWordList() {
+        return classpath(DEFAULT_RESOURCE);
+    }
+
+    public static DictionarySource classpath(String resource) {
+        return new DictionarySource(Objects.requireNonNull(resource, "resource must not be null"), null);
+    }
+
+    public static DictionarySource file(Path path) {
+        return new DictionarySource(null, Objects.requireNonNull(path, "path must not be null").toAbsolutePath().normalize());
+    }
+
+    /**
+     * @return  The file, or null when a classpath resource.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return  true if gzip compressed, i.e. the name ends with ".gz".
+     */
+    public boolean isCompressed() {
+        return (path != null ? path.getFileName().toString() : resource).toLowerCase(Locale.ROOT).endsWith(".gz");
+    }
+
+    /**
+     * @return  The content of the word list, uncompressed.
+     */
+    public byte[] read() throws IOException {
+        if (path != null && !isCompressed()) {
+            // one read of the whole file on its channel
+            return Files.readAllBytes(path);
+        }
+        InputStream in = path != null
+                ? Files.newInputStream(path)
+                : DictionarySource.class.getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new FileNotFoundException("Missing resource=[" + resource + "] in classpath");
+        }
+        try (InputStream raw = in; InputStream is = isCompressed() ? new GZIPInputStream(raw, CHUNK_SIZE) : raw) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+            byte[] buf = new byte[CHUNK_SIZE];
+            int len;
+            while ((len = is.read(buf)) > 0) {
+                out.write(buf, 0, len);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DictionarySource)) {
+            return false;
+        }
+        DictionarySource other = (DictionarySource) obj;
+        return Objects.equals(resource, other.resource) && Objects.equals(path, other.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resource, path);
+    }
+
+    @Override
+    public String toString() {
+        return path != null ? "file:" + path : "classpath:" + resource;
+    }
+
+}
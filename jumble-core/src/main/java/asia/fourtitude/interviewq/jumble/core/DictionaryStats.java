@@ -0,0 +1,157 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+/**
+ * Figures of the dictionary loaded by the engine, for reporting.
+ */
+public final class DictionaryStats {
+
+    private final long version;
+
+    private final String source;
+
+    private final WordStorage storage;
+
+    private final boolean mapped;
+
+    private final int words;
+
+    private final long storageBytes;
+
+    private final long heapBytes;
+
+    private final long offHeapBytes;
+
+    private final long filterBytes;
+
+    private final double filterFalsePositiveRate;
+
+    private final long loadMillis;
+
+    public DictionaryStats(long version, String source, WordStorage storage, boolean mapped, int words,
+            long storageBytes, long heapBytes, long offHeapBytes, long filterBytes, double filterFalsePositiveRate,
+            long loadMillis) {
+        this.version = version;
+        this.source = source;
+        this.storage = storage;
+        this.mapped = mapped;
+        this.words = words;
+        this.storageBytes = storageBytes;
+        this.heapBytes = heapBytes;
+        this.offHeapBytes = offHeapBytes;
+        this.filterBytes = filterBytes;
+        this.filterFalsePositiveRate = filterFalsePositiveRate;
+        this.loadMillis = loadMillis;
+    }
+
+    /**
+     * @return  The version of the dictionary, 1 when first loaded, then
+     *          incremented on every reload.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return  Where the word list is read from, see {@link DictionarySource}.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    public WordStorage getStorage() {
+        return storage;
+    }
+
+    /**
+     * @return  true if mapped from an index file, false if built from the word list.
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    public int getWords() {
+        return words;
+    }
+
+    /**
+     * @return  The memory (bytes) of the stored words, and of the membership
+     *          table if any (not the other indexes).
+     */
+    public long getStorageBytes() {
+        return storageBytes;
+    }
+
+    public double getBytesPerWord() {
+        return words == 0 ? 0 : (double) storageBytes / words;
+    }
+
+    /**
+     * @return  The memory (bytes) on the Java heap of the words and of the
+     *          indexes built so far (some are built on first use).
+     */
+    public long getHeapBytes() {
+        return heapBytes;
+    }
+
+    /**
+     * @return  The memory (bytes) outside the Java heap (direct or mapped)
+     *          of the words and of the indexes built so far, see {@link WordStorage#OFF_HEAP}.
+     */
+    public long getOffHeapBytes() {
+        return offHeapBytes;
+    }
+
+    /**
+     * @return  The same figures, with the memory of the words and indexes
+     *          now, this when unchanged.
+     */
+    DictionaryStats withMemory(long heapBytes, long offHeapBytes) {
+        if (heapBytes == this.heapBytes && offHeapBytes == this.offHeapBytes) {
+            return this;
+        }
+        return new DictionaryStats(version, source, storage, mapped, words, storageBytes, heapBytes, offHeapBytes,
+                filterBytes, filterFalsePositiveRate, loadMillis);
+    }
+
+    /**
+     * @return  The memory (bytes) of the Bloom filter of the words, 0 when
+     *          disabled.
+     */
+    public long getFilterBytes() {
+        return filterBytes;
+    }
+
+    /**
+     * @return  The false positive rate expected from the size of the Bloom
+     *          filter of the words, its blocks accounted for, 0 when disabled.
+     */
+    public double getFilterFalsePositiveRate() {
+        return filterFalsePositiveRate;
+    }
+
+    /**
+     * @return  The time to load (build or map) the dictionary.
+     */
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(sb.length() == 0 ? "" : ", ").append("version=[").append(version).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("source=[").append(source).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("storage=[").append(storage).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("mapped=[").append(mapped).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("words=[").append(words).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("storageBytes=[").append(storageBytes).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("bytesPerWord=[").append(String.format("%.2f", getBytesPerWord())).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("heapBytes=[").append(heapBytes).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("offHeapBytes=[").append(offHeapBytes).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("filterBytes=[").append(filterBytes).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("filterFalsePositiveRate=[").append(String.format("%.4f", filterFalsePositiveRate)).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("loadMillis=[").append(loadMillis).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,86 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A filtered subset of the dictionary (e.g. family safe, common words only),
+ * defined by a side file of words (one word per line): either the words to
+ * keep, or the words to leave out. The words of the side file which are not
+ * in the dictionary are ignored.
+ *
+ * The view is resolved to a bitset of word ids when the dictionary is
+ * loaded (and again on reload), i.e. one bit per word of the dictionary,
+ * instead of a copy of the words and indexes. See {@link JumbleEngine#withView(String)}.
+ */
+public final class DictionaryView {
+
+    private final String name;
+
+    private final DictionarySource words;
+
+    private final boolean exclude;
+
+    private DictionaryView(String name, DictionarySource words, boolean exclude) {
+        String normalized = Objects.requireNonNull(name, "name must not be null").trim().toLowerCase(Locale.ROOT);
+        if (!normalized.matches("^[a-z0-9_-]+$")) {
+            throw new IllegalArgumentException("Invalid view name=[" + name + "]");
+        }
+        this.name = normalized;
+        this.words = Objects.requireNonNull(words, "words must not be null");
+        this.exclude = exclude;
+    }
+
+    /**
+     * @param name   The name, case insensitive, of letters, digits, '-' and '_'.
+     * @param words  The words to keep, e.g. the common words.
+     */
+    public static DictionaryView include(String name, DictionarySource words) {
+        return new DictionaryView(name, words, false);
+    }
+
+    /**
+     * @param name   The name, case insensitive, of letters, digits, '-' and '_'.
+     * @param words  The words to leave out, e.g. the offensive words.
+     */
+    public static DictionaryView exclude(String name, DictionarySource words) {
+        return new DictionaryView(name, words, true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DictionarySource getWords() {
+        return words;
+    }
+
+    public boolean isExclude() {
+        return exclude;
+    }
+
+    /**
+     * @return  The word ids of `dictionary` in the view.
+     */
+    BitSet resolve(Dictionary dictionary) throws IOException {
+        BitSet listed = new BitSet(dictionary.size());
+        for (String line : JumbleEngine.lines(words.read())) {
+            int id = dictionary.indexOf(Dictionary.normalize(line));
+            if (id >= 0) {
+                listed.set(id);
+            }
+        }
+        if (exclude) {
+            listed.flip(0, dictionary.size());
+        }
+        return listed;
+    }
+
+    @Override
+    public String toString() {
+        return name + (exclude ? "=exclude:" : "=include:") + words;
+    }
+
+}
@@ -0,0 +1,169 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches the word files of the engines (see {@link DictionarySource#file(Path)}),
+ * and reloads the dictionary (see {@link JumbleEngine#reload()}) of a file
+ * when it changes. The changes are debounced: the reload starts once the
+ * files are quiet for `debounceMillis`, so that a file being written is
+ * read once, complete. Editors which replace the file (write then rename)
+ * are covered, the directory of the file is watched.
+ *
+ * A classpath word list cannot change, nothing is watched.
+ */
+public final class DictionaryWatcher implements Closeable {
+
+    private static final Logger LOG = Logger.getLogger(DictionaryWatcher.class.getName());
+
+    private final Collection<JumbleEngine> engines;
+
+    private final long debounceMillis;
+
+    private WatchService watchService;
+
+    private Thread thread;
+
+    /**
+     * @param engine          The engine to reload.
+     * @param debounceMillis  The quiet time after the last change, before reloading.
+     */
+    public DictionaryWatcher(JumbleEngine engine, long debounceMillis) {
+        this(Collections.singletonList(engine), debounceMillis);
+    }
+
+    /**
+     * @param engines         The engines to reload, e.g. {@link DictionaryRegistry#getEngines()}.
+     * @param debounceMillis  The quiet time after the last change, before reloading.
+     */
+    public DictionaryWatcher(Collection<JumbleEngine> engines, long debounceMillis) {
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("Invalid debounceMillis=[" + debounceMillis + "], expect non negative");
+        }
+        this.engines = new ArrayList<>(engines);
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Starts watching, on a daemon thread.
+     */
+    public synchronized void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+        Map<Path, JumbleEngine> files = new HashMap<>();
+        for (JumbleEngine engine : engines) {
+            Path path = engine.getSource().getPath();
+            if (path == null) {
+                LOG.info("Dictionary source=[" + engine.getSource() + "] not a file, not watched");
+            } else {
+                files.put(path.toAbsolutePath(), engine);
+            }
+        }
+        if (files.isEmpty()) {
+            return;
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        Set<Path> dirs = new HashSet<>();
+        for (Path file : files.keySet()) {
+            if (dirs.add(file.getParent())) {
+                file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+            LOG.info("Watching dictionary file=[" + file + "]");
+        }
+        WatchService service = watchService;
+        thread = new Thread(() -> watch(service, files), "jumble-dictionary-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watch(WatchService watchService, Map<Path, JumbleEngine> files) {
+        try {
+            while (true) {
+                // wait for a change, then until quiet
+                Set<JumbleEngine> changed = new LinkedHashSet<>();
+                poll(watchService, files, -1, changed);
+                while (!changed.isEmpty() && poll(watchService, files, debounceMillis, changed)) {
+                    // changed again, wait again
+                }
+                for (JumbleEngine engine : changed) {
+                    reload(engine);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // closed
+        }
+    }
+
+    /*
+     * Adds the engines of the files changed within `timeoutMillis` (forever
+     * when negative) to `changed`.
+     *
+     * @return  true if any event within `timeoutMillis`.
+     */
+    private static boolean poll(WatchService watchService, Map<Path, JumbleEngine> files, long timeoutMillis,
+            Set<JumbleEngine> changed) throws InterruptedException {
+        WatchKey key = timeoutMillis < 0 ? watchService.take() : watchService.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (key == null) {
+            return false;
+        }
+        Path dir = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                for (Map.Entry<Path, JumbleEngine> entry : files.entrySet()) {
+                    if (entry.getKey().getParent().equals(dir)) {
+                        changed.add(entry.getValue());
+                    }
+                }
+            } else {
+                JumbleEngine engine = files.get(dir.resolve((Path) event.context()));
+                if (engine != null) {
+                    changed.add(engine);
+                }
+            }
+        }
+        key.reset();
+        return true;
+    }
+
+    private static void reload(JumbleEngine engine) {
+        try {
+            engine.reload();
+        } catch (IOException | RuntimeException e) {
+            LOG.log(Level.WARNING, "Failed to reload dictionary source=[" + engine.getSource() + "]", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+}
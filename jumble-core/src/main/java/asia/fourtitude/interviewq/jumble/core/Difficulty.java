@@ -0,0 +1,18 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+/**
+ * Difficulty of a game, by the number of sub words to find.
+ *
+ * Among the words of the game's length (having at least one sub word),
+ * ranked by their number of sub words: EASY is the third with the fewest,
+ * MEDIUM the middle third, HARD the third with the most.
+ */
+public enum Difficulty {
+
+    EASY,
+
+    MEDIUM,
+
+    HARD;
+
+}
@@ -0,0 +1,334 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Front coded word storage: the sorted words in blocks of BLOCK_SIZE. The
+ * first word of a block (its "head") is stored in full, each following
+ * word stores only the number of letters it shares with the previous word,
+ * and the rest of its letters:
+ * <pre>
+ *   head:  varint length, letters
+ *   other: varint shared, varint suffix length, suffix letters
+ * </pre>
+ *
+ * Sorted words share long prefixes, so this is a fraction of the plain
+ * letters. Nothing is decompressed up front:
+ * - ordinal lookup decodes from the head of the block of the word;
+ * - membership is a binary search on the heads, then a scan of one block;
+ * - prefix ranges are binary searches on {@link #charAt(int, int)}.
+ *
+ * The last words decoded are cached per thread (a few slots), so that the
+ * letter by letter access of the indexes, and the enumeration of
+ * consecutive words, do not decode the same word again.
+ */
+final class FrontCodedWords implements WordStore {
+
+    static final int BLOCK_SIZE = 16;
+
+    private static final int CACHE_SLOTS = 4;
+
+    private final byte[] data;
+
+    /*
+     * [block] -> position of its head in `data`.
+     */
+    private final int[] blockOffsets;
+
+    private final int size;
+
+    private final ThreadLocal<Cache> cache = ThreadLocal.withInitial(Cache::new);
+
+    private FrontCodedWords(byte[] data, int[] blockOffsets, int size) {
+        this.data = data;
+        this.blockOffsets = blockOffsets;
+        this.size = size;
+    }
+
+    /**
+     * @param words  The words, in word id order. Expects letters of one byte,
+     *               see {@link WordArena#isEncodable(String)}.
+     */
+    static FrontCodedWords of(Collection<String> words) {
+        byte[] buf = new byte[1024];
+        int len = 0;
+        int[] blockOffsets = new int[(words.size() + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        String prev = "";
+        int id = 0;
+        for (String word : words) {
+            if (len + word.length() + 10 > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, len + word.length() + 10));
+            }
+            int shared = 0;
+            if (id % BLOCK_SIZE == 0) {
+                blockOffsets[id / BLOCK_SIZE] = len;
+            } else {
+                int max = Math.min(prev.length(), word.length());
+                while (shared < max && prev.charAt(shared) == word.charAt(shared)) {
+                    shared += 1;
+                }
+                len = writeVarInt(buf, len, shared);
+            }
+            len = writeVarInt(buf, len, word.length() - shared);
+            for (int ix = shared; ix < word.length(); ix += 1) {
+                buf[len++] = (byte) word.charAt(ix);
+            }
+            prev = word;
+            id += 1;
+        }
+        return new FrontCodedWords(Arrays.copyOf(buf, len), blockOffsets, id);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int length(int id) {
+        return decode(id).length;
+    }
+
+    @Override
+    public char charAt(int id, int pos) {
+        return (char) (decode(id).letters[pos] & 0xFF);
+    }
+
+    @Override
+    public String word(int id) {
+        Slot slot = decode(id);
+        char[] letters = new char[slot.length];
+        for (int ix = 0; ix < letters.length; ix += 1) {
+            letters[ix] = (char) (slot.letters[ix] & 0xFF);
+        }
+        return new String(letters);
+    }
+
+    @Override
+    public int compare(int id, CharSequence word) {
+        Slot slot = decode(id);
+        return compare(slot.letters, slot.length, word);
+    }
+
+    @Override
+    public boolean contains(int id, CharSequence fragment) {
+        Slot slot = decode(id);
+        int last = slot.length - fragment.length();
+        for (int from = 0; from <= last; from += 1) {
+            int ix = 0;
+            while (ix < fragment.length() && (char) (slot.letters[from + ix] & 0xFF) == fragment.charAt(ix)) {
+                ix += 1;
+            }
+            if (ix == fragment.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Binary search on the block heads, then a scan of the block.
+     */
+    @Override
+    public int indexOf(CharSequence word) {
+        int lo = 0;
+        int hi = blockOffsets.length - 1;
+        int block = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareHead(mid, word) <= 0) {
+                block = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        if (block < 0) {
+            return -1;
+        }
+        int end = Math.min(size, (block + 1) * BLOCK_SIZE);
+        for (int id = block * BLOCK_SIZE; id < end; id += 1) {
+            int cmp = compare(id, word);
+            if (cmp == 0) {
+                return id;
+            } else if (cmp > 0) {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public long sizeInBytes() {
+        return data.length + 4L * blockOffsets.length;
+    }
+
+    /*
+     * Compares the head of `block` in place, without decoding.
+     */
+    private int compareHead(int block, CharSequence word) {
+        int pos = blockOffsets[block];
+        int len = readVarInt(data, pos);
+        pos += varIntSize(len);
+        int min = Math.min(len, word.length());
+        for (int ix = 0; ix < min; ix += 1) {
+            char ch = (char) (data[pos + ix] & 0xFF);
+            char wch = word.charAt(ix);
+            if (ch != wch) {
+                return ch - wch;
+            }
+        }
+        return len - word.length();
+    }
+
+    private static int compare(byte[] letters, int len, CharSequence word) {
+        int min = Math.min(len, word.length());
+        for (int ix = 0; ix < min; ix += 1) {
+            char ch = (char) (letters[ix] & 0xFF);
+            char wch = word.charAt(ix);
+            if (ch != wch) {
+                return ch - wch;
+            }
+        }
+        return len - word.length();
+    }
+
+    /*
+     * The decoded word `id`, from the cache, or decoded from the closest
+     * cached word before it in the same block, or else from the head.
+     */
+    private Slot decode(int id) {
+        Cache cache = this.cache.get();
+        Slot[] slots = cache.slots;
+        int block = id / BLOCK_SIZE;
+        Slot from = null;
+        for (Slot slot : slots) {
+            if (slot.id == id) {
+                slot.stamp = ++cache.clock;
+                return slot;
+            }
+            if (slot.id >= 0 && slot.id < id && slot.id / BLOCK_SIZE == block && (from == null || slot.id > from.id)) {
+                from = slot;
+            }
+        }
+        // replace the least recently decoded
+        Slot target = slots[0];
+        for (Slot slot : slots) {
+            if (slot.stamp < target.stamp) {
+                target = slot;
+            }
+        }
+        int current;
+        int pos;
+        if (from != null) {
+            target.copyFrom(from);
+            current = from.id;
+            pos = from.next;
+        } else {
+            pos = blockOffsets[block];
+            int len = readVarInt(data, pos);
+            pos += varIntSize(len);
+            target.ensureCapacity(len);
+            System.arraycopy(data, pos, target.letters, 0, len);
+            target.length = len;
+            pos += len;
+            current = block * BLOCK_SIZE;
+        }
+        while (current < id) {
+            int shared = readVarInt(data, pos);
+            pos += varIntSize(shared);
+            int suffix = readVarInt(data, pos);
+            pos += varIntSize(suffix);
+            target.ensureCapacity(shared + suffix);
+            System.arraycopy(data, pos, target.letters, shared, suffix);
+            target.length = shared + suffix;
+            pos += suffix;
+            current += 1;
+        }
+        target.id = id;
+        target.next = pos;
+        target.stamp = ++cache.clock;
+        return target;
+    }
+
+    static int writeVarInt(byte[] buf, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        return pos;
+    }
+
+    static int readVarInt(byte[] buf, int pos) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf[pos++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size += 1;
+        }
+        return size;
+    }
+
+    /*
+     * The last words decoded by a thread.
+     */
+    private static final class Cache {
+
+        final Slot[] slots = new Slot[CACHE_SLOTS];
+
+        long clock;
+
+        Cache() {
+            for (int ix = 0; ix < slots.length; ix += 1) {
+                slots[ix] = new Slot();
+            }
+        }
+
+    }
+
+    /*
+     * A decoded word.
+     */
+    private static final class Slot {
+
+        int id = -1;
+
+        byte[] letters = new byte[32];
+
+        int length;
+
+        /*
+         * Position in `data` after the word, to decode the next one.
+         */
+        int next;
+
+        long stamp;
+
+        void ensureCapacity(int len) {
+            if (letters.length < len) {
+                letters = Arrays.copyOf(letters, Math.max(len, letters.length * 2));
+            }
+        }
+
+        void copyFrom(Slot other) {
+            ensureCapacity(other.length);
+            System.arraycopy(other.letters, 0, letters, 0, other.length);
+            length = other.length;
+        }
+
+    }
+
+}
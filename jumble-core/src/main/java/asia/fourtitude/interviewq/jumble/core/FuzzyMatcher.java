@@ -0,0 +1,113 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.Arrays;
+
+/**
+ * Fuzzy matching: the words within edit (Levenshtein) distance `k` of a
+ * word, i.e. reachable by at most `k` single letter insertions, deletions
+ * or substitutions.
+ *
+ * Walks the implicit prefix trie of the sorted word list, carrying one row
+ * of the edit distance table per depth (the distance of the current prefix
+ * to every prefix of the query). A branch is pruned as soon as its row has
+ * no cell within `k`, since appending letters never lowers the distance.
+ * That behaves like a Levenshtein automaton run over the trie, with no
+ * extra structure to build or hold.
+ */
+final class FuzzyMatcher {
+
+    private final Dictionary dictionary;
+
+    private final int maxWordLength;
+
+    FuzzyMatcher(Dictionary dictionary) {
+        this.dictionary = dictionary;
+        this.maxWordLength = dictionary.maxLength();
+    }
+
+    /**
+     * @param word         The (normalized) word.
+     * @param maxDistance  The maximum edit distance (inclusive).
+     * @return  The word ids (ascending) within `maxDistance` of `word`.
+     */
+    int[] search(String word, int maxDistance) {
+        int[][] rows = new int[maxWordLength + 1][word.length() + 1];
+        for (int col = 0; col <= word.length(); col += 1) {
+            rows[0][col] = col;
+        }
+        Hits hits = new Hits();
+        walk(word, maxDistance, 0, dictionary.size(), 0, rows, hits);
+        return Arrays.copyOf(hits.ids, hits.size);
+    }
+
+    /*
+     * [from, to) are the words sharing the prefix of length `depth`, whose
+     * distance row is rows[depth]. Pre-order, so hits come out ascending.
+     */
+    private void walk(String word, int maxDistance, int from, int to, int depth, int[][] rows, Hits hits) {
+        int[] row = rows[depth];
+        int wlen = word.length();
+        if (from < to && dictionary.length(from) == depth) {
+            // the prefix itself is a word (sorts first in its range)
+            if (row[wlen] <= maxDistance) {
+                hits.add(from);
+            }
+            from += 1;
+        }
+        while (from < to) {
+            char ch = dictionary.charAt(from, depth);
+            int end = dictionary.childEnd(from, to, depth, ch);
+            int[] next = rows[depth + 1];
+            next[0] = depth + 1;
+            int min = next[0];
+            for (int col = 1; col <= wlen; col += 1) {
+                int cost = word.charAt(col - 1) == ch ? 0 : 1;
+                next[col] = Math.min(Math.min(next[col - 1] + 1, row[col] + 1), row[col - 1] + cost);
+                min = Math.min(min, next[col]);
+            }
+            if (min <= maxDistance) {
+                walk(word, maxDistance, from, end, depth + 1, rows, hits);
+            }
+            from = end;
+        }
+    }
+
+    /**
+     * @return  The edit (Levenshtein) distance between `a` and `b`.
+     */
+    static int distance(String a, String b) {
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int col = 0; col <= b.length(); col += 1) {
+            prev[col] = col;
+        }
+        for (int depth = 1; depth <= a.length(); depth += 1) {
+            curr[0] = depth;
+            char ch = a.charAt(depth - 1);
+            for (int col = 1; col <= b.length(); col += 1) {
+                int cost = b.charAt(col - 1) == ch ? 0 : 1;
+                curr[col] = Math.min(Math.min(curr[col - 1] + 1, prev[col] + 1), prev[col - 1] + cost);
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[b.length()];
+    }
+
+    private static final class Hits {
+
+        private int[] ids = new int[16];
+
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+    }
+
+}
@@ -0,0 +1,218 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+public /* record */ class GameState {
+
+    private final String original;
+
+    private String scramble;
+
+    /*
+     * The sub words, sorted. Read only, so that it can be shared by many
+     * game states of the same word (e.g. daily puzzle).
+     */
+    private final List<String> words;
+
+    /*
+     * Per game: guessed flag of each of `words` (by position).
+     */
+    private final BitSet guessed;
+
+    /*
+     * Version of the dictionary the sub words were generated from, 0 when
+     * unknown.
+     */
+    private long dictionaryVersion;
+
+    /*
+     * The shared puzzle of the sub words, null when the game has its own.
+     */
+    private final DailyPuzzle puzzle;
+
+    public GameState(String original, String scramble, Map<String, Boolean> subWords) {
+        this.original = original;
+        this.scramble = scramble;
+        this.puzzle = null;
+        if (subWords == null) {
+            this.words = null;
+            this.guessed = null;
+        } else {
+            this.words = Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(subWords.keySet())));
+            this.guessed = new BitSet(this.words.size());
+            for (int pos = 0; pos < this.words.size(); pos += 1) {
+                if (Boolean.TRUE.equals(subWords.get(this.words.get(pos)))) {
+                    this.guessed.set(pos);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param sortedWords  The sub words, sorted and read only, not copied.
+     */
+    GameState(String original, String scramble, List<String> sortedWords) {
+        this(original, scramble, sortedWords, new BitSet(sortedWords.size()));
+    }
+
+    GameState(String original, String scramble, List<String> sortedWords, BitSet guessed) {
+        this.original = original;
+        this.scramble = scramble;
+        this.words = sortedWords;
+        this.guessed = guessed;
+        this.puzzle = null;
+    }
+
+    /**
+     * @param puzzle   The puzzle, its sub words are shared, not copied.
+     * @param guessed  The guessed flags of the puzzle's sub words.
+     */
+    GameState(DailyPuzzle puzzle, String scramble, BitSet guessed) {
+        this.original = puzzle.getOriginal();
+        this.scramble = scramble;
+        this.words = puzzle.getSubWords();
+        this.guessed = guessed;
+        this.dictionaryVersion = puzzle.getDictionaryVersion();
+        this.puzzle = puzzle;
+    }
+
+    /*
+     * For GameStateCodec: sorted sub words (null if none), guessed flags.
+     */
+    List<String> words() {
+        return words;
+    }
+
+    BitSet guessed() {
+        return guessed;
+    }
+
+    void setDictionaryVersion(long dictionaryVersion) {
+        this.dictionaryVersion = dictionaryVersion;
+    }
+
+    /**
+     * @return  The version of the dictionary (see {@link DictionaryStats#getVersion()})
+     *          the sub words were generated from, 0 when unknown. The game keeps
+     *          its sub words when the dictionary is reloaded.
+     */
+    public long getDictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    /**
+     * @return  The daily puzzle whose sub words the game shares, null when
+     *          the game has its own.
+     */
+    public DailyPuzzle getPuzzle() {
+        return puzzle;
+    }
+
+    public String getOriginal() {
+        return original;
+    }
+
+    public String getScramble() {
+        return scramble;
+    }
+
+    public void setScramble(String scramble) {
+        this.scramble = scramble;
+    }
+
+    /**
+     * @return  A snapshot of the sub words (sorted) to their guessed flag,
+     *          or null if none.
+     */
+    public Map<String, Boolean> getSubWords() {
+        if (this.words == null) {
+            return null;
+        }
+        Map<String, Boolean> subWords = new TreeMap<>();
+        for (int pos = 0; pos < this.words.size(); pos += 1) {
+            subWords.put(this.words.get(pos), this.guessed.get(pos));
+        }
+        return subWords;
+    }
+
+    public String getScrambleAsDisplay() {
+        List<String> list = new ArrayList<>();
+        for (char ch : this.scramble.toCharArray()) {
+            list.add(Character.toString(ch));
+        }
+        return String.join(" ", list);
+    }
+
+    public List<String> getGuessedWords() {
+        Map<Integer, Set<String>> guesseds = new TreeMap<>();
+        if (this.words != null) {
+            for (int pos = this.guessed.nextSetBit(0); pos >= 0; pos = this.guessed.nextSetBit(pos + 1)) {
+                String word = this.words.get(pos);
+                Integer len = word.length();
+                Set<String> words = guesseds.get(len);
+                if (words == null) {
+                    words = new TreeSet<>();
+                    guesseds.put(len, words);
+                }
+                words.add(word);
+            }
+        }
+        List<String> words = new ArrayList<>();
+        for (Map.Entry<Integer, Set<String>> entry : guesseds.entrySet()) {
+            for (String word : entry.getValue()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * @return  true if `word` is one of the sub words, guessed or not.
+     */
+    public boolean isSubWord(String word) {
+        return word != null && this.words != null && Collections.binarySearch(this.words, word) >= 0;
+    }
+
+    public boolean updateGuessWord(String word) {
+        if (word == null || this.words == null) {
+            return false;
+        }
+        int pos = Collections.binarySearch(this.words, word);
+        if (pos >= 0) {
+            this.guessed.set(pos);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (original != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("original=[").append(original).append(']');
+        }
+        if (scramble != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("scramble=[").append(scramble).append(']');
+        }
+        if (words != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("subWords.size=[").append(words.size()).append(']');
+        }
+        return sb.toString();
+    }
+
+    public int getTotalWords() {
+        return this.words != null ? this.words.size() : 0;
+    }
+
+    public int getRemainingWords() {
+        return this.words != null ? this.words.size() - this.guessed.cardinality() : 0;
+    }
+
+}
@@ -0,0 +1,209 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary form of {@link GameState}, to keep game states in a store
+ * (instead of the object graph) and to move them across nodes.
+ *
+ * Layout, integers as variable length (7 bits per byte):
+ * <pre>
+ *   version (1 byte)
+ *   original, scramble: length + UTF-8 bytes
+ *   dictionary version (since version 2)
+ *   number of sub words + 1 (0 when none)
+ *   each sub word (sorted): length of prefix shared with previous word,
+ *                           length + UTF-8 bytes of the rest
+ *   guessed flags: one bit per sub word
+ * </pre>
+ * A game of 6 letters with 30 sub words takes about 100 bytes.
+ *
+ * A game of a shared {@link DailyPuzzle} can be kept as its guesses only
+ * (see {@link #writeGuesses(GameState, DataOutput)}), the puzzle being
+ * kept once by the caller:
+ * <pre>
+ *   scramble: length + UTF-8 bytes
+ *   number of sub words
+ *   guessed flags: one bit per sub word
+ * </pre>
+ */
+public final class GameStateCodec {
+
+    private static final int VERSION = 2;
+
+    private GameStateCodec() {
+    }
+
+    public static byte[] encode(GameState state) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            write(state, new DataOutputStream(bytes));
+        } catch (IOException e) {
+            // not thrown by ByteArrayOutputStream
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static GameState decode(byte[] bytes) {
+        try {
+            return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid game state bytes", e);
+        }
+    }
+
+    public static void write(GameState state, DataOutput out) throws IOException {
+        out.writeByte(VERSION);
+        writeBytes(out, state.getOriginal().getBytes(StandardCharsets.UTF_8));
+        writeBytes(out, state.getScramble().getBytes(StandardCharsets.UTF_8));
+        writeVarLong(out, state.getDictionaryVersion());
+        List<String> words = state.words();
+        if (words == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, words.size() + 1);
+        byte[] prev = new byte[0];
+        for (String word : words) {
+            byte[] curr = word.getBytes(StandardCharsets.UTF_8);
+            int shared = 0;
+            while (shared < prev.length && shared < curr.length && prev[shared] == curr[shared]) {
+                shared += 1;
+            }
+            writeVarInt(out, shared);
+            writeVarInt(out, curr.length - shared);
+            out.write(curr, shared, curr.length - shared);
+            prev = curr;
+        }
+        out.write(Arrays.copyOf(state.guessed().toByteArray(), (words.size() + 7) / 8));
+    }
+
+    public static GameState read(DataInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported game state version=[" + version + "]");
+        }
+        String original = new String(readBytes(in), StandardCharsets.UTF_8);
+        String scramble = new String(readBytes(in), StandardCharsets.UTF_8);
+        long dictionaryVersion = version >= 2 ? readVarLong(in) : 0;
+        int size = readVarInt(in) - 1;
+        if (size < 0) {
+            GameState state = new GameState(original, scramble, (Map<String, Boolean>) null);
+            state.setDictionaryVersion(dictionaryVersion);
+            return state;
+        }
+        List<String> words = new ArrayList<>(size);
+        byte[] prev = new byte[0];
+        for (int ix = 0; ix < size; ix += 1) {
+            int shared = readVarInt(in);
+            int rest = readVarInt(in);
+            byte[] curr = new byte[shared + rest];
+            System.arraycopy(prev, 0, curr, 0, shared);
+            in.readFully(curr, shared, rest);
+            words.add(new String(curr, StandardCharsets.UTF_8));
+            prev = curr;
+        }
+        byte[] flags = new byte[(size + 7) / 8];
+        in.readFully(flags);
+        GameState state = new GameState(original, scramble, Collections.unmodifiableList(words), BitSet.valueOf(flags));
+        state.setDictionaryVersion(dictionaryVersion);
+        return state;
+    }
+
+    /**
+     * Writes the guesses (and scramble) of a game of a daily puzzle, not
+     * the puzzle itself: a few bytes whatever the number of sub words.
+     *
+     * @param state  A game state of a puzzle, see {@link GameState#getPuzzle()}.
+     */
+    public static void writeGuesses(GameState state, DataOutput out) throws IOException {
+        if (state.getPuzzle() == null) {
+            throw new IllegalArgumentException("Not a game of a daily puzzle");
+        }
+        writeBytes(out, state.getScramble().getBytes(StandardCharsets.UTF_8));
+        int size = state.words().size();
+        writeVarInt(out, size);
+        out.write(Arrays.copyOf(state.guessed().toByteArray(), (size + 7) / 8));
+    }
+
+    /**
+     * @param puzzle  The puzzle of the game written by {@link #writeGuesses(GameState, DataOutput)}.
+     * @return  The game state, sharing the sub words of `puzzle`.
+     */
+    public static GameState readGuesses(DailyPuzzle puzzle, DataInput in) throws IOException {
+        String scramble = new String(readBytes(in), StandardCharsets.UTF_8);
+        int size = readVarInt(in);
+        if (size != puzzle.getSubWords().size()) {
+            throw new IOException("Mismatched number of sub words=[" + size + "], expect " + puzzle.getSubWords().size());
+        }
+        byte[] flags = new byte[(size + 7) / 8];
+        in.readFully(flags);
+        return new GameState(puzzle, scramble, BitSet.valueOf(flags));
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+}
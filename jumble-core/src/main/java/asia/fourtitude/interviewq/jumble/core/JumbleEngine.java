@@ -0,0 +1,1663 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class JumbleEngine {
+
+    /**
+     * Default size of the sub words generation pool. Half of the cores,
+     * so that it does not starve the (web) request threads.
+     */
+    public static final int DEFAULT_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Default length of seed word, from which sub words generation is
+     * executed in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10;
+
+    /**
+     * Default false positive rate of the word filter, see
+     * {@link #JumbleEngine(int, int, DictionarySource, Path, WordStorage, double)}.
+     */
+    public static final double DEFAULT_WORD_FILTER_RATE = 0.01;
+
+    /**
+     * Maximum edit distance of fuzzy matching. Beyond this, almost any short
+     * word is "close", and the search visits most of the word list.
+     */
+    public static final int MAX_FUZZY_DISTANCE = 3;
+
+    /**
+     * Length of the word of daily puzzle.
+     */
+    public static final int DAILY_PUZZLE_LENGTH = 6;
+
+    /**
+     * Minimum length of sub words of daily puzzle.
+     */
+    public static final int DAILY_PUZZLE_MIN_LENGTH = 3;
+
+    private static final Logger LOG = Logger.getLogger(JumbleEngine.class.getName());
+
+    /*
+     * Number of dictionary words per fork/join leaf task.
+     */
+    private static final int PARTITION_SIZE = 4096;
+
+    /*
+     * Number of random draws within a view, before counting its words.
+     */
+    private static final int RANDOM_VIEW_ATTEMPTS = 32;
+
+    /*
+     * A random word of any length is of a random length of 1 to this
+     * (uniformly, among the lengths having words), then a random word of
+     * that length.
+     */
+    private static final int RANDOM_MAX_LENGTH = 10;
+
+    private final int parallelThreshold;
+
+    /*
+     * Dedicated pool (not the common pool) for sub words generation.
+     * Null when parallelism is 1, i.e. always sequential.
+     */
+    private final ForkJoinPool subWordsPool;
+
+    private final DictionarySource source;
+
+    private final Path indexFile;
+
+    private final WordStorage storage;
+
+    /*
+     * False positive rate of the word filter, 0 for none.
+     */
+    private final double wordFilterRate;
+
+    /*
+     * The current dictionary. Queries read it once, and run to the end on
+     * that snapshot; reload() swaps in a new one.
+     */
+    private final AtomicReference<DictionarySnapshot> snapshot;
+
+    private final Object reloadLock;
+
+    /*
+     * View name -> definition, shared by the views of this engine, see
+     * withView(String).
+     */
+    private final ConcurrentMap<String, DictionaryView> views;
+
+    /*
+     * The view applied to the queries, null for the whole dictionary.
+     */
+    private final String view;
+
+    public JumbleEngine() {
+        this(DEFAULT_PARALLELISM, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param parallelism        The number of threads to generate sub words in parallel.
+     *                           1 means always sequential.
+     * @param parallelThreshold  The minimum length of seed word, to generate
+     *                           sub words in parallel.
+     */
+    public JumbleEngine(int parallelism, int parallelThreshold) {
+        this(parallelism, parallelThreshold, null);
+    }
+
+    /**
+     * @param parallelism        The number of threads to generate sub words in parallel.
+     *                           1 means always sequential.
+     * @param parallelThreshold  The minimum length of seed word, to generate
+     *                           sub words in parallel.
+     * @param indexFile          The index file (see {@link DictionaryFileBuilder})
+     *                           to map the dictionary from, instead of building it
+     *                           from the word list. Null to always build. A missing,
+     *                           corrupted or stale file falls back to building.
+     */
+    public JumbleEngine(int parallelism, int parallelThreshold, Path indexFile) {
+        this(parallelism, parallelThreshold, indexFile, WordStorage.ARENA);
+    }
+
+    /**
+     * @param parallelism        The number of threads to generate sub words in parallel.
+     *                           1 means always sequential.
+     * @param parallelThreshold  The minimum length of seed word, to generate
+     *                           sub words in parallel.
+     * @param indexFile          The index file, see {@link #JumbleEngine(int, int, Path)}.
+     *                           Only for {@link WordStorage#ARENA} and {@link WordStorage#OFF_HEAP},
+     *                           ignored otherwise.
+     * @param storage            The storage backend of the words.
+     */
+    public JumbleEngine(int parallelism, int parallelThreshold, Path indexFile, WordStorage storage) {
+        this(parallelism, parallelThreshold, DictionarySource.defaultWordList(), indexFile, storage);
+    }
+
+    /**
+     * @param parallelism        The number of threads to generate sub words in parallel.
+     *                           1 means always sequential.
+     * @param parallelThreshold  The minimum length of seed word, to generate
+     *                           sub words in parallel.
+     * @param source             The word list, see {@link #reload()}.
+     * @param indexFile          The index file, see {@link #JumbleEngine(int, int, Path)}.
+     *                           Only for {@link WordStorage#ARENA} and {@link WordStorage#OFF_HEAP},
+     *                           ignored otherwise.
+     * @param storage            The storage backend of the words.
+     */
+    public JumbleEngine(int parallelism, int parallelThreshold, DictionarySource source, Path indexFile, WordStorage storage) {
+        this(parallelism, parallelThreshold, source, indexFile, storage, DEFAULT_WORD_FILTER_RATE);
+    }
+
+    /**
+     * @param parallelism        The number of threads to generate sub words in parallel.
+     *                           1 means always sequential.
+     * @param parallelThreshold  The minimum length of seed word, to generate
+     *                           sub words in parallel.
+     * @param source             The word list, see {@link #reload()}.
+     * @param indexFile          The index file, see {@link #JumbleEngine(int, int, Path)}.
+     *                           Only for {@link WordStorage#ARENA} and {@link WordStorage#OFF_HEAP},
+     *                           ignored otherwise.
+     * @param storage            The storage backend of the words.
+     * @param wordFilterRate     The false positive rate of the Bloom filter of
+     *                           the words, checked before the lookup of {@link #exists(String)}:
+     *                           the lower, the more memory. 0 for no filter.
+     */
+    public JumbleEngine(int parallelism, int parallelThreshold, DictionarySource source, Path indexFile, WordStorage storage,
+            double wordFilterRate) {
+        this(newSubWordsPool(parallelism), parallelThreshold, source, indexFile, storage, wordFilterRate);
+    }
+
+    /**
+     * @param subWordsPool  The pool to generate sub words in parallel, shared
+     *                      by engines (see {@link DictionaryRegistry}), or
+     *                      null for always sequential.
+     */
+    JumbleEngine(ForkJoinPool subWordsPool, int parallelThreshold, DictionarySource source, Path indexFile, WordStorage storage,
+            double wordFilterRate) {
+        if (!(wordFilterRate >= 0 && wordFilterRate < 1)) {
+            throw new IllegalArgumentException("Invalid word filter rate=[" + wordFilterRate + "], expect in [0, 1)");
+        }
+        this.parallelThreshold = parallelThreshold;
+        this.subWordsPool = subWordsPool;
+        this.source = Objects.requireNonNull(source, "source must not be null");
+        this.indexFile = indexFile;
+        this.storage = storage == null ? WordStorage.ARENA : storage;
+        this.wordFilterRate = wordFilterRate;
+        this.snapshot = new AtomicReference<>();
+        this.reloadLock = new Object();
+        this.views = new ConcurrentHashMap<>();
+        this.view = null;
+        try {
+            this.snapshot.set(load(1, Collections.emptySet()));
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new UnsupportedOperationException("Failed to read the file.");
+        }
+        LOG.info("Loaded dictionary: " + getDictionaryStats());
+    }
+
+    /*
+     * The same engine (dictionary, views, pool), with `view` applied.
+     */
+    private JumbleEngine(JumbleEngine engine, String view) {
+        this.parallelThreshold = engine.parallelThreshold;
+        this.subWordsPool = engine.subWordsPool;
+        this.source = engine.source;
+        this.indexFile = engine.indexFile;
+        this.storage = engine.storage;
+        this.wordFilterRate = engine.wordFilterRate;
+        this.snapshot = engine.snapshot;
+        this.reloadLock = engine.reloadLock;
+        this.views = engine.views;
+        this.view = view;
+    }
+
+    /*
+     * Builds (or maps) a complete snapshot, not yet published, with the
+     * views resolved, and the sub words counts of `subWordCountKeys`
+     * computed ahead.
+     */
+    private DictionarySnapshot load(long version, Set<DictionarySnapshot.SubWordCountKey> subWordCountKeys) throws IOException {
+        long start = System.nanoTime();
+        Dictionary dictionary = loadDictionary(source.read());
+        WordFilter wordFilter = wordFilterRate > 0 ? WordFilter.of(dictionary, wordFilterRate) : null;
+        DictionaryStats stats = new DictionaryStats(version, source.toString(), dictionary.storage(),
+                dictionary.isMapped(), dictionary.size(), dictionary.storageBytes(),
+                dictionary.heapBytes(), dictionary.offHeapBytes(),
+                wordFilter == null ? 0 : wordFilter.sizeInBytes(),
+                wordFilter == null ? 0 : wordFilter.expectedFalsePositiveRate(),
+                (System.nanoTime() - start) / 1_000_000);
+        DictionarySnapshot next = new DictionarySnapshot(version, dictionary, wordFilter, stats);
+        for (DictionaryView definition : views.values()) {
+            next.addView(definition.getName(), definition.resolve(dictionary));
+        }
+        for (DictionarySnapshot.SubWordCountKey key : subWordCountKeys) {
+            next.subWordCountIndex(key.view, key.length, key.minLength);
+        }
+        return next;
+    }
+
+    private Dictionary loadDictionary(byte[] words) throws IOException {
+        if (indexFile != null && storage == WordStorage.FRONT_CODED) {
+            LOG.warning("Index file=[" + indexFile + "] ignored, only for storage=[" + WordStorage.ARENA + "] or ["
+                    + WordStorage.OFF_HEAP + "]");
+        } else if (indexFile != null) {
+            try {
+                return DictionaryFile.open(indexFile, words.length, DictionaryFile.checksum(words), storage);
+            } catch (NoSuchFileException e) {
+                LOG.warning("Missing index file=[" + indexFile + "], building from the word list");
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Unusable index file=[" + indexFile + "], building from the word list", e);
+            }
+        }
+        long start = System.nanoTime();
+        String[] sorted = WordListParser.parse(words, subWordsPool);
+        LOG.info("Parsed word list source=[" + source + "], bytes=[" + words.length + "], words=[" + sorted.length
+                + "], in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return Dictionary.of(sorted, storage);
+    }
+
+    /*
+     * @return  The pool of `parallelism` threads, null when 1 (always sequential).
+     */
+    static ForkJoinPool newSubWordsPool(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism=[" + parallelism + "], expect positive integer");
+        }
+        if (parallelism == 1) {
+            return null;
+        }
+        AtomicInteger seq = new AtomicInteger();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("jumble-subwords-" + seq.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Reads the word list again, and builds a complete new dictionary (and
+     * the sub words counts in use) on the calling thread. Then
+     * publishes it with one atomic swap: queries never wait, the ones in
+     * flight finish on the previous dictionary. Games already created keep
+     * their sub words, see {@link GameState#getDictionaryVersion()}.
+     *
+     * Reloads are serialized. On failure, the current dictionary stays.
+     *
+     * @return  The figures of the new dictionary.
+     * @throws IOException  When the word list cannot be read.
+     */
+    public DictionaryStats reload() throws IOException {
+        synchronized (reloadLock) {
+            DictionarySnapshot current = snapshot.get();
+            DictionarySnapshot next = load(current.version() + 1, current.subWordCountKeys());
+            snapshot.set(next);
+            LOG.info("Reloaded dictionary: " + next.stats());
+            return next.stats();
+        }
+    }
+
+    /**
+     * Adds (or replaces) the view `definition` of the dictionary, to apply
+     * with {@link #withView(String)}. Its side file is read again on every
+     * {@link #reload()}.
+     *
+     * @return  The number of words in the view.
+     * @throws IOException  When the side file cannot be read.
+     */
+    public int defineView(DictionaryView definition) throws IOException {
+        synchronized (reloadLock) {
+            DictionarySnapshot current = snapshot.get();
+            BitSet ids = definition.resolve(current.dictionary());
+            views.put(definition.getName(), definition);
+            current.addView(definition.getName(), ids);
+            LOG.info("Defined view: " + definition + ", words=[" + ids.cardinality() + "] of=["
+                    + current.dictionary().size() + "], bytes=[" + (ids.size() / 8) + "]");
+            return ids.cardinality();
+        }
+    }
+
+    /**
+     * @return  The names of the views defined, see {@link #defineView(DictionaryView)}.
+     */
+    public Set<String> getViewNames() {
+        return Collections.unmodifiableSet(views.keySet());
+    }
+
+    /**
+     * @return  The view applied to the queries, null for the whole dictionary.
+     */
+    public String getView() {
+        return view;
+    }
+
+    /**
+     * Every query of the engine returned (words, counts, sub words, games,
+     * random word, exists) only sees the words of the view: the word ids of
+     * the indexes and of the scans are masked by the bitset of the view,
+     * nothing is copied. It shares the dictionary (and its reloads) with
+     * this engine.
+     *
+     * @param name  The name of the view (case insensitive), null for the whole dictionary.
+     * @return  The engine applying the view.
+     * @throws IllegalArgumentException  When no such view, see {@link #defineView(DictionaryView)}.
+     */
+    public JumbleEngine withView(String name) {
+        if (name == null) {
+            return this.view == null ? this : new JumbleEngine(this, null);
+        }
+        String normalized = name.trim().toLowerCase(Locale.ROOT);
+        if (!views.containsKey(normalized)) {
+            throw new IllegalArgumentException("Unknown view=[" + name + "]");
+        }
+        return normalized.equals(this.view) ? this : new JumbleEngine(this, normalized);
+    }
+
+    /**
+     * @return  Where the word list is read from.
+     */
+    public DictionarySource getSource() {
+        return source;
+    }
+
+    /**
+     * @return  The length of the longest word of the current dictionary.
+     */
+    public int getMaxWordLength() {
+        return snapshot.get().dictionary().maxLength();
+    }
+
+    /**
+     * @return  The figures (version, storage, memory, load time) of the current dictionary.
+     */
+    public DictionaryStats getDictionaryStats() {
+        return snapshot.get().stats();
+    }
+
+    /*
+     * @return  true if `id` in the `view`, always when no view.
+     */
+    static boolean in(BitSet view, int id) {
+        return view == null || view.get(id);
+    }
+
+    /*
+     * @return  The `ids` in the `view`, `ids` itself when no view.
+     */
+    static int[] filter(int[] ids, BitSet view) {
+        if (view == null) {
+            return ids;
+        }
+        int size = 0;
+        int[] filtered = new int[ids.length];
+        for (int id : ids) {
+            if (view.get(id)) {
+                filtered[size++] = id;
+            }
+        }
+        return size == ids.length ? ids : Arrays.copyOf(filtered, size);
+    }
+
+    /*
+     * @return  The ids [from, to) in the `view`.
+     */
+    private static int[] filter(BitSet view, int from, int to) {
+        int[] ids = new int[view.get(from, to).cardinality()];
+        int ix = 0;
+        for (int id = view.nextSetBit(from); id >= 0 && id < to; id = view.nextSetBit(id + 1)) {
+            ids[ix++] = id;
+        }
+        return ids;
+    }
+
+    /**
+     * From the input `word`, produces/generates a copy which has the same
+     * letters, but in different ordering.
+     *
+     * Example: from "elephant" to "aeehlnpt".
+     *
+     * Evaluation/Grading:
+     * a) pass unit test: JumbleEngineTest#scramble()
+     * b) scrambled letters/output must not be the same as input
+     *
+     * @param word  The input word to scramble the letters.
+     * @return  The scrambled output/letters.
+     */
+    public String scramble(String word) {
+        /*
+         * Refer to the method's Javadoc (above) and implement accordingly.
+         * Must pass the corresponding unit tests.
+         */
+
+        return scramble(word, new Random());
+    }
+
+    private static String scramble(String word, Random random) {
+        if(null == word || word.isEmpty()){
+            throw new UnsupportedOperationException("Scramble word must not null");
+        }
+
+        boolean sameWord = true;
+        boolean finish = false;
+        List<Integer> sameIndex = new ArrayList<Integer>();
+        StringBuilder scrambled = new StringBuilder();
+
+        while(sameWord){
+            while(!finish){
+                int index = random.nextInt(word.length());
+                if(!sameIndex.contains(index)){
+                    scrambled.append(word.charAt(index));
+                    sameIndex.add(index);
+                }
+                if(sameIndex.size() == word.length()) finish = true;
+            }
+
+            if(!word.equals(scrambled.toString())){
+                sameWord = false;
+            }else{
+                sameIndex = new ArrayList<>();
+                scrambled = new StringBuilder();
+            }
+        }
+
+        return scrambled.toString();
+    }
+
+    /**
+     * Retrieves the palindrome words from the internal
+     * word list/dictionary ("words.txt" on the classpath).
+     *
+     * Word of single letter is not considered as valid palindrome word.
+     *
+     * Examples: "eye", "deed", "level".
+     *
+     * Evaluation/Grading:
+     * a) able to access/use resource from classpath
+     * b) using inbuilt Collections
+     * c) using "try-with-resources" functionality/statement
+     * d) pass unit test: JumbleEngineTest#palindrome()
+     *
+     * @return  The list of palindrome words found in system/engine.
+     * @see https://www.google.com/search?q=palindrome+meaning
+     */
+    public Collection<String> retrievePalindromeWords() {
+        /*
+         * Refer to the method's Javadoc (above) and implement accordingly.
+         * Must pass the corresponding unit tests.
+         */
+        Collection<String> palindromes = new ArrayList<>();
+        DictionarySnapshot current = snapshot.get();
+        WordStore store = current.dictionary().words();
+        BitSet view = current.view(this.view);
+        for (int id = 0; id < store.size(); id += 1) {
+            if (!in(view, id)) continue;
+            int len = store.length(id);
+            if (len == 1) continue;
+            int lo = 0;
+            int hi = len - 1;
+            while (lo < hi && store.charAt(id, lo) == store.charAt(id, hi)) {
+                lo += 1;
+                hi -= 1;
+            }
+            if (lo >= hi) {
+                palindromes.add(store.word(id));
+            }
+        }
+
+        return palindromes;
+    }
+
+    /**
+     * Picks one word randomly from internal word list.
+     *
+     * Evaluation/Grading:
+     * a) pass unit test: JumbleEngineTest#randomWord()
+     * b) provide a good enough implementation, if not able to provide a fast lookup
+     * c) bonus points, if able to implement a fast lookup/scheme
+     *
+     * @param length  The word picked, must of length.
+     *                When length is null, then return random word of any length:
+     *                a length of 1 to 10 is picked first (each with the same
+     *                chance), then a word of that length.
+     * @return  One of the word (randomly) from word list.
+     *          Or null if none matching.
+     */
+    public String pickOneRandomWord(Integer length) {
+        /*
+         * Refer to the method's Javadoc (above) and implement accordingly.
+         * Must pass the corresponding unit tests.
+         */
+        Random random = ThreadLocalRandom.current();
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        BitSet view = current.view(this.view);
+        if (length != null) {
+            int id = randomId(dictionary, view, length, random);
+            return id < 0 ? null : dictionary.word(id);
+        }
+        // draws the lengths without replacement, until one having words
+        List<Integer> lengths = new ArrayList<>();
+        for (int len = 1; len <= RANDOM_MAX_LENGTH; len += 1) {
+            lengths.add(len);
+        }
+        while (!lengths.isEmpty()) {
+            int id = randomId(dictionary, view, lengths.remove(random.nextInt(lengths.size())), random);
+            if (id >= 0) {
+                return dictionary.word(id);
+            }
+        }
+        return null;
+    }
+
+    /*
+     * @return  The id of a random word of `length` (any length when null)
+     *          in the `view`, or -1 if none. Within a view, draws until a
+     *          word of the view, then falls back to counting the words of
+     *          the view, for the views keeping few words.
+     */
+    private static int randomId(Dictionary dictionary, BitSet view, Integer length, Random random) {
+        int count = length == null ? dictionary.size() : dictionary.countOfLength(length);
+        if (count == 0) {
+            return -1;
+        }
+        for (int attempt = 0; attempt < (view == null ? 1 : RANDOM_VIEW_ATTEMPTS); attempt += 1) {
+            int pos = random.nextInt(count);
+            int id = length == null ? pos : dictionary.idOfLength(length, pos);
+            if (in(view, id)) {
+                return id;
+            }
+        }
+        List<Integer> ids = new ArrayList<>();
+        for (int pos = 0; pos < count; pos += 1) {
+            int id = length == null ? pos : dictionary.idOfLength(length, pos);
+            if (view.get(id)) {
+                ids.add(id);
+            }
+        }
+        return ids.isEmpty() ? -1 : ids.get(random.nextInt(ids.size()));
+    }
+
+    /**
+     * Checks if the `word` exists in internal word list.
+     * Matching is case insensitive.
+     *
+     * Evaluation/Grading:
+     * a) pass related unit tests in "JumbleEngineTest"
+     * b) provide a good enough implementation, if not able to provide a fast lookup
+     * c) bonus points, if able to implement a fast lookup/scheme
+     *
+     * @param word  The input word to check.
+     * @return  true if `word` exists in internal word list.
+     */
+    public boolean exists(String word) {
+        /*
+         * Refer to the method's Javadoc (above) and implement accordingly.
+         * Must pass the corresponding unit tests.
+         */
+        if (word == null) {
+            return false;
+        }
+        DictionarySnapshot current = snapshot.get();
+        String normalized = word.toLowerCase(Locale.ROOT);
+        WordFilter wordFilter = current.wordFilter();
+        if (wordFilter != null && !wordFilter.mightContain(normalized)) {
+            return false;
+        }
+        int id = current.dictionary().indexOf(normalized);
+        return id >= 0 && in(current.view(this.view), id);
+    }
+
+    /**
+     * Checks the input `word` against the Bloom filter of the words only: a
+     * fast negative path in front of the lookups elsewhere (e.g. before
+     * loading a game to check a guess).
+     * Matching is case insensitive.
+     *
+     * @param word  The input word to check.
+     * @return  false if `word` is certainly not in internal word list, true
+     *          if it may be, always when the filter is disabled.
+     */
+    public boolean mightExist(String word) {
+        if (word == null) {
+            return false;
+        }
+        WordFilter wordFilter = snapshot.get().wordFilter();
+        return wordFilter == null || wordFilter.mightContain(word.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * As {@link #mightExist(String)}, against the dictionary of the given
+     * version only, e.g. the one a game was created from: a certain "no"
+     * then means `word` is not one of the game's sub words either.
+     *
+     * @param word               The input word to check.
+     * @param dictionaryVersion  The version of the dictionary, see {@link DictionaryStats#getVersion()}.
+     * @return  false if `word` is certainly not in the word list of
+     *          `dictionaryVersion`, true if it may be, always when the
+     *          current dictionary is of another version (reloaded since).
+     */
+    public boolean mightExist(String word, long dictionaryVersion) {
+        if (word == null) {
+            return false;
+        }
+        DictionarySnapshot current = snapshot.get();
+        return current.version() != dictionaryVersion
+                || current.wordFilter() == null
+                || current.wordFilter().mightContain(word.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Finds all the words from internal word list which begins with the
+     * input `prefix`.
+     * Matching is case insensitive.
+     *
+     * Invalid `prefix` (null, empty string, blank string, non letter) will
+     * return empty list.
+     *
+     * Evaluation/Grading:
+     * a) pass related unit tests in "JumbleEngineTest"
+     * b) provide a good enough implementation, if not able to provide a fast lookup
+     * c) bonus points, if able to implement a fast lookup/scheme
+     *
+     * @param prefix  The prefix to match.
+     * @return  The list of words matching the prefix.
+     */
+    public Collection<String> wordsMatchingPrefix(String prefix) {
+        /*
+         * Refer to the method's Javadoc (above) and implement accordingly.
+         * Must pass the corresponding unit tests.
+         */
+
+        return wordsMatchingPrefix(prefix, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Same as {@link #wordsMatchingPrefix(String)}, but only returns the
+     * page of words from position `offset`, of at most `limit` words.
+     * Cost is of the page size, not of all the words matching.
+     *
+     * @param prefix  The prefix to match.
+     * @param offset  The position (0 based) of first word to return.
+     * @param limit   The maximum number of words to return.
+     * @return  The page of words matching the prefix.
+     */
+    public Collection<String> wordsMatchingPrefix(String prefix, int offset, int limit) {
+        return wordsMatchingPrefixPage(prefix, offset, limit).getWords();
+    }
+
+    /**
+     * Same as {@link #wordsMatchingPrefix(String, int, int)}, with the
+     * total number of words matching, from the same dictionary.
+     *
+     * @param prefix  The prefix to match.
+     * @param offset  The position (0 based) of first word to return.
+     * @param limit   The maximum number of words to return.
+     * @return  The page of words matching the prefix, and their total.
+     */
+    public WordPage wordsMatchingPrefixPage(String prefix, int offset, int limit) {
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        int[] range = prefixRange(dictionary, prefix);
+        BitSet view = current.view(this.view);
+        if (view != null) {
+            return page(dictionary, filter(view, range[0], range[1]), offset, limit);
+        }
+        List<String> words = new ArrayList<>();
+        if (offset >= 0 && limit > 0) {
+            long end = Math.min((long) range[0] + offset + limit, range[1]);
+            for (long id = (long) range[0] + offset; id < end; id += 1) {
+                words.add(dictionary.word((int) id));
+            }
+        }
+        return new WordPage(words, range[1] - range[0]);
+    }
+
+    /**
+     * @param prefix  The prefix to match.
+     * @return  The number of words matching the prefix.
+     */
+    public int countWordsMatchingPrefix(String prefix) {
+        DictionarySnapshot current = snapshot.get();
+        int[] range = prefixRange(current.dictionary(), prefix);
+        BitSet view = current.view(this.view);
+        return view == null ? range[1] - range[0] : view.get(range[0], range[1]).cardinality();
+    }
+
+    private static int[] prefixRange(Dictionary dictionary, String prefix) {
+        if (null == prefix || prefix.isEmpty() || !prefix.matches("^[A-Za-z]+$")) {
+            return new int[] { 0, 0 };
+        }
+        return dictionary.prefixRange(prefix.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Finds all the words from internal word list which ends with the
+     * input `suffix`.
+     * Matching is case insensitive.
+     *
+     * Invalid `suffix` (null, empty string, blank string, non letter) will
+     * return empty list.
+     *
+     * The words are ordered by their endings (as if reversed), so that
+     * words with the longest common ending are next to each other.
+     * Example: "tion" gives "libation", "probation", "approbation", ...
+     *
+     * @param suffix  The suffix to match.
+     * @return  The list of words matching the suffix.
+     */
+    public Collection<String> wordsMatchingSuffix(String suffix) {
+        return wordsMatchingSuffix(suffix, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Same as {@link #wordsMatchingSuffix(String)}, but only returns the
+     * page of words from position `offset`, of at most `limit` words.
+     * Cost is of the page size, not of all the words matching.
+     *
+     * @param suffix  The suffix to match.
+     * @param offset  The position (0 based) of first word to return.
+     * @param limit   The maximum number of words to return.
+     * @return  The page of words matching the suffix.
+     */
+    public Collection<String> wordsMatchingSuffix(String suffix, int offset, int limit) {
+        return wordsMatchingSuffixPage(suffix, offset, limit).getWords();
+    }
+
+    /**
+     * Same as {@link #wordsMatchingSuffix(String, int, int)}, with the
+     * total number of words matching, from the same dictionary.
+     *
+     * @param suffix  The suffix to match.
+     * @param offset  The position (0 based) of first word to return.
+     * @param limit   The maximum number of words to return.
+     * @return  The page of words matching the suffix, and their total.
+     */
+    public WordPage wordsMatchingSuffixPage(String suffix, int offset, int limit) {
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        int[] range = suffixRange(dictionary, suffix);
+        BitSet view = current.view(this.view);
+        if (view != null) {
+            return page(dictionary, suffixIds(dictionary, view, range), offset, limit);
+        }
+        List<String> words = new ArrayList<>();
+        if (offset >= 0 && limit > 0) {
+            SuffixIndex index = dictionary.suffixIndex();
+            long end = Math.min((long) range[0] + offset + limit, range[1]);
+            for (long pos = (long) range[0] + offset; pos < end; pos += 1) {
+                words.add(dictionary.word(index.idAt((int) pos)));
+            }
+        }
+        return new WordPage(words, range[1] - range[0]);
+    }
+
+    /**
+     * @param suffix  The suffix to match.
+     * @return  The number of words matching the suffix.
+     */
+    public int countWordsMatchingSuffix(String suffix) {
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        int[] range = suffixRange(dictionary, suffix);
+        BitSet view = current.view(this.view);
+        return view == null ? range[1] - range[0] : suffixIds(dictionary, view, range).length;
+    }
+
+    private static int[] suffixRange(Dictionary dictionary, String suffix) {
+        String normalized = Dictionary.normalize(suffix);
+        if (normalized.isEmpty() || !normalized.matches("^[a-z]+$")) {
+            return new int[] { 0, 0 };
+        }
+        return dictionary.suffixIndex().range(normalized);
+    }
+
+    /*
+     * The word ids at the positions `range` of the suffix index, in the `view`.
+     */
+    private static int[] suffixIds(Dictionary dictionary, BitSet view, int[] range) {
+        SuffixIndex index = dictionary.suffixIndex();
+        int[] ids = new int[range[1] - range[0]];
+        for (int pos = range[0]; pos < range[1]; pos += 1) {
+            ids[pos - range[0]] = index.idAt(pos);
+        }
+        return filter(ids, view);
+    }
+
+    /**
+     * Finds all the words from internal word list which contains the
+     * input `fragment` anywhere (beginning, middle or end).
+     * Matching is case insensitive.
+     *
+     * Invalid `fragment` (null, empty string, blank string, non letter)
+     * will return empty list.
+     *
+     * @param fragment  The fragment to match.
+     * @return  The list of words containing the fragment, in word list order.
+     */
+    public Collection<String> wordsContaining(String fragment) {
+        List<String> words = new ArrayList<>();
+        String normalized = Dictionary.normalize(fragment);
+        if (normalized.isEmpty() || !normalized.matches("^[a-z]+$")) {
+            return words;
+        }
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        BitSet view = current.view(this.view);
+        WordStore store = dictionary.words();
+        if (normalized.length() < TrigramIndex.GRAM) {
+            // too short for trigrams
+            for (int id = 0; id < store.size(); id += 1) {
+                if (in(view, id) && store.contains(id, normalized)) {
+                    words.add(store.word(id));
+                }
+            }
+            return words;
+        }
+        for (int id : dictionary.trigramIndex().candidates(normalized)) {
+            if (in(view, id) && (normalized.length() == TrigramIndex.GRAM || store.contains(id, normalized))) {
+                words.add(store.word(id));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Finds all the words from internal word list that is matching
+     * the searching criteria.
+     *
+     * `startChar` and `endChar` must be 'a' to 'z' only. And case insensitive.
+     * `length`, if have value, must be positive integer (>= 1).
+     *
+     * Words are filtered using `startChar` and `endChar` first.
+     * Then apply `length` on the result, to produce the final output.
+     *
+     * Must have at least one valid value out of 3 inputs
+     * (`startChar`, `endChar`, `length`) to proceed with searching.
+     * Otherwise, return empty list.
+     *
+     * Evaluation/Grading:
+     * a) pass related unit tests in "JumbleEngineTest"
+     * b) provide a good enough implementation, if not able to provide a fast lookup
+     * c) bonus points, if able to implement a fast lookup/scheme
+     *
+     * @param startChar  The first character of the word to search for.
+     * @param endChar    The last character of the word to match with.
+     * @param length     The length of the word to match.
+     * @return  The list of words matching the searching criteria.
+     */
+    public Collection<String> searchWords(Character startChar, Character endChar, Integer length) {
+        /*
+         * Refer to the method's Javadoc (above) and implement accordingly.
+         * Must pass the corresponding unit tests.
+         */
+        return searchWords(startChar, endChar, length, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Same as {@link #searchWords(Character, Character, Integer)}, but only
+     * returns the page of words from position `offset`, of at most `limit`
+     * words. The words are matched on the pattern index, and only the words
+     * of the page are materialized.
+     *
+     * @param startChar  The first character of the word to search for.
+     * @param endChar    The last character of the word to match with.
+     * @param length     The length of the word to match.
+     * @param offset     The position (0 based) of first word to return.
+     * @param limit      The maximum number of words to return.
+     * @return  The page of words matching the searching criteria.
+     */
+    public Collection<String> searchWords(Character startChar, Character endChar, Integer length, int offset, int limit) {
+        return searchWordsPage(startChar, endChar, length, offset, limit).getWords();
+    }
+
+    /**
+     * Same as {@link #searchWords(Character, Character, Integer, int, int)},
+     * with the total number of words matching, from the same dictionary.
+     *
+     * @param startChar  The first character of the word to search for.
+     * @param endChar    The last character of the word to match with.
+     * @param length     The length of the word to match.
+     * @param offset     The position (0 based) of first word to return.
+     * @param limit      The maximum number of words to return.
+     * @return  The page of words matching the searching criteria, and their total.
+     */
+    public WordPage searchWordsPage(Character startChar, Character endChar, Integer length, int offset, int limit) {
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        return page(dictionary, filter(searchIds(dictionary, startChar, endChar, length), current.view(this.view)),
+                offset, limit);
+    }
+
+    /**
+     * @param startChar  The first character of the word to search for.
+     * @param endChar    The last character of the word to match with.
+     * @param length     The length of the word to match.
+     * @return  The number of words matching the searching criteria.
+     */
+    public int countSearchWords(Character startChar, Character endChar, Integer length) {
+        DictionarySnapshot current = snapshot.get();
+        return filter(searchIds(current.dictionary(), startChar, endChar, length), current.view(this.view)).length;
+    }
+
+    /*
+     * Translates the criteria to a pattern, e.g. ('a', 'e', 5) to "a???e",
+     * and ('a', 'e', null) to "a*e".
+     */
+    private static int[] searchIds(Dictionary dictionary, Character startChar, Character endChar, Integer length) {
+        int[] none = new int[0];
+        if (null == startChar && null == endChar && null == length) {
+            return none;
+        }
+        String start = null == startChar ? "" : String.valueOf(startChar).toLowerCase(Locale.ROOT);
+        String end = null == endChar ? "" : String.valueOf(endChar).toLowerCase(Locale.ROOT);
+        if (!start.matches("^[a-z]?$") || !end.matches("^[a-z]?$")) {
+            return none;
+        }
+        PatternIndex index = dictionary.patternIndex();
+        if (null != length) {
+            if (length <= 0 || length > PatternIndex.MAX_PATTERN_LENGTH) {
+                return none;
+            }
+            char[] pattern = new char[length];
+            Arrays.fill(pattern, PatternIndex.ONE);
+            if (!start.isEmpty()) {
+                pattern[0] = start.charAt(0);
+            }
+            if (!end.isEmpty()) {
+                if (length == 1 && !start.isEmpty() && !start.equals(end)) {
+                    return none;
+                }
+                pattern[length - 1] = end.charAt(0);
+            }
+            return index.match(new String(pattern));
+        }
+        if (end.isEmpty()) {
+            int[] range = dictionary.prefixRange(start);
+            int[] ids = new int[range[1] - range[0]];
+            for (int ix = 0; ix < ids.length; ix += 1) {
+                ids[ix] = range[0] + ix;
+            }
+            return ids;
+        }
+        int[] ids = index.match(start + PatternIndex.ANY + end);
+        int single = start.equals(end) ? dictionary.indexOf(start) : -1;
+        if (single >= 0) {
+            // "a*a" needs 2 letters at least, while "a" both starts and ends with 'a'
+            int[] merged = new int[ids.length + 1];
+            merged[0] = single;
+            System.arraycopy(ids, 0, merged, 1, ids.length);
+            return merged;
+        }
+        return ids;
+    }
+
+    private static WordPage page(Dictionary dictionary, int[] ids, int offset, int limit) {
+        List<String> words = new ArrayList<>();
+        if (offset >= 0 && limit > 0) {
+            long end = Math.min((long) offset + limit, ids.length);
+            for (long pos = offset; pos < end; pos += 1) {
+                words.add(dictionary.word(ids[(int) pos]));
+            }
+        }
+        return new WordPage(words, ids.length);
+    }
+
+    /**
+     * Finds all the words from internal word list matching the positional
+     * (crossword style) `pattern`.
+     * Matching is case insensitive.
+     *
+     * Wildcards:
+     * '?' matches exactly one letter, e.g. "?a??e" (5 letters, 'a' at 2nd, 'e' at 5th).
+     * '*' matches any run of letters (including none), e.g. "st*ng", "c?t*s".
+     *
+     * Invalid `pattern` (null, empty string, blank string, other than
+     * letters and wildcards) will return empty list.
+     *
+     * @param pattern  The pattern to match.
+     * @return  The list of words matching the pattern, in word list order.
+     */
+    public Collection<String> wordsMatchingPattern(String pattern) {
+        List<String> words = new ArrayList<>();
+        String normalized = Dictionary.normalize(pattern);
+        if (!PatternIndex.isValid(normalized)) {
+            return words;
+        }
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        for (int id : filter(dictionary.patternIndex().match(normalized), current.view(this.view))) {
+            words.add(dictionary.word(id));
+        }
+        return words;
+    }
+
+    /**
+     * Finds all the words from internal word list which are exact anagrams
+     * of `word`, i.e. using all the same letters (in any order).
+     * Matching is case insensitive. The `word` itself is included, if it
+     * exists in internal word list.
+     *
+     * Example: from "Least" the output: least, slate, stale, steal, tales, teals
+     *
+     * Invalid `word` (null, empty string, blank string, non letter) will
+     * return empty list.
+     *
+     * @param word  The input word.
+     * @return  The list of anagrams, in word list order.
+     */
+    public Collection<String> anagramsOf(String word) {
+        List<String> words = new ArrayList<>();
+        String normalized = Dictionary.normalize(word);
+        if (normalized.isEmpty() || !normalized.matches("^[a-z]+$")) {
+            return words;
+        }
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        for (int id : filter(dictionary.anagramIndex().lookup(AnagramIndex.signature(normalized)), current.view(this.view))) {
+            words.add(dictionary.word(id));
+        }
+        return words;
+    }
+
+    /**
+     * Finds the anagrams (see {@link #anagramsOf(String)}) for each of the
+     * input `words`. Inputs of the same letters share one lookup.
+     *
+     * @param words  The input words.
+     * @return  The anagrams of each input word, in the iteration order of `words`.
+     */
+    public Map<String, Collection<String>> anagramsOf(Collection<String> words) {
+        Map<String, Collection<String>> result = new LinkedHashMap<>();
+        if (words == null) {
+            return result;
+        }
+        Map<String, Collection<String>> bySignature = new HashMap<>();
+        for (String word : words) {
+            if (word == null || result.containsKey(word)) {
+                continue;
+            }
+            String normalized = Dictionary.normalize(word);
+            String signature = AnagramIndex.signature(normalized);
+            Collection<String> anagrams = bySignature.get(signature);
+            if (anagrams == null) {
+                anagrams = anagramsOf(normalized);
+                bySignature.put(signature, anagrams);
+            }
+            result.put(word, anagrams);
+        }
+        return result;
+    }
+
+    /**
+     * Finds all the words from internal word list within edit (Levenshtein)
+     * distance `maxDistance` of `word`, i.e. reachable by at most that many
+     * single letter insertions, deletions or substitutions.
+     * Matching is case insensitive. The `word` itself (distance 0) is
+     * included, if it exists in internal word list.
+     *
+     * Example: from "tomatoe" within 1 the output: tomato, tomatoes
+     *
+     * Invalid `word` (null, empty string, blank string, non letter), or
+     * `maxDistance` not in 0 to {@link #MAX_FUZZY_DISTANCE}, will return
+     * empty list.
+     *
+     * @param word         The input word.
+     * @param maxDistance  The maximum edit distance (inclusive).
+     * @return  The list of words within the distance, in word list order.
+     */
+    public Collection<String> wordsWithinDistance(String word, int maxDistance) {
+        List<String> words = new ArrayList<>();
+        String normalized = Dictionary.normalize(word);
+        if (normalized.isEmpty() || !normalized.matches("^[a-z]+$")
+                || maxDistance < 0 || maxDistance > MAX_FUZZY_DISTANCE) {
+            return words;
+        }
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        for (int id : filter(dictionary.fuzzyMatcher().search(normalized, maxDistance), current.view(this.view))) {
+            words.add(dictionary.word(id));
+        }
+        return words;
+    }
+
+    /**
+     * Generates all possible combinations of smaller/sub words using the
+     * letters from input word.
+     *
+     * The `minLength` set the minimum length of sub word that is considered
+     * as acceptable word.
+     *
+     * If length of input `word` is less than `minLength`, then return empty list.
+     *
+     * The sub words must exist in internal word list.
+     *
+     * Example: From "yellow" and `minLength` = 3, the output sub words:
+     *     low, lowly, lye, ole, owe, owl, well, welly, woe, yell, yeow, yew, yowl
+     *
+     * Evaluation/Grading:
+     * a) pass related unit tests in "JumbleEngineTest"
+     * b) provide a good enough implementation, if not able to provide a fast lookup
+     * c) bonus points, if able to implement a fast lookup/scheme
+     *
+     * @param word       The input word to use as base/seed.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     *                   Expects positive integer.
+     *                   Default is 3.
+     * @return  The list of sub words constructed from input `word`.
+     */
+    public Collection<String> generateSubWords(String word, Integer minLength) {
+        /*
+         * Refer to the method's Javadoc (above) and implement accordingly.
+         * Must pass the corresponding unit tests.
+         */
+
+        Collection<String> generatedSubWords = new ArrayList<>();
+
+        // Validate input
+        if (word == null || word.trim().isEmpty() || !word.matches("^[A-Za-z]+$")) {
+            return generatedSubWords;
+        }
+
+        if (minLength == null) {
+            minLength = 3;
+        }
+
+        if (word.length() < minLength || minLength < 1) {
+            return generatedSubWords;
+        }
+
+        boolean parallel = this.subWordsPool != null && word.length() >= this.parallelThreshold;
+        DictionarySnapshot current = snapshot.get();
+        return collectSubWords(current.dictionary(), current.view(this.view), word, minLength, parallel);
+    }
+
+    /**
+     * Same as {@link #generateSubWords(String, Integer)}, but only returns
+     * the page of sub words from position `offset`, of at most `limit` words.
+     * The sub words of a short word are found through the anagram index,
+     * without scanning the word list. See {@link #countSubWords(String, Integer)}
+     * for the total.
+     *
+     * @param word       The input word to use as base/seed.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     *                   Default is 3.
+     * @param offset     The position (0 based) of first word to return.
+     * @param limit      The maximum number of words to return.
+     * @return  The page of sub words constructed from input `word`.
+     */
+    public Collection<String> generateSubWords(String word, Integer minLength, int offset, int limit) {
+        return generateSubWordsPage(word, minLength, offset, limit).getWords();
+    }
+
+    /**
+     * Same as {@link #generateSubWords(String, Integer, int, int)}, with
+     * the total number of sub words, from the same dictionary.
+     *
+     * @param word       The input word to use as base/seed.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     *                   Default is 3.
+     * @param offset     The position (0 based) of first word to return.
+     * @param limit      The maximum number of words to return.
+     * @return  The page of sub words constructed from input `word`, and their total.
+     */
+    public WordPage generateSubWordsPage(String word, Integer minLength, int offset, int limit) {
+        int min = minLength == null ? 3 : minLength;
+        if (!isValidSeed(word, min)) {
+            return new WordPage(new ArrayList<>(), 0);
+        }
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        return page(dictionary, subWordIds(dictionary, current.view(this.view), Dictionary.normalize(word), min),
+                offset, limit);
+    }
+
+    /*
+     * The word ids (ascending) of the sub words of `seed` (normalized),
+     * excluding itself. Through the anagram index while the sub-multisets
+     * of the seed (the product of (run of a same letter + 1), so
+     * exponential in the length of the seed) are fewer than the words,
+     * else by scanning the words.
+     */
+    private static int[] subWordIds(Dictionary dictionary, BitSet view, String seed, int minLength) {
+        if (SubWordCountIndex.subMultisets(seed) <= dictionary.size()) {
+            return SubWordCountIndex.subWordIds(dictionary, view, seed, minLength);
+        }
+        WordStore store = dictionary.words();
+        int[] seedCounts = letterCounts(seed);
+        int[] counts = new int[26];
+        BitSet hits = new BitSet(dictionary.size());
+        for (int id = 0; id < dictionary.size(); id += 1) {
+            if (!in(view, id)) continue;
+            int len = store.length(id);
+            if (len < minLength || len > seed.length()) continue;
+            if (store.equals(id, seed)) continue; // Don't include original word
+            if (canFormFromWord(store, id, len, seedCounts, counts)) {
+                hits.set(id);
+            }
+        }
+        return hits.stream().toArray();
+    }
+
+    /**
+     * Generates the sub words for each of the input `words` in bulk. The
+     * seed words are spread across the sub words generation pool.
+     *
+     * @param words      The input words to use as base/seed.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     *                   Default is 3.
+     * @return  The sub words of each seed word, in the iteration order of `words`.
+     *          Same output as {@link #generateSubWords(String, Integer)} for each seed.
+     */
+    public Map<String, Collection<String>> generateSubWordsInBulk(Collection<String> words, Integer minLength) {
+        Map<String, Collection<String>> result = new LinkedHashMap<>();
+        if (words == null || words.isEmpty()) {
+            return result;
+        }
+        final int min = minLength == null ? 3 : minLength;
+
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        BitSet view = current.view(this.view);
+        List<String> seeds = new ArrayList<>(new LinkedHashSet<>(words));
+        List<Collection<String>> subWords;
+        if (this.subWordsPool == null || seeds.size() == 1) {
+            subWords = new ArrayList<>();
+            for (String seed : seeds) {
+                subWords.add(isValidSeed(seed, min) ? collectSubWords(dictionary, view, seed, min, false) : new ArrayList<>());
+            }
+        } else {
+            subWords = this.subWordsPool.invoke(new BulkSubWordsTask(dictionary, view, seeds, min, 0, seeds.size()));
+        }
+        for (int ix = 0; ix < seeds.size(); ix += 1) {
+            result.put(seeds.get(ix), subWords.get(ix));
+        }
+        return result;
+    }
+
+    private static boolean isValidSeed(String word, int minLength) {
+        return word != null && !word.trim().isEmpty() && word.matches("^[A-Za-z]+$")
+                && minLength >= 1 && word.length() >= minLength;
+    }
+
+    private Collection<String> collectSubWords(Dictionary dictionary, BitSet view, String word, int minLength, boolean parallel) {
+        String seed = word.toLowerCase(Locale.ROOT);
+        int[] seedCounts = letterCounts(seed);
+        if (parallel) {
+            return this.subWordsPool.invoke(new SubWordsTask(dictionary, view, seed, seedCounts, minLength, 0, dictionary.size()));
+        }
+        return collectSubWords(dictionary.words(), view, seed, seedCounts, minLength, 0, dictionary.size());
+    }
+
+    /*
+     * Scans the word ids [from, to) on the stored words, only the sub
+     * words found are materialized.
+     */
+    private static List<String> collectSubWords(WordStore store, BitSet view, String seed, int[] seedCounts, int minLength, int from, int to) {
+        List<String> generatedSubWords = new ArrayList<>();
+        int[] counts = new int[26];
+        for (int id = from; id < to; id += 1) {
+            if (!in(view, id)) continue;
+            int len = store.length(id);
+            if (len < minLength || len > seed.length()) continue;
+            if (store.equals(id, seed)) continue; // Don't include original word
+            if (canFormFromWord(store, id, len, seedCounts, counts)) {
+                generatedSubWords.add(store.word(id));
+            }
+        }
+        return generatedSubWords;
+    }
+
+    private static int[] letterCounts(String word) {
+        int[] counts = new int[26];
+        for (int ix = 0; ix < word.length(); ix += 1) {
+            counts[word.charAt(ix) - 'a'] += 1;
+        }
+        return counts;
+    }
+
+    /*
+     * `counts` is scratch space, left zeroed on return.
+     */
+    private static boolean canFormFromWord(WordStore store, int id, int len, int[] sourceCounts, int[] counts) {
+        int pos = 0;
+        while (pos < len) {
+            int letter = store.charAt(id, pos) - 'a';
+            if (letter < 0 || letter >= 26 || counts[letter] == sourceCounts[letter]) {
+                break;
+            }
+            counts[letter] += 1;
+            pos += 1;
+        }
+        for (int ix = 0; ix < pos; ix += 1) {
+            counts[store.charAt(id, ix) - 'a'] -= 1;
+        }
+        return pos == len;
+    }
+
+    /*
+     * Splits the word ids into partitions of PARTITION_SIZE words. The
+     * left half is joined before the right half, so the output keeps the
+     * word list ordering, same as the sequential scan.
+     */
+    private class SubWordsTask extends RecursiveTask<List<String>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Dictionary dictionary;
+
+        private final BitSet view;
+
+        private final String seed;
+
+        private final int[] seedCounts;
+
+        private final int minLength;
+
+        private final int from;
+
+        private final int to;
+
+        SubWordsTask(Dictionary dictionary, BitSet view, String seed, int[] seedCounts, int minLength, int from, int to) {
+            this.dictionary = dictionary;
+            this.view = view;
+            this.seed = seed;
+            this.seedCounts = seedCounts;
+            this.minLength = minLength;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<String> compute() {
+            if (to - from <= PARTITION_SIZE) {
+                return collectSubWords(dictionary.words(), view, seed, seedCounts, minLength, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            SubWordsTask right = new SubWordsTask(dictionary, view, seed, seedCounts, minLength, mid, to);
+            right.fork();
+            List<String> result = new SubWordsTask(dictionary, view, seed, seedCounts, minLength, from, mid).compute();
+            result.addAll(right.join());
+            return result;
+        }
+
+    }
+
+    /*
+     * Splits the seed words, one leaf task per seed word.
+     */
+    private class BulkSubWordsTask extends RecursiveTask<List<Collection<String>>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Dictionary dictionary;
+
+        private final BitSet view;
+
+        private final List<String> seeds;
+
+        private final int minLength;
+
+        private final int from;
+
+        private final int to;
+
+        BulkSubWordsTask(Dictionary dictionary, BitSet view, List<String> seeds, int minLength, int from, int to) {
+            this.dictionary = dictionary;
+            this.view = view;
+            this.seeds = seeds;
+            this.minLength = minLength;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Collection<String>> compute() {
+            if (to - from == 1) {
+                String seed = seeds.get(from);
+                List<Collection<String>> result = new ArrayList<>();
+                result.add(isValidSeed(seed, minLength) ? collectSubWords(dictionary, view, seed, minLength, false) : new ArrayList<>());
+                return result;
+            }
+            int mid = (from + to) >>> 1;
+            BulkSubWordsTask right = new BulkSubWordsTask(dictionary, view, seeds, minLength, mid, to);
+            right.fork();
+            List<Collection<String>> result = new BulkSubWordsTask(dictionary, view, seeds, minLength, from, mid).compute();
+            result.addAll(right.join());
+            return result;
+        }
+
+    }
+
+    /**
+     * Creates a game state with word to guess, scrambled letters, and
+     * possible combinations of words.
+     *
+     * Word is of length 6 characters.
+     * The minimum length of sub words is of length 3 characters.
+     *
+     * @param length     The length of selected word.
+     *                   Expects >= 3.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     *                   Expects positive integer.
+     *                   Default is 3.
+     * @return  The game state.
+     */
+    public GameState createGameState(Integer length, Integer minLength) {
+        int min = validateGameArgs(length, minLength);
+        DictionarySnapshot current = snapshot.get();
+        Dictionary dictionary = current.dictionary();
+        int id = randomId(dictionary, current.view(this.view), length, ThreadLocalRandom.current());
+        if (id < 0) {
+            throw new IllegalArgumentException("Cannot find valid word to create game state");
+        }
+        return newGameState(current, dictionary.word(id), min);
+    }
+
+    /**
+     * Creates a game state (see {@link #createGameState(Integer, Integer)}),
+     * with a word of the `difficulty`, by its number of sub words.
+     *
+     * @param length      The length of selected word.
+     *                    Expects >= 3.
+     * @param minLength   The minimum length (inclusive) of sub words.
+     *                    Default is 3.
+     * @param difficulty  The difficulty, see {@link Difficulty}.
+     * @return  The game state.
+     */
+    public GameState createGameState(Integer length, Integer minLength, Difficulty difficulty) {
+        Objects.requireNonNull(difficulty, "difficulty must not be null");
+        int min = validateGameArgs(length, minLength);
+        DictionarySnapshot current = snapshot.get();
+        SubWordCountIndex index = current.subWordCountIndex(this.view, length, min);
+        return newGameState(current, index, index.band(difficulty));
+    }
+
+    /**
+     * Creates a game state (see {@link #createGameState(Integer, Integer)}),
+     * with a word having `minWords` to `maxWords` (inclusive) sub words.
+     *
+     * @param length     The length of selected word.
+     *                   Expects >= 3.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     *                   Default is 3.
+     * @param minWords   The minimum number of sub words (inclusive).
+     * @param maxWords   The maximum number of sub words (inclusive).
+     * @return  The game state.
+     */
+    public GameState createGameState(Integer length, Integer minLength, int minWords, int maxWords) {
+        int min = validateGameArgs(length, minLength);
+        DictionarySnapshot current = snapshot.get();
+        SubWordCountIndex index = current.subWordCountIndex(this.view, length, min);
+        return newGameState(current, index, index.range(minWords, maxWords));
+    }
+
+    /**
+     * Computes the number of sub words of every word of `length`, ahead of
+     * {@link #createGameState(Integer, Integer, Difficulty)}. Otherwise it is
+     * computed on first use, and kept (and computed again on {@link #reload()}).
+     *
+     * @param length     The length of game word.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     */
+    public void precomputeSubWordCounts(int length, int minLength) {
+        snapshot.get().subWordCountIndex(this.view, length, validateGameArgs(length, minLength));
+    }
+
+    /**
+     * Counts the sub words of `word`, without generating them.
+     *
+     * @param word       The input word to use as base/seed.
+     * @param minLength  The minimum length (inclusive) of sub words.
+     *                   Default is 3.
+     * @return  The same as size of {@link #generateSubWords(String, Integer)}.
+     */
+    public int countSubWords(String word, Integer minLength) {
+        int min = minLength == null ? 3 : minLength;
+        if (!isValidSeed(word, min)) {
+            return 0;
+        }
+        DictionarySnapshot current = snapshot.get();
+        String seed = Dictionary.normalize(word);
+        if (SubWordCountIndex.subMultisets(seed) <= current.dictionary().size()) {
+            return SubWordCountIndex.countSubWords(current.dictionary(), current.view(this.view), seed, min);
+        }
+        return subWordIds(current.dictionary(), current.view(this.view), seed, min).length;
+    }
+
+    private static int validateGameArgs(Integer length, Integer minLength) {
+        Objects.requireNonNull(length, "length must not be null");
+        if (minLength == null) {
+            minLength = 3;
+        } else if (minLength <= 0) {
+            throw new IllegalArgumentException("Invalid minLength=[" + minLength + "], expect positive integer");
+        }
+        if (length < 3) {
+            throw new IllegalArgumentException("Invalid length=[" + length + "], expect greater than or equals 3");
+        }
+        if (minLength > length) {
+            throw new IllegalArgumentException("Expect minLength=[" + minLength + "] greater than length=[" + length + "]");
+        }
+        return minLength;
+    }
+
+    private GameState newGameState(DictionarySnapshot current, SubWordCountIndex index, int[] range) {
+        if (range[0] >= range[1]) {
+            throw new IllegalArgumentException("Cannot find valid word to create game state");
+        }
+        int pos = range[0] + ThreadLocalRandom.current().nextInt(range[1] - range[0]);
+        return newGameState(current, current.dictionary().word(index.idAt(pos)), index.minLength());
+    }
+
+    private GameState newGameState(DictionarySnapshot current, String original, int minLength) {
+        GameState gameState = new GameState(original, this.scramble(original),
+                sortedSubWords(current, original, minLength));
+        gameState.setDictionaryVersion(current.version());
+        return gameState;
+    }
+
+    /*
+     * The sub words of the game, on the same dictionary as `original` was
+     * picked from, even when reloaded in between.
+     */
+    private List<String> sortedSubWords(DictionarySnapshot current, String original, int minLength) {
+        boolean parallel = this.subWordsPool != null && original.length() >= this.parallelThreshold;
+        return Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(
+                collectSubWords(current.dictionary(), current.view(this.view), original, minLength, parallel))));
+    }
+
+    /**
+     * Creates the puzzle of `date`: a word of {@link #DAILY_PUZZLE_LENGTH}
+     * letters, of {@link Difficulty#MEDIUM} difficulty, and its scramble.
+     * Same `date` and `seed` always give the same puzzle (for the same word
+     * list).
+     *
+     * @param date  The date of the puzzle.
+     * @param seed  The seed, different seeds give different series of puzzles.
+     * @return  The puzzle, to play with {@link DailyPuzzle#newGameState()}.
+     */
+    public DailyPuzzle createDailyPuzzle(LocalDate date, long seed) {
+        Objects.requireNonNull(date, "date must not be null");
+        // mixes seed and date, so that consecutive days are not correlated
+        Random random = new Random(new SplittableRandom(seed + date.toEpochDay()).nextLong());
+        DictionarySnapshot current = snapshot.get();
+        SubWordCountIndex index = current.subWordCountIndex(this.view, DAILY_PUZZLE_LENGTH, DAILY_PUZZLE_MIN_LENGTH);
+        int[] band = index.band(Difficulty.MEDIUM);
+        if (band[0] >= band[1]) {
+            throw new IllegalArgumentException("Cannot find valid word to create daily puzzle");
+        }
+        String original = current.dictionary().word(index.idAt(band[0] + random.nextInt(band[1] - band[0])));
+        return new DailyPuzzle(date, original, scramble(original, random),
+                sortedSubWords(current, original, DAILY_PUZZLE_MIN_LENGTH), current.version());
+    }
+
+    /**
+     * Suggests the "did you mean" words for an incorrect `guess` in the game:
+     * the words within edit distance `maxDistance` of `guess` (see
+     * {@link #wordsWithinDistance(String, int)}), limited to the sub words
+     * of the game (formable from the scramble letters) not yet guessed.
+     * Only the sub words of the game are looked at, so the suggestions are
+     * the same after a {@link #reload()}.
+     *
+     * @param gameState    The game state.
+     * @param guess        The guessed word.
+     * @param maxDistance  The maximum edit distance (inclusive).
+     * @return  The suggested words, closest first (then in word list order).
+     */
+    public List<String> suggestWords(GameState gameState, String guess, int maxDistance) {
+        List<String> suggestions = new ArrayList<>();
+        if (gameState == null || gameState.getSubWords() == null) {
+            return suggestions;
+        }
+        String normalized = Dictionary.normalize(guess);
+        if (normalized.isEmpty() || !normalized.matches("^[a-z]+$")
+                || maxDistance < 0 || maxDistance > MAX_FUZZY_DISTANCE) {
+            return suggestions;
+        }
+        Map<String, Integer> distances = new HashMap<>();
+        for (Map.Entry<String, Boolean> entry : new TreeMap<>(gameState.getSubWords()).entrySet()) {
+            if (Boolean.FALSE.equals(entry.getValue())) {
+                int distance = FuzzyMatcher.distance(normalized, entry.getKey());
+                if (distance <= maxDistance) {
+                    suggestions.add(entry.getKey());
+                    distances.put(entry.getKey(), distance);
+                }
+            }
+        }
+        // stable sort, keeps word list order within same distance
+        suggestions.sort(Comparator.comparing(distances::get));
+        return suggestions;
+    }
+
+    static List<String> lines(byte[] source) throws IOException {
+        List<String> wordList = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(source), StandardCharsets.UTF_8))) {
+            String line = br.readLine();
+            while (line != null) {
+                wordList.add(line);
+                line = br.readLine();
+            }
+        }
+        return wordList;
+    }
+
+}
@@ -0,0 +1,236 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Positional ("crossword") pattern index.
+ *
+ * Pattern letters are 'a' to 'z', plus the wildcards:
+ * '?' matches exactly one letter, and '*' matches any run of letters
+ * (including empty).
+ *
+ * For patterns without '*', the length of word is known, and the
+ * bitmaps per (length, position, letter) are AND-ed together. Only the
+ * words surviving all the bitmaps are materialized.
+ *
+ * For patterns with '*', the pattern is matched by walking the sorted
+ * word list as a prefix trie, so that fixed letters prune whole sub trees.
+ */
+final class PatternIndex {
+
+    static final char ONE = '?';
+
+    static final char ANY = '*';
+
+    static final int MAX_PATTERN_LENGTH = 64;
+
+    private static final int LETTERS = 26;
+
+    private final Dictionary dictionary;
+
+    /*
+     * [length] -> bitmaps of the length, built per length on first use.
+     */
+    private final AtomicReferenceArray<LengthBitmaps> bitmaps;
+
+    PatternIndex(Dictionary dictionary) {
+        this.dictionary = dictionary;
+        this.bitmaps = new AtomicReferenceArray<>(dictionary.maxLength() + 1);
+    }
+
+    /*
+     * [position * 26 + letter] -> bitset over the word ids of the length
+     * (dictionary.idsOfLength(length)), packed one after the other in
+     * `bits`: `starts` is the first long of each bitset, -1 when no word
+     * of the length has the letter at the position.
+     */
+    private static final class LengthBitmaps {
+
+        final int[] starts;
+
+        /*
+         * Direct when the dictionary is off the heap.
+         */
+        final LongBuffer bits;
+
+        LengthBitmaps(int[] starts, LongBuffer bits) {
+            this.starts = starts;
+            this.bits = bits;
+        }
+
+    }
+
+    private LengthBitmaps bitmaps(int len, int[] ids) {
+        LengthBitmaps result = bitmaps.get(len);
+        if (result != null) {
+            return result;
+        }
+        int longs = (ids.length + 63) >>> 6;
+        int[] starts = new int[len * LETTERS];
+        Arrays.fill(starts, -1);
+        int used = 0;
+        for (int local = 0; local < ids.length; local += 1) {
+            for (int pos = 0; pos < len; pos += 1) {
+                int slot = slot(ids[local], pos);
+                if (slot >= 0 && starts[slot] < 0) {
+                    starts[slot] = used * longs;
+                    used += 1;
+                }
+            }
+        }
+        LongBuffer bits = dictionary.isOffHeap()
+                ? ByteBuffer.allocateDirect(used * longs * 8).order(ByteOrder.nativeOrder()).asLongBuffer()
+                : LongBuffer.allocate(used * longs);
+        for (int local = 0; local < ids.length; local += 1) {
+            for (int pos = 0; pos < len; pos += 1) {
+                int slot = slot(ids[local], pos);
+                if (slot >= 0) {
+                    int ix = starts[slot] + (local >>> 6);
+                    bits.put(ix, bits.get(ix) | 1L << local);
+                }
+            }
+        }
+        // racing threads build the same bitmaps, first one is kept
+        bitmaps.compareAndSet(len, null, new LengthBitmaps(starts, bits));
+        return bitmaps.get(len);
+    }
+
+    /*
+     * @return  The bitmap slot of the letter of word `id` at `pos`, -1 if
+     *          not a letter.
+     */
+    private int slot(int id, int pos) {
+        int letter = dictionary.charAt(id, pos) - 'a';
+        return letter < 0 || letter >= LETTERS ? -1 : pos * LETTERS + letter;
+    }
+
+    /**
+     * @param direct  true for the memory outside the Java heap, false for
+     *                the memory on the heap.
+     * @return  The memory (bytes) of the bitmaps built so far.
+     */
+    long sizeInBytes(boolean direct) {
+        long total = 0;
+        for (int len = 0; len < bitmaps.length(); len += 1) {
+            LengthBitmaps lengthBitmaps = bitmaps.get(len);
+            if (lengthBitmaps == null) {
+                continue;
+            }
+            total += lengthBitmaps.bits.isDirect() == direct ? 8L * lengthBitmaps.bits.limit() : 0;
+            total += direct ? 0 : 4L * lengthBitmaps.starts.length;
+        }
+        return total;
+    }
+
+    /**
+     * @param pattern  The pattern, expects lower case.
+     * @return  true if `pattern` is made of only letters and wildcards.
+     */
+    static boolean isValid(String pattern) {
+        if (pattern == null || pattern.isEmpty() || pattern.length() > MAX_PATTERN_LENGTH) {
+            return false;
+        }
+        for (int pos = 0; pos < pattern.length(); pos += 1) {
+            char ch = pattern.charAt(pos);
+            if (ch != ONE && ch != ANY && (ch < 'a' || ch > 'z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param pattern  The valid (see {@link #isValid(String)}) pattern.
+     * @return  The word ids matching the pattern, in ascending order.
+     */
+    int[] match(String pattern) {
+        if (pattern.indexOf(ANY) < 0) {
+            return matchFixedLength(pattern);
+        }
+        BitSet hits = new BitSet(dictionary.size());
+        walk(pattern, 0, 0, 0, dictionary.size(), hits, new HashSet<>());
+        return hits.stream().toArray();
+    }
+
+    private int[] matchFixedLength(String pattern) {
+        int len = pattern.length();
+        if (len > dictionary.maxLength()) {
+            return new int[0];
+        }
+        int[] ids = dictionary.idsOfLength(len);
+        LengthBitmaps lengthBitmaps = bitmaps(len, ids);
+        long[] acc = null;
+        for (int pos = 0; pos < len; pos += 1) {
+            char ch = pattern.charAt(pos);
+            if (ch == ONE) {
+                continue;
+            }
+            int start = lengthBitmaps.starts[pos * LETTERS + (ch - 'a')];
+            if (start < 0) {
+                return new int[0];
+            }
+            if (acc == null) {
+                acc = new long[(ids.length + 63) >>> 6];
+                for (int ix = 0; ix < acc.length; ix += 1) {
+                    acc[ix] = lengthBitmaps.bits.get(start + ix);
+                }
+            } else {
+                for (int ix = 0; ix < acc.length; ix += 1) {
+                    acc[ix] &= lengthBitmaps.bits.get(start + ix);
+                }
+            }
+        }
+        if (acc == null) {
+            return ids;
+        }
+        BitSet bits = BitSet.valueOf(acc);
+        int[] matched = new int[bits.cardinality()];
+        int num = 0;
+        for (int local = bits.nextSetBit(0); local >= 0; local = bits.nextSetBit(local + 1)) {
+            matched[num++] = ids[local];
+        }
+        return matched;
+    }
+
+    /*
+     * Matches pattern[pos..] against the trie node of the words in
+     * [from, to), which share the first `depth` letters.
+     */
+    private void walk(String pattern, int pos, int depth, int from, int to, BitSet hits, Set<Long> visited) {
+        if (from >= to || !visited.add(((long) from << 16) | (depth << 8) | pos)) {
+            return;
+        }
+        if (pos == pattern.length()) {
+            // the word equals to the prefix (if any), sorts first
+            if (dictionary.length(from) == depth) {
+                hits.set(from);
+            }
+            return;
+        }
+        char ch = pattern.charAt(pos);
+        if (ch == ANY) {
+            walk(pattern, pos + 1, depth, from, to, hits, visited);
+        }
+        if (ch == ANY || ch == ONE) {
+            int start = dictionary.length(from) == depth ? from + 1 : from;
+            while (start < to) {
+                char child = dictionary.charAt(start, depth);
+                int end = dictionary.childEnd(start, to, depth, child);
+                walk(pattern, ch == ANY ? pos : pos + 1, depth + 1, start, end, hits, visited);
+                start = end;
+            }
+        } else {
+            int start = dictionary.childStart(from, to, depth, ch);
+            int end = dictionary.childEnd(start, to, depth, ch);
+            walk(pattern, pos + 1, depth + 1, start, end, hits, visited);
+        }
+    }
+
+}
@@ -0,0 +1,251 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * Membership over the word arena by a minimal perfect hash function
+ * (BBHash style): every word of the dictionary has its own slot in
+ * [0, words), no empty slot, no probing.
+ *
+ * Built by levels: the words are hashed into a bit array of
+ * {@link #GAMMA} bits per word; the words alone on their bit keep it, the
+ * colliding ones go on to the next (smaller) level, until none left. The
+ * slot of a word is the rank of its bit, over all the levels (a count per
+ * 512 bits, then popcount). That is about 3.7 bits per word.
+ *
+ * A slot maps to the word id (the position in the sorted word list, used
+ * by all the indexes), and holds an 8 bits fingerprint of the word: a word
+ * not in the dictionary also lands on some slot (or none), and is rejected
+ * by the fingerprint (255 out of 256) without reading the arena. The rest
+ * is compared with the word of the slot.
+ */
+final class PerfectHash {
+
+    /**
+     * Bits per word of each level, the higher the fewer levels (faster),
+     * for more memory.
+     */
+    static final double GAMMA = 2.0;
+
+    /*
+     * Levels before trying another seed, as only 64 bits hashes identical
+     * for 2 words never separate.
+     */
+    private static final int MAX_LEVELS = 48;
+
+    /*
+     * Bits per rank sample.
+     */
+    private static final int RANK_BLOCK = 512;
+
+    private final WordArena arena;
+
+    private final long seed;
+
+    /*
+     * [level] -> position of its first bit in `bits`; [levels] is the end.
+     */
+    private final IntBuffer levelStarts;
+
+    private final LongBuffer bits;
+
+    /*
+     * [block] -> number of bits set before the block of RANK_BLOCK bits.
+     */
+    private final IntBuffer ranks;
+
+    /*
+     * [slot] -> word id.
+     */
+    private final IntBuffer ids;
+
+    /*
+     * [slot] -> fingerprint of the word.
+     */
+    private final ByteBuffer fingerprints;
+
+    PerfectHash(WordArena arena, long seed, IntBuffer levelStarts, LongBuffer bits, IntBuffer ranks,
+            IntBuffer ids, ByteBuffer fingerprints) {
+        this.arena = arena;
+        this.seed = seed;
+        this.levelStarts = levelStarts;
+        this.bits = bits;
+        this.ranks = ranks;
+        this.ids = ids;
+        this.fingerprints = fingerprints;
+    }
+
+    static PerfectHash of(WordArena arena) {
+        for (long seed = 0; ; seed += 1) {
+            PerfectHash hash = of(arena, seed);
+            if (hash != null) {
+                return hash;
+            }
+        }
+    }
+
+    /*
+     * @return  The perfect hash with `seed`, or null when some words do not
+     *          separate within MAX_LEVELS.
+     */
+    private static PerfectHash of(WordArena arena, long seed) {
+        int size = arena.size();
+        long[] keys = new long[size];
+        for (int id = 0; id < size; id += 1) {
+            keys[id] = WordHash.hash(arena, id, seed);
+        }
+        int[] starts = new int[MAX_LEVELS + 1];
+        long[][] levels = new long[MAX_LEVELS][];
+        long[] remaining = keys.clone();
+        int numLevels = 0;
+        while (remaining.length > 0) {
+            if (numLevels == MAX_LEVELS) {
+                return null;
+            }
+            int levelBits = levelBits(remaining.length);
+            long[] taken = new long[levelBits >>> 6];
+            long[] collided = new long[levelBits >>> 6];
+            for (long key : remaining) {
+                int pos = position(key, numLevels, levelBits);
+                if ((taken[pos >>> 6] & (1L << pos)) != 0) {
+                    collided[pos >>> 6] |= 1L << pos;
+                } else {
+                    taken[pos >>> 6] |= 1L << pos;
+                }
+            }
+            int next = 0;
+            for (long key : remaining) {
+                int pos = position(key, numLevels, levelBits);
+                if ((collided[pos >>> 6] & (1L << pos)) != 0) {
+                    remaining[next++] = key;
+                }
+            }
+            for (int ix = 0; ix < taken.length; ix += 1) {
+                taken[ix] &= ~collided[ix];
+            }
+            levels[numLevels] = taken;
+            starts[numLevels + 1] = starts[numLevels] + levelBits;
+            numLevels += 1;
+            remaining = Arrays.copyOf(remaining, next);
+        }
+
+        long[] bits = new long[starts[numLevels] >>> 6];
+        for (int level = 0; level < numLevels; level += 1) {
+            System.arraycopy(levels[level], 0, bits, starts[level] >>> 6, levels[level].length);
+        }
+        int[] ranks = new int[bits.length / (RANK_BLOCK / 64) + 1];
+        int count = 0;
+        for (int ix = 0; ix < bits.length; ix += 1) {
+            if (ix % (RANK_BLOCK / 64) == 0) {
+                ranks[ix / (RANK_BLOCK / 64)] = count;
+            }
+            count += Long.bitCount(bits[ix]);
+        }
+        PerfectHash hash = new PerfectHash(arena, seed, IntBuffer.wrap(Arrays.copyOf(starts, numLevels + 1)),
+                LongBuffer.wrap(bits), IntBuffer.wrap(ranks), IntBuffer.allocate(size), ByteBuffer.allocate(size));
+        for (int id = 0; id < size; id += 1) {
+            int slot = hash.slotOf(keys[id]);
+            hash.ids.put(slot, id);
+            hash.fingerprints.put(slot, fingerprint(keys[id]));
+        }
+        return hash;
+    }
+
+    /*
+     * GAMMA bits per word, whole longs.
+     */
+    private static int levelBits(int words) {
+        long levelBits = Math.max(64, ((long) Math.ceil(words * GAMMA) + 63) & ~63L);
+        if (levelBits > Integer.MAX_VALUE - 64) {
+            throw new IllegalArgumentException("Too many words=[" + words + "]");
+        }
+        return (int) levelBits;
+    }
+
+    /**
+     * @param word  The (normalized) word.
+     * @return  The word id of `word`, or negative if not exists.
+     */
+    int indexOf(CharSequence word) {
+        long key = WordHash.hash(word, seed);
+        int slot = slotOf(key);
+        if (slot < 0 || fingerprints.get(slot) != fingerprint(key)) {
+            return -1;
+        }
+        int id = ids.get(slot);
+        return arena.equals(id, word) ? id : -1;
+    }
+
+    /*
+     * @return  The slot of the first level having the bit of `key` set, or
+     *          negative if none.
+     */
+    private int slotOf(long key) {
+        int levels = levelStarts.limit() - 1;
+        for (int level = 0; level < levels; level += 1) {
+            int start = levelStarts.get(level);
+            int pos = start + position(key, level, levelStarts.get(level + 1) - start);
+            if ((bits.get(pos >>> 6) & (1L << pos)) != 0) {
+                return rank(pos);
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * @return  The number of bits set before `pos`.
+     */
+    private int rank(int pos) {
+        int block = pos / RANK_BLOCK;
+        int rank = ranks.get(block);
+        int word = pos >>> 6;
+        for (int ix = block * (RANK_BLOCK / 64); ix < word; ix += 1) {
+            rank += Long.bitCount(bits.get(ix));
+        }
+        return rank + Long.bitCount(bits.get(word) & ((1L << pos) - 1));
+    }
+
+    /*
+     * The bit of `key` in a level of `levelBits` bits.
+     */
+    private static int position(long key, int level, int levelBits) {
+        long mixed = WordHash.mix(key + (level + 1) * 0x9E3779B97F4A7C15L);
+        return (int) (((mixed >>> 32) * levelBits) >>> 32);
+    }
+
+    private static byte fingerprint(long key) {
+        return (byte) (key >>> 56);
+    }
+
+    long sizeInBytes() {
+        return 4L * levelStarts.limit() + 8L * bits.limit() + 4L * ranks.limit() + 4L * ids.limit() + fingerprints.limit();
+    }
+
+    long seed() {
+        return seed;
+    }
+
+    IntBuffer levelStarts() {
+        return levelStarts.duplicate();
+    }
+
+    LongBuffer bits() {
+        return bits.duplicate();
+    }
+
+    IntBuffer ranks() {
+        return ranks.duplicate();
+    }
+
+    IntBuffer ids() {
+        return ids.duplicate();
+    }
+
+    ByteBuffer fingerprints() {
+        return fingerprints.duplicate();
+    }
+
+}
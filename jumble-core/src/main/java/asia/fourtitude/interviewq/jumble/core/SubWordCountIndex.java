@@ -0,0 +1,220 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The number of sub words of every word of one length, for one minimum
+ * sub word length. Used to pick game words by difficulty.
+ *
+ * Counting is done through the anagram index: every distinct sub-multiset
+ * of the word's letters (of `minLength` letters or more) is a signature,
+ * and the words having that signature are exactly the sub words made of
+ * those letters. A 6 letters word has at most 2^6 sub-multisets, against
+ * scanning the whole word list per word.
+ *
+ * With a view (see {@link DictionaryView}), only the words of the view are
+ * game words, and only they are counted as sub words.
+ *
+ * The word ids are kept sorted by count, so the words of a count range
+ * (or a difficulty band) are a contiguous range of positions, and picking
+ * a random one is O(1) after two binary searches.
+ */
+final class SubWordCountIndex {
+
+    private final int length;
+
+    private final int minLength;
+
+    /*
+     * Word ids, ascending by number of sub words (then by id).
+     */
+    private final int[] idsByCount;
+
+    /*
+     * counts[pos] is the number of sub words of idsByCount[pos].
+     */
+    private final int[] counts;
+
+    /*
+     * Start position of the words having at least one sub word.
+     */
+    private final int firstNonZero;
+
+    /**
+     * @param view  The word ids of the view, null for all the words.
+     */
+    SubWordCountIndex(Dictionary dictionary, BitSet view, int length, int minLength) {
+        this.length = length;
+        this.minLength = minLength;
+        int[] ids = JumbleEngine.filter(dictionary.idsOfLength(length), view);
+        long[] keyed = new long[ids.length];
+        for (int ix = 0; ix < ids.length; ix += 1) {
+            int count = countSubWords(dictionary, view, dictionary.word(ids[ix]), minLength);
+            keyed[ix] = ((long) count << 32) | ids[ix];
+        }
+        Arrays.sort(keyed);
+        this.idsByCount = new int[keyed.length];
+        this.counts = new int[keyed.length];
+        for (int pos = 0; pos < keyed.length; pos += 1) {
+            this.idsByCount[pos] = (int) keyed[pos];
+            this.counts[pos] = (int) (keyed[pos] >>> 32);
+        }
+        this.firstNonZero = lowerBound(1);
+    }
+
+    /**
+     * @return  The number of sub words of `word` (excluding itself), same as
+     *          the size of {@link JumbleEngine#generateSubWords(String, Integer)}.
+     */
+    static int countSubWords(Dictionary dictionary, BitSet view, String word, int minLength) {
+        int[] total = new int[1];
+        enumerate(dictionary, view, word, minLength, ids -> total[0] += ids.length);
+        int self = dictionary.indexOf(word);
+        return self >= 0 && JumbleEngine.in(view, self) ? total[0] - 1 : total[0];
+    }
+
+    /**
+     * @return  The number of distinct sub-multisets of the letters of `word`
+     *          (lower case letters), the product of (run of a same letter + 1):
+     *          the number of anagram lookups of {@link #subWordIds}.
+     *          Long.MAX_VALUE when more.
+     */
+    static long subMultisets(String word) {
+        int[] counts = new int[26];
+        for (int ix = 0; ix < word.length(); ix += 1) {
+            counts[word.charAt(ix) - 'a'] += 1;
+        }
+        long product = 1;
+        for (int count : counts) {
+            if (product > Long.MAX_VALUE / (count + 1)) {
+                return Long.MAX_VALUE;
+            }
+            product *= count + 1;
+        }
+        return product;
+    }
+
+    /**
+     * @return  The word ids (ascending) of the sub words of `word` (excluding
+     *          itself), same words as {@link JumbleEngine#generateSubWords(String, Integer)}.
+     */
+    static int[] subWordIds(Dictionary dictionary, BitSet view, String word, int minLength) {
+        int self = dictionary.indexOf(word);
+        List<int[]> found = new ArrayList<>();
+        int[] total = new int[1];
+        enumerate(dictionary, view, word, minLength, ids -> {
+            found.add(ids);
+            total[0] += ids.length;
+        });
+        int[] subWordIds = new int[total[0]];
+        int size = 0;
+        for (int[] ids : found) {
+            for (int id : ids) {
+                if (id != self) {
+                    subWordIds[size++] = id;
+                }
+            }
+        }
+        subWordIds = Arrays.copyOf(subWordIds, size);
+        Arrays.sort(subWordIds);
+        return subWordIds;
+    }
+
+    private static void enumerate(Dictionary dictionary, BitSet view, String word, int minLength, Consumer<int[]> sink) {
+        char[] letters = word.toCharArray();
+        Arrays.sort(letters);
+        enumerate(dictionary.anagramIndex(), letters, 0, new char[letters.length], 0, minLength,
+                view == null ? sink : ids -> sink.accept(JumbleEngine.filter(ids, view)));
+    }
+
+    /*
+     * Enumerates the distinct sub-multisets of sorted `letters` from `pos`:
+     * for each run of a same letter, takes 0 to all of it. The word ids of
+     * each sub-multiset (its anagrams) are passed to `sink`.
+     */
+    private static void enumerate(AnagramIndex anagramIndex, char[] letters, int pos, char[] picked, int numPicked,
+            int minLength, Consumer<int[]> sink) {
+        if (numPicked + (letters.length - pos) < minLength) {
+            return;
+        }
+        if (pos == letters.length) {
+            int[] ids = anagramIndex.lookup(new String(picked, 0, numPicked));
+            if (ids.length > 0) {
+                sink.accept(ids);
+            }
+            return;
+        }
+        int end = pos;
+        while (end < letters.length && letters[end] == letters[pos]) {
+            end += 1;
+        }
+        for (int take = 0; take <= end - pos; take += 1) {
+            for (int ix = 0; ix < take; ix += 1) {
+                picked[numPicked + ix] = letters[pos];
+            }
+            enumerate(anagramIndex, letters, end, picked, numPicked + take, minLength, sink);
+        }
+    }
+
+    int length() {
+        return length;
+    }
+
+    int minLength() {
+        return minLength;
+    }
+
+    int idAt(int pos) {
+        return idsByCount[pos];
+    }
+
+    int countAt(int pos) {
+        return counts[pos];
+    }
+
+    /**
+     * @return  The range [from, to) of positions of words having `minCount`
+     *          to `maxCount` (inclusive) sub words.
+     */
+    int[] range(int minCount, int maxCount) {
+        if (minCount > maxCount) {
+            return new int[] { 0, 0 };
+        }
+        return new int[] { lowerBound(minCount), lowerBound(maxCount + 1L) };
+    }
+
+    /**
+     * @return  The range [from, to) of positions of words in the band of
+     *          `difficulty`, see {@link Difficulty}.
+     */
+    int[] band(Difficulty difficulty) {
+        int size = idsByCount.length - firstNonZero;
+        int band = difficulty.ordinal();
+        int numBands = Difficulty.values().length;
+        return new int[] {
+                firstNonZero + (int) ((long) size * band / numBands),
+                firstNonZero + (int) ((long) size * (band + 1) / numBands) };
+    }
+
+    /*
+     * First position with count >= `count`.
+     */
+    private int lowerBound(long count) {
+        int lo = 0;
+        int hi = counts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (counts[mid] < count) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+}
@@ -0,0 +1,119 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Suffix index: the word ids sorted by the reversed word.
+ *
+ * Words sharing a suffix are then a contiguous range (same as words
+ * sharing a prefix in the sorted word list), found by two binary searches.
+ * Both sorting and searching compare the bytes of the arena backwards, no
+ * reversed word is materialized.
+ */
+final class SuffixIndex {
+
+    private final Dictionary dictionary;
+
+    /*
+     * Direct when the dictionary is off the heap.
+     */
+    private final IntBuffer idsByReversed;
+
+    SuffixIndex(Dictionary dictionary) {
+        this.dictionary = dictionary;
+        Integer[] order = new Integer[dictionary.size()];
+        for (int id = 0; id < dictionary.size(); id += 1) {
+            order[id] = id;
+        }
+        Arrays.sort(order, this::compareReversed);
+        this.idsByReversed = dictionary.isOffHeap()
+                ? ByteBuffer.allocateDirect(order.length * 4).order(ByteOrder.nativeOrder()).asIntBuffer()
+                : IntBuffer.allocate(order.length);
+        for (int pos = 0; pos < order.length; pos += 1) {
+            this.idsByReversed.put(pos, order[pos]);
+        }
+    }
+
+    /**
+     * @return  The word id at position `pos` (in reversed word order).
+     */
+    int idAt(int pos) {
+        return idsByReversed.get(pos);
+    }
+
+    /**
+     * @param suffix  The (normalized) suffix.
+     * @return  The range [from, to) of positions of words ending with `suffix`.
+     */
+    int[] range(String suffix) {
+        return new int[] { bound(suffix, false), bound(suffix, true) };
+    }
+
+    /*
+     * Lower bound: first position where reversed word >= reversed suffix.
+     * Upper bound: first position where reversed word is greater, and
+     * does not begin with reversed suffix.
+     */
+    private int bound(String suffix, boolean upper) {
+        int lo = 0;
+        int hi = idsByReversed.limit();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = compareEnding(idsByReversed.get(mid), suffix);
+            if (cmp < 0 || (upper && cmp == 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    IntBuffer ids() {
+        return idsByReversed.duplicate();
+    }
+
+    /*
+     * Same ordering as comparing the reversed words as String.
+     */
+    private int compareReversed(int a, int b) {
+        int alen = dictionary.length(a);
+        int blen = dictionary.length(b);
+        int min = Math.min(alen, blen);
+        for (int depth = 0; depth < min; depth += 1) {
+            char ach = dictionary.charAt(a, alen - 1 - depth);
+            char bch = dictionary.charAt(b, blen - 1 - depth);
+            if (ach != bch) {
+                return ach - bch;
+            }
+        }
+        return alen - blen;
+    }
+
+    /**
+     * Compares the reversed word `id` with reversed `suffix`, up to the
+     * length of suffix.
+     *
+     * @return  0 if word `id` ends with `suffix`, otherwise negative/positive
+     *          as reversed word sorts before/after reversed `suffix`.
+     */
+    private int compareEnding(int id, String suffix) {
+        int wlen = dictionary.length(id);
+        int slen = suffix.length();
+        for (int depth = 0; depth < slen; depth += 1) {
+            if (depth >= wlen) {
+                return -1;
+            }
+            char wch = dictionary.charAt(id, wlen - 1 - depth);
+            char sch = suffix.charAt(slen - 1 - depth);
+            if (wch != sch) {
+                return wch < sch ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+}
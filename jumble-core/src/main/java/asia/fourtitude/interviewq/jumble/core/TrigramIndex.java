@@ -0,0 +1,215 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Trigram index for substring ("contains") search.
+ *
+ * For each of the 26^3 letter trigrams, the posting list of word ids
+ * (ascending) of the words containing the trigram. The posting lists are
+ * compressed: gaps between ids, as variable length integers (7 bits per
+ * byte), all concatenated into one byte array.
+ *
+ * A fragment of 3+ letters is looked up by intersecting the posting lists
+ * of its trigrams (from the shortest list). The surviving candidates still
+ * need to be verified, as the trigrams may not be adjacent in the word.
+ */
+final class TrigramIndex {
+
+    static final int GRAM = 3;
+
+    private static final int LETTERS = 26;
+
+    private static final int TRIGRAMS = LETTERS * LETTERS * LETTERS;
+
+    /*
+     * [trigram] -> start of its posting list in `postings`;
+     * [trigram + 1] is the end.
+     */
+    private final int[] offsets;
+
+    /*
+     * Direct when the dictionary is off the heap.
+     */
+    private final ByteBuffer postings;
+
+    TrigramIndex(Dictionary dictionary) {
+        // pass 1: number of words per trigram, counting each word once
+        int[] counts = new int[TRIGRAMS];
+        int[] lastIds = new int[TRIGRAMS];
+        Arrays.fill(lastIds, -1);
+        for (int id = 0; id < dictionary.size(); id += 1) {
+            int len = dictionary.length(id);
+            for (int pos = 0; pos + GRAM <= len; pos += 1) {
+                int gram = trigram(dictionary, id, pos);
+                if (gram >= 0 && lastIds[gram] != id) {
+                    lastIds[gram] = id;
+                    counts[gram] += 1;
+                }
+            }
+        }
+
+        // pass 2: gather the ids per trigram
+        int[] starts = new int[TRIGRAMS + 1];
+        for (int gram = 0; gram < TRIGRAMS; gram += 1) {
+            starts[gram + 1] = starts[gram] + counts[gram];
+        }
+        int[] ids = new int[starts[TRIGRAMS]];
+        int[] fill = Arrays.copyOf(starts, TRIGRAMS);
+        Arrays.fill(lastIds, -1);
+        for (int id = 0; id < dictionary.size(); id += 1) {
+            int len = dictionary.length(id);
+            for (int pos = 0; pos + GRAM <= len; pos += 1) {
+                int gram = trigram(dictionary, id, pos);
+                if (gram >= 0 && lastIds[gram] != id) {
+                    lastIds[gram] = id;
+                    ids[fill[gram]++] = id;
+                }
+            }
+        }
+
+        // pass 3: compress
+        byte[] buf = new byte[ids.length * 2 + 16];
+        int len = 0;
+        this.offsets = new int[TRIGRAMS + 1];
+        for (int gram = 0; gram < TRIGRAMS; gram += 1) {
+            this.offsets[gram] = len;
+            int prev = 0;
+            for (int ix = starts[gram]; ix < starts[gram + 1]; ix += 1) {
+                if (len + 5 > buf.length) {
+                    buf = Arrays.copyOf(buf, buf.length * 2);
+                }
+                len = writeVarInt(buf, len, ids[ix] - prev);
+                prev = ids[ix];
+            }
+        }
+        this.offsets[TRIGRAMS] = len;
+        this.postings = dictionary.isOffHeap()
+                ? (ByteBuffer) ByteBuffer.allocateDirect(len).put(buf, 0, len).flip()
+                : ByteBuffer.wrap(Arrays.copyOf(buf, len));
+    }
+
+    /**
+     * @return  The trigram number of the 3 letters at `pos`, or negative if
+     *          any of them is not 'a' to 'z'.
+     */
+    static int trigram(String word, int pos) {
+        int gram = 0;
+        for (int ix = pos; ix < pos + GRAM; ix += 1) {
+            int letter = word.charAt(ix) - 'a';
+            if (letter < 0 || letter >= LETTERS) {
+                return -1;
+            }
+            gram = gram * LETTERS + letter;
+        }
+        return gram;
+    }
+
+    /*
+     * Same as trigram(String, int), on the bytes of word `id`.
+     */
+    private static int trigram(Dictionary dictionary, int id, int pos) {
+        int gram = 0;
+        for (int ix = pos; ix < pos + GRAM; ix += 1) {
+            int letter = dictionary.charAt(id, ix) - 'a';
+            if (letter < 0 || letter >= LETTERS) {
+                return -1;
+            }
+            gram = gram * LETTERS + letter;
+        }
+        return gram;
+    }
+
+    /**
+     * @param fragment  The (normalized) fragment of 3+ letters 'a' to 'z'.
+     * @return  The candidate word ids (ascending) containing all the
+     *          trigrams of `fragment`. Still to verify.
+     */
+    int[] candidates(String fragment) {
+        int[] grams = new int[fragment.length() - GRAM + 1];
+        for (int pos = 0; pos < grams.length; pos += 1) {
+            grams[pos] = trigram(fragment, pos);
+        }
+        // shortest posting list first, it bounds the candidates
+        Integer[] order = Arrays.stream(grams).distinct().boxed().toArray(Integer[]::new);
+        Arrays.sort(order, (a, b) -> Integer.compare(offsets[a + 1] - offsets[a], offsets[b + 1] - offsets[b]));
+
+        int[] candidates = decode(order[0]);
+        int size = candidates.length;
+        for (int ix = 1; ix < order.length && size > 0; ix += 1) {
+            size = retain(candidates, size, order[ix]);
+        }
+        return Arrays.copyOf(candidates, size);
+    }
+
+    private int[] decode(int gram) {
+        int[] ids = new int[offsets[gram + 1] - offsets[gram]];
+        int size = 0;
+        int pos = offsets[gram];
+        int end = offsets[gram + 1];
+        int id = 0;
+        while (pos < end) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = postings.get(pos++);
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            id += gap;
+            ids[size++] = id;
+        }
+        return Arrays.copyOf(ids, size);
+    }
+
+    /*
+     * Keeps candidates[0..size) which are also in posting list of `gram`,
+     * decoding the posting list on the fly (merge of two sorted lists).
+     */
+    private int retain(int[] candidates, int size, int gram) {
+        int pos = offsets[gram];
+        int end = offsets[gram + 1];
+        int id = 0;
+        int kept = 0;
+        int ix = 0;
+        while (ix < size && pos < end) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = postings.get(pos++);
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            id += gap;
+            while (ix < size && candidates[ix] < id) {
+                ix += 1;
+            }
+            if (ix < size && candidates[ix] == id) {
+                candidates[kept++] = id;
+                ix += 1;
+            }
+        }
+        return kept;
+    }
+
+    ByteBuffer postings() {
+        return postings.duplicate();
+    }
+
+    long offsetsBytes() {
+        return 4L * offsets.length;
+    }
+
+    private static int writeVarInt(byte[] buf, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        return pos;
+    }
+
+}
@@ -0,0 +1,174 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Collection;
+
+/**
+ * All the words packed in one byte buffer, one byte per letter, with the
+ * offset table: word `id` is the bytes [offsets[id], offsets[id + 1]).
+ *
+ * Backed by heap arrays when built from the text word list, or by slices
+ * of the mapped index file (see {@link DictionaryFile}), so the same code
+ * serves both. Letters are ISO-8859-1 (the word list is ASCII).
+ */
+final class WordArena implements WordStore {
+
+    private final ByteBuffer bytes;
+
+    private final IntBuffer offsets;
+
+    private final int size;
+
+    WordArena(ByteBuffer bytes, IntBuffer offsets) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.size = offsets.limit() - 1;
+    }
+
+    /**
+     * @param words  The words, in word id order. Expects letters of one byte,
+     *               see {@link #isEncodable(String)}.
+     */
+    static WordArena of(Collection<String> words) {
+        int total = 0;
+        for (String word : words) {
+            total += word.length();
+        }
+        byte[] bytes = new byte[total];
+        int[] offsets = new int[words.size() + 1];
+        int id = 0;
+        int pos = 0;
+        for (String word : words) {
+            offsets[id++] = pos;
+            for (int ix = 0; ix < word.length(); ix += 1) {
+                bytes[pos++] = (byte) word.charAt(ix);
+            }
+        }
+        offsets[id] = pos;
+        return new WordArena(ByteBuffer.wrap(bytes), IntBuffer.wrap(offsets));
+    }
+
+    /**
+     * @return  true if every letter of `word` fits in one byte.
+     */
+    static boolean isEncodable(String word) {
+        for (int ix = 0; ix < word.length(); ix += 1) {
+            if (word.charAt(ix) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int length(int id) {
+        return offsets.get(id + 1) - offsets.get(id);
+    }
+
+    @Override
+    public char charAt(int id, int pos) {
+        return (char) (bytes.get(offsets.get(id) + pos) & 0xFF);
+    }
+
+    /**
+     * Materializes the word, only at the boundaries (results of the engine).
+     */
+    @Override
+    public String word(int id) {
+        int start = offsets.get(id);
+        char[] letters = new char[offsets.get(id + 1) - start];
+        for (int ix = 0; ix < letters.length; ix += 1) {
+            letters[ix] = (char) (bytes.get(start + ix) & 0xFF);
+        }
+        return new String(letters);
+    }
+
+    /**
+     * @return  Negative, zero or positive as word `id` sorts before, equals
+     *          or sorts after `word` (same ordering as String).
+     */
+    @Override
+    public int compare(int id, CharSequence word) {
+        int start = offsets.get(id);
+        int len = offsets.get(id + 1) - start;
+        int wlen = word.length();
+        int min = Math.min(len, wlen);
+        for (int ix = 0; ix < min; ix += 1) {
+            char ch = (char) (bytes.get(start + ix) & 0xFF);
+            char wch = word.charAt(ix);
+            if (ch != wch) {
+                return ch - wch;
+            }
+        }
+        return len - wlen;
+    }
+
+    /**
+     * @return  true if word `id` contains `fragment` (anywhere).
+     */
+    @Override
+    public boolean contains(int id, CharSequence fragment) {
+        int start = offsets.get(id);
+        int last = offsets.get(id + 1) - fragment.length();
+        for (int from = start; from <= last; from += 1) {
+            int ix = 0;
+            while (ix < fragment.length() && (char) (bytes.get(from + ix) & 0xFF) == fragment.charAt(ix)) {
+                ix += 1;
+            }
+            if (ix == fragment.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(int id, CharSequence word) {
+        return length(id) == word.length() && compare(id, word) == 0;
+    }
+
+    @Override
+    public long sizeInBytes() {
+        return bytes.limit() + 4L * offsets.limit();
+    }
+
+    /**
+     * @return  The hash of word `id`, same as {@link #hash(CharSequence)} of the word.
+     */
+    int hash(int id) {
+        int start = offsets.get(id);
+        int end = offsets.get(id + 1);
+        int hash = 0x811C9DC5;
+        for (int pos = start; pos < end; pos += 1) {
+            hash = (hash ^ (bytes.get(pos) & 0xFF)) * 0x01000193;
+        }
+        return hash;
+    }
+
+    /**
+     * FNV-1a over the letters. Computed the same from the bytes of the arena,
+     * and is part of the index file format (hash tables are stored).
+     */
+    static int hash(CharSequence word) {
+        int hash = 0x811C9DC5;
+        for (int ix = 0; ix < word.length(); ix += 1) {
+            hash = (hash ^ (word.charAt(ix) & 0xFF)) * 0x01000193;
+        }
+        return hash;
+    }
+
+    ByteBuffer bytes() {
+        return bytes.duplicate();
+    }
+
+    IntBuffer offsets() {
+        return offsets.duplicate();
+    }
+
+}
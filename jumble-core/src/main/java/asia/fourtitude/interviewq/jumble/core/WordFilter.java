@@ -0,0 +1,158 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.List;
+
+/**
+ * Blocked Bloom filter over words: a fast negative path in front of the
+ * membership lookups. "No" is certain, "maybe" is then checked for real.
+ *
+ * The bits are split into blocks of 512 bits (one cache line); a word
+ * sets (and a lookup tests) all its bits within the one block chosen by
+ * its hash, so a lookup touches a single cache line. The number of bits
+ * and of hashes are sized for the wanted false positive rate, e.g. about
+ * 9.6 bits per word and 7 hashes for 1%; the uneven load of the blocks
+ * makes the actual rate a bit higher, see {@link #expectedFalsePositiveRate()}.
+ */
+final class WordFilter {
+
+    private static final int BLOCK_BITS = 512;
+
+    private static final int MAX_HASHES = 16;
+
+    private final long[] bits;
+
+    private final int blocks;
+
+    private final int hashes;
+
+    private final int words;
+
+    private WordFilter(long[] bits, int hashes, int words) {
+        this.bits = bits;
+        this.blocks = bits.length / (BLOCK_BITS / 64);
+        this.hashes = hashes;
+        this.words = words;
+    }
+
+    /**
+     * @param falsePositiveRate  The wanted false positive rate, in (0, 1).
+     * @return  The filter of all the words of `dictionary`.
+     */
+    static WordFilter of(Dictionary dictionary, double falsePositiveRate) {
+        long[] bits = bitsFor(dictionary.size(), falsePositiveRate);
+        int hashes = hashesFor(dictionary.size(), bits.length, falsePositiveRate);
+        for (int id = 0; id < dictionary.size(); id += 1) {
+            add(bits, hashes, dictionary.word(id));
+        }
+        return new WordFilter(bits, hashes, dictionary.size());
+    }
+
+    /**
+     * @param falsePositiveRate  The wanted false positive rate, in (0, 1).
+     * @return  The filter of `words`.
+     */
+    static WordFilter of(List<String> words, double falsePositiveRate) {
+        long[] bits = bitsFor(words.size(), falsePositiveRate);
+        int hashes = hashesFor(words.size(), bits.length, falsePositiveRate);
+        for (String word : words) {
+            add(bits, hashes, word);
+        }
+        return new WordFilter(bits, hashes, words.size());
+    }
+
+    /*
+     * -ln(p) / ln(2)^2 bits per word, whole blocks.
+     */
+    private static long[] bitsFor(int words, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("Invalid false positive rate=[" + falsePositiveRate + "], expect in (0, 1)");
+        }
+        double bitsPerWord = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long blocks = Math.max(1, (long) Math.ceil(words * bitsPerWord / BLOCK_BITS));
+        if (blocks > Integer.MAX_VALUE / (BLOCK_BITS / 64)) {
+            throw new IllegalArgumentException("Too many words=[" + words + "]");
+        }
+        return new long[(int) blocks * (BLOCK_BITS / 64)];
+    }
+
+    /*
+     * ln(2) * bits per word, or -log2(p) when there are fewer words than
+     * bits to spare.
+     */
+    private static int hashesFor(int words, int longs, double falsePositiveRate) {
+        double optimal = words == 0 ? 1 : Math.log(2) * longs * 64 / words;
+        double wanted = -Math.log(falsePositiveRate) / Math.log(2);
+        return (int) Math.max(1, Math.min(MAX_HASHES, Math.round(Math.min(optimal, wanted))));
+    }
+
+    private static void add(long[] bits, int hashes, CharSequence word) {
+        long hash = WordHash.hash(word, 0);
+        int base = block(hash, bits.length / (BLOCK_BITS / 64)) * (BLOCK_BITS / 64);
+        long mixed = WordHash.mix(hash ^ 0x9E3779B97F4A7C15L);
+        int pos = (int) mixed;
+        int step = (int) (mixed >>> 32) | 1;
+        for (int ix = 0; ix < hashes; ix += 1) {
+            int bit = pos >>> 23;
+            bits[base + (bit >>> 6)] |= 1L << bit;
+            pos += step;
+        }
+    }
+
+    /**
+     * @param word  The (normalized) word.
+     * @return  false if `word` is certainly not a word of the filter, true
+     *          if it may be.
+     */
+    boolean mightContain(CharSequence word) {
+        long hash = WordHash.hash(word, 0);
+        int base = block(hash, blocks) * (BLOCK_BITS / 64);
+        long mixed = WordHash.mix(hash ^ 0x9E3779B97F4A7C15L);
+        int pos = (int) mixed;
+        int step = (int) (mixed >>> 32) | 1;
+        for (int ix = 0; ix < hashes; ix += 1) {
+            int bit = pos >>> 23;
+            if ((bits[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+            pos += step;
+        }
+        return true;
+    }
+
+    private static int block(long hash, int blocks) {
+        return (int) (((hash >>> 32) * blocks) >>> 32);
+    }
+
+    /**
+     * @return  The false positive rate expected from the bits and hashes
+     *          actually used. The words are not spread evenly over the
+     *          blocks: the rate of a block of j words,
+     *          (1 - (1 - 1/512)^(k * j))^k, is averaged over the Poisson
+     *          distribution of j (mean n / blocks). A bit higher than
+     *          (1 - e^(-k * n / m))^k of an unblocked filter of the same size.
+     */
+    double expectedFalsePositiveRate() {
+        double mean = (double) words / blocks;
+        if (mean == 0) {
+            return 0;
+        }
+        double rate = 0;
+        double logFactorial = 0;
+        int most = (int) Math.ceil(mean + 10 * Math.sqrt(mean) + 10);
+        for (int load = 0; load <= most; load += 1) {
+            logFactorial += load == 0 ? 0 : Math.log(load);
+            double probability = Math.exp(load * Math.log(mean) - mean - logFactorial);
+            rate += probability * Math.pow(1 - Math.pow(1 - 1.0 / BLOCK_BITS, (double) hashes * load), hashes);
+        }
+        return rate;
+    }
+
+    int hashes() {
+        return hashes;
+    }
+
+    long sizeInBytes() {
+        return 8L * bits.length;
+    }
+
+}
@@ -0,0 +1,43 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+/**
+ * 64 bits hash of the letters of a word: FNV-1a over the letters (as the
+ * bytes of a {@link WordArena}), then the finalizer of SplitMix64. The
+ * same for a word of an arena and for the word as a string.
+ */
+final class WordHash {
+
+    private static final long OFFSET_BASIS = 0xCBF29CE484222325L;
+
+    private static final long PRIME = 0x100000001B3L;
+
+    private WordHash() {
+    }
+
+    static long hash(WordArena arena, int id, long seed) {
+        long hash = OFFSET_BASIS ^ seed;
+        for (int pos = 0; pos < arena.length(id); pos += 1) {
+            hash = (hash ^ arena.charAt(id, pos)) * PRIME;
+        }
+        return mix(hash);
+    }
+
+    static long hash(CharSequence word, long seed) {
+        long hash = OFFSET_BASIS ^ seed;
+        for (int ix = 0; ix < word.length(); ix += 1) {
+            hash = (hash ^ (word.charAt(ix) & 0xFF)) * PRIME;
+        }
+        return mix(hash);
+    }
+
+    /*
+     * The finalizer of SplitMix64.
+     */
+    static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -0,0 +1,177 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parses the word list (UTF-8, one word per line) into the words of the
+ * {@link Dictionary}: normalized, de-duplicated and sorted.
+ *
+ * The content is split into segments of about {@link #SEGMENT_SIZE} bytes,
+ * each ending at a line break, so that no line spans 2 segments ('\n' is
+ * never part of a multi-byte UTF-8 character). The segments are decoded,
+ * normalized and sorted in parallel, then merged (left before right) into
+ * one sorted array.
+ */
+final class WordListParser {
+
+    /**
+     * Bytes per segment, about 25,000 words of the default word list.
+     */
+    static final int SEGMENT_SIZE = 1 << 18;
+
+    private WordListParser() {
+    }
+
+    /**
+     * @param content  The word list.
+     * @param pool     The pool to parse the segments in parallel, or null
+     *                 for sequential.
+     * @return  The words, normalized, de-duplicated and sorted.
+     */
+    static String[] parse(byte[] content, ForkJoinPool pool) {
+        return parse(content, pool, SEGMENT_SIZE);
+    }
+
+    static String[] parse(byte[] content, ForkJoinPool pool, int segmentSize) {
+        int[] bounds = segments(content, segmentSize);
+        if (pool == null || bounds.length <= 2) {
+            return parseSegment(content, 0, content.length);
+        }
+        return pool.invoke(new ParseTask(content, bounds, 0, bounds.length - 1));
+    }
+
+    /**
+     * @return  The words of `lines`, normalized, de-duplicated and sorted.
+     */
+    static String[] sortedWords(Collection<String> lines) {
+        TreeSet<String> sorted = new TreeSet<>();
+        for (String line : lines) {
+            String word = Dictionary.normalize(line);
+            if (!word.isEmpty() && WordArena.isEncodable(word)) {
+                sorted.add(word);
+            }
+        }
+        return sorted.toArray(new String[0]);
+    }
+
+    /*
+     * @return  The bounds of the segments: 0, the position after a '\n'
+     *          every `segmentSize` bytes or so, then the length of `content`.
+     */
+    static int[] segments(byte[] content, int segmentSize) {
+        int[] bounds = new int[content.length / segmentSize + 2];
+        int count = 1;
+        int pos = 0;
+        while (content.length - pos > segmentSize) {
+            int end = pos + segmentSize;
+            while (end < content.length && content[end - 1] != '\n') {
+                end += 1;
+            }
+            if (end >= content.length) {
+                break;
+            }
+            bounds[count++] = end;
+            pos = end;
+        }
+        bounds[count++] = content.length;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /*
+     * Lines end with "\n", "\r\n" or "\r", same as BufferedReader#readLine().
+     */
+    private static String[] parseSegment(byte[] content, int from, int to) {
+        List<String> words = new ArrayList<>();
+        int start = from;
+        for (int pos = from; pos <= to; pos += 1) {
+            if (pos == to || content[pos] == '\n' || content[pos] == '\r') {
+                if (pos > start) {
+                    String word = Dictionary.normalize(new String(content, start, pos - start, StandardCharsets.UTF_8));
+                    if (!word.isEmpty() && WordArena.isEncodable(word)) {
+                        words.add(word);
+                    }
+                }
+                start = pos + 1;
+            }
+        }
+        String[] sorted = words.toArray(new String[0]);
+        Arrays.sort(sorted);
+        int size = 0;
+        for (String word : sorted) {
+            if (size == 0 || !sorted[size - 1].equals(word)) {
+                sorted[size++] = word;
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+
+    /*
+     * Merges the sorted `left` and `right`, without duplicates.
+     */
+    private static String[] merge(String[] left, String[] right) {
+        String[] merged = new String[left.length + right.length];
+        int size = 0;
+        int lx = 0;
+        int rx = 0;
+        while (lx < left.length || rx < right.length) {
+            String word;
+            if (rx == right.length) {
+                word = left[lx++];
+            } else if (lx == left.length) {
+                word = right[rx++];
+            } else {
+                int cmp = left[lx].compareTo(right[rx]);
+                word = cmp <= 0 ? left[lx++] : right[rx++];
+                if (cmp == 0) {
+                    rx += 1;
+                }
+            }
+            merged[size++] = word;
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    /*
+     * Splits the segments [from, to), one leaf task per segment.
+     */
+    private static class ParseTask extends RecursiveTask<String[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] content;
+
+        private final int[] bounds;
+
+        private final int from;
+
+        private final int to;
+
+        ParseTask(byte[] content, int[] bounds, int from, int to) {
+            this.content = content;
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected String[] compute() {
+            if (to - from == 1) {
+                return parseSegment(content, bounds[from], bounds[to]);
+            }
+            int mid = (from + to) >>> 1;
+            ParseTask right = new ParseTask(content, bounds, mid, to);
+            right.fork();
+            String[] left = new ParseTask(content, bounds, from, mid).compute();
+            return merge(left, right.join());
+        }
+
+    }
+
+}
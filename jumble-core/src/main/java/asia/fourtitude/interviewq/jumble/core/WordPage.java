@@ -0,0 +1,42 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.List;
+
+/**
+ * One page of the words of a query, with the total number of words of the
+ * query, both from the same dictionary (see {@link JumbleEngine#reload()}).
+ */
+public final class WordPage {
+
+    private final List<String> words;
+
+    private final int total;
+
+    WordPage(List<String> words, int total) {
+        this.words = words;
+        this.total = total;
+    }
+
+    /**
+     * @return  The words of the page.
+     */
+    public List<String> getWords() {
+        return words;
+    }
+
+    /**
+     * @return  The number of words of the query, all the pages.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(sb.length() == 0 ? "" : ", ").append("words.size=[").append(words.size()).append(']');
+        sb.append(sb.length() == 0 ? "" : ", ").append("total=[").append(total).append(']');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,45 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import java.util.Locale;
+
+/**
+ * The storage backend of the dictionary words.
+ */
+public enum WordStorage {
+
+    /**
+     * All the words in one byte array with an offset table, and a minimal
+     * perfect hash for membership. Fastest, and the only one which can be mapped
+     * from an index file.
+     */
+    ARENA,
+
+    /**
+     * Front coded blocks: each word stores only the suffix after the prefix
+     * it shares with the previous word, restarting every block. Smallest,
+     * for large word lists; a word is decoded from the head of its block.
+     */
+    FRONT_CODED,
+
+    /**
+     * Same as {@link #ARENA}, with the arena, the perfect hash and the
+     * flat indexes (and the suffix and trigram postings) in one direct
+     * buffer, outside the Java heap: the heap footprint of the dictionary
+     * then barely grows with its number of words, and the GC has nothing to
+     * scan or copy. Mapped from the index file, when any.
+     */
+    OFF_HEAP;
+
+    /**
+     * @param name  The name, case insensitive, '-' same as '_', e.g. "front-coded".
+     * @return  The storage, or ARENA when `name` is null or blank.
+     * @throws IllegalArgumentException  When `name` is not a storage.
+     */
+    public static WordStorage of(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return ARENA;
+        }
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+}
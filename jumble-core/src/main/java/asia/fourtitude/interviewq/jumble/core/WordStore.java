@@ -0,0 +1,63 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+/**
+ * Storage of the sorted (normalized, unique) words, by word id. All the
+ * indexes of the {@link Dictionary} are built on it.
+ *
+ * See {@link WordStorage} for the implementations.
+ */
+interface WordStore {
+
+    int size();
+
+    int length(int id);
+
+    char charAt(int id, int pos);
+
+    /**
+     * Materializes the word, only at the boundaries (results of the engine).
+     */
+    String word(int id);
+
+    /**
+     * @return  Negative, zero or positive as word `id` sorts before, equals
+     *          or sorts after `word` (same ordering as String).
+     */
+    int compare(int id, CharSequence word);
+
+    default boolean equals(int id, CharSequence word) {
+        return length(id) == word.length() && compare(id, word) == 0;
+    }
+
+    /**
+     * @return  true if word `id` contains `fragment` (anywhere).
+     */
+    boolean contains(int id, CharSequence fragment);
+
+    /**
+     * @param word  The (normalized) word.
+     * @return  The word id of `word`, or negative if not exists.
+     */
+    default int indexOf(CharSequence word) {
+        int lo = 0;
+        int hi = size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = compare(mid, word);
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else if (cmp > 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return  The memory (bytes) of the stored words.
+     */
+    long sizeInBytes();
+
+}
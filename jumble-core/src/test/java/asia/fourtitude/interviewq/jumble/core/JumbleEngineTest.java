@@ -0,0 +1,975 @@
+package asia.fourtitude.interviewq.jumble.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JumbleEngineTest {
+
+    /*
+     * Shared by all the tests, the word list and indexes are loaded once.
+     */
+    static JumbleEngine engine;
+
+    @BeforeAll
+    static void setUp() {
+        engine = new JumbleEngine();
+    }
+
+    @Test
+    void accessResource() {
+        assertNotNull(this.getClass().getClassLoader().getResourceAsStream("words.txt"), "accessWordList");
+    }
+
+    @Test
+    void scramble() {
+        String word = "elephant";
+        String actual = engine.scramble(word);
+        assertNotEquals(actual, word);
+
+        word = "egg";
+        for (int ix = 0; ix < 100; ix += 1) {
+            String scrambled = engine.scramble(word);
+            assertNotEquals(scrambled, word);
+        }
+    }
+
+    @Test
+    void palindrome() {
+        assertEquals(61, engine.retrievePalindromeWords().size(), "retrievePalindromeWords.size()");
+    }
+
+    @Test
+    void randomWord() {
+        assertNotNull(engine.pickOneRandomWord(null), "length=null");
+        assertEquals(3, engine.pickOneRandomWord(3).length(), "length=3");
+        assertEquals(4, engine.pickOneRandomWord(4).length(), "length=4");
+        assertEquals(5, engine.pickOneRandomWord(5).length(), "length=5");
+        assertEquals(6, engine.pickOneRandomWord(6).length(), "length=6");
+        assertEquals(7, engine.pickOneRandomWord(7).length(), "length=7");
+        assertEquals(8, engine.pickOneRandomWord(8).length(), "length=8");
+        assertNull(engine.pickOneRandomWord(99), "length=99");
+    }
+
+    @Test
+    void givenNoLength_whenPickRandomWord_thenLengthFirst() {
+        // a length of 1 to 10 each with the same chance, then a word of that length
+        int[] counts = new int[11];
+        int draws = 5000;
+        for (int draw = 0; draw < draws; draw += 1) {
+            String word = engine.pickOneRandomWord(null);
+            assertTrue(word.length() >= 1 && word.length() <= 10, "word=" + word);
+            counts[word.length()] += 1;
+        }
+        for (int len = 1; len <= 10; len += 1) {
+            assertTrue(counts[len] > draws / 10 / 2 && counts[len] < draws / 10 * 2, "length=" + len + ";count=" + counts[len]);
+        }
+    }
+
+    @Test
+    void givenEmptyInvalidWord_thenExpectNotExists() {
+        assertFalse(engine.exists(null), "word=null");
+        assertFalse(engine.exists(""), "word=<EMPTY>");
+        assertFalse(engine.exists(" "), "word=<BLANK>");
+        assertFalse(engine.exists("not-valid"), "word=not-valid");
+        assertFalse(engine.exists("fourtitude"), "word=fourtitude");
+    }
+
+    @Test
+    void givenValidWord_thenExpectExists() {
+        assertTrue(engine.exists("Panda"), "word=Panda");
+        assertTrue(engine.exists("kangaroo"), "word=kangaroo");
+        assertTrue(engine.exists("MaNGoS"), "word=MaNGoS");
+    }
+
+    @Test
+    void givenInvalidPrefix_thenEmptyList() {
+        assertEquals(0, engine.wordsMatchingPrefix(null).size(), "prefix=null");
+        assertEquals(0, engine.wordsMatchingPrefix("").size(), "prefix=<EMPTY>");
+        assertEquals(0, engine.wordsMatchingPrefix(" ").size(), "prefix=<BLANK>");
+        assertEquals(0, engine.wordsMatchingPrefix("!").size(), "prefix=<PUNCT>");
+    }
+
+    @Test
+    void givenValidPrefix_thenSomeWords() {
+        assertEquals(5234, engine.wordsMatchingPrefix("p").size(), "prefix=p");
+        assertEquals(714, engine.wordsMatchingPrefix("pe").size(), "prefix=pe");
+        assertEquals(96, engine.wordsMatchingPrefix("pen").size(), "prefix=pen");
+        assertEquals(7, engine.wordsMatchingPrefix("pend").size(), "prefix=pend");
+        assertEquals(3, engine.wordsMatchingPrefix("pendu").size(), "prefix=pendu");
+        assertEquals(3, engine.wordsMatchingPrefix("pendul").size(), "prefix=pendul");
+        assertEquals(2, engine.wordsMatchingPrefix("pendulu").size(), "prefix=pendulu");
+        assertEquals(2, engine.wordsMatchingPrefix("pendulum").size(), "prefix=pendulum");
+        assertEquals(1, engine.wordsMatchingPrefix("pendulums").size(), "prefix=pendulums");
+        assertEquals(0, engine.wordsMatchingPrefix("pendulumss").size(), "prefix=pendulumss");
+    }
+
+    @Test
+    void givenValidPrefixCaseInsensitive_thenSomeWords() {
+        assertEquals(engine.wordsMatchingPrefix("PeN").size(), engine.wordsMatchingPrefix("pen").size(), "prefix=CASE_INSENSITIVE");
+    }
+
+    @Test
+    void givenPrefix_whenPaging_thenSameAsSubList() {
+        List<String> all = new ArrayList<>(engine.wordsMatchingPrefix("pe"));
+        assertEquals(all.size(), engine.countWordsMatchingPrefix("PE"), "count;prefix=PE");
+        assertEquals(all.subList(0, 100), engine.wordsMatchingPrefix("pe", 0, 100), "prefix=pe;page=0");
+        assertEquals(all.subList(700, 714), engine.wordsMatchingPrefix("pe", 700, 100), "prefix=pe;page=last");
+        assertEquals(0, engine.wordsMatchingPrefix("pe", 714, 100).size(), "prefix=pe;page=beyond");
+        assertEquals(0, engine.countWordsMatchingPrefix("p3"), "count;prefix=p3");
+        assertEquals(0, engine.wordsMatchingPrefix(null, 0, 100).size(), "prefix=null");
+
+        WordPage page = engine.wordsMatchingPrefixPage("pe", 700, 100);
+        assertEquals(all.subList(700, 714), page.getWords(), "page;prefix=pe");
+        assertEquals(all.size(), page.getTotal(), "page.total;prefix=pe");
+        page = engine.searchWordsPage('a', 'e', 5, 3, 10);
+        assertEquals(engine.searchWords('a', 'e', 5, 3, 10), page.getWords(), "page;search=a,e,5");
+        assertEquals(engine.countSearchWords('a', 'e', 5), page.getTotal(), "page.total;search=a,e,5");
+        page = engine.generateSubWordsPage("jumble", 3, 1, 2);
+        assertEquals(engine.generateSubWords("jumble", 3, 1, 2), page.getWords(), "page;subWords=jumble");
+        assertEquals(engine.countSubWords("jumble", 3), page.getTotal(), "page.total;subWords=jumble");
+        page = engine.wordsMatchingSuffixPage("tion", 0, 5);
+        assertEquals(engine.wordsMatchingSuffix("tion", 0, 5), page.getWords(), "page;suffix=tion");
+        assertEquals(engine.countWordsMatchingSuffix("tion"), page.getTotal(), "page.total;suffix=tion");
+    }
+
+    @Test
+    void givenCriteria_whenPagingSearchWords_thenSameAsSearchWords() {
+        Character[] chars = { null, 'a', 'E', 'q', 'x' };
+        Integer[] lengths = { null, 1, 2, 5, 9 };
+        for (Character startChar : chars) {
+            for (Character endChar : chars) {
+                for (Integer length : lengths) {
+                    String criteria = "start=" + startChar + ";end=" + endChar + ";length=" + length;
+                    List<String> all = new ArrayList<>(engine.searchWords(startChar, endChar, length));
+                    assertEquals(all.size(), engine.countSearchWords(startChar, endChar, length), "count;" + criteria);
+                    assertEquals(all, engine.searchWords(startChar, endChar, length, 0, Integer.MAX_VALUE), criteria);
+                    assertEquals(all.subList(Math.min(3, all.size()), Math.min(13, all.size())),
+                            engine.searchWords(startChar, endChar, length, 3, 10), "page=3;" + criteria);
+                }
+            }
+        }
+        assertEquals(0, engine.countSearchWords(' ', '$', 0), "count;start=<SPACE>;end=<PUNCT>;length=0");
+        assertEquals(0, engine.countSearchWords('\t', '7', -123), "count;start=<CONTROL>;end=<NUMBER>;length=<NEGATIVE>");
+    }
+
+    @Test
+    void givenAllEmptyAndOrInvalidInputs_thenEmptyList() {
+        assertEquals(0, engine.searchWords(null, null, null).size(), "start=null;end=null;length=null");
+        assertEquals(0, engine.searchWords(' ', '$', 0).size(), "start=<SPACE>;end=<PUNCT>;length=0");
+        assertEquals(0, engine.searchWords('\t', '7', -123).size(), "start=<CONTROL>;end=<NUMBER>;length=<NEGATIVE>");
+    }
+
+    @Test
+    void givenInvalidSuffix_thenEmptyList() {
+        assertEquals(0, engine.wordsMatchingSuffix(null).size(), "suffix=null");
+        assertEquals(0, engine.wordsMatchingSuffix("").size(), "suffix=<EMPTY>");
+        assertEquals(0, engine.wordsMatchingSuffix(" ").size(), "suffix=<BLANK>");
+        assertEquals(0, engine.wordsMatchingSuffix("!").size(), "suffix=<PUNCT>");
+        assertEquals(0, engine.countWordsMatchingSuffix("!"), "count;suffix=<PUNCT>");
+    }
+
+    @Test
+    void givenValidSuffix_thenSomeWords() {
+        assertEquals(20611, engine.wordsMatchingSuffix("s").size(), "suffix=s");
+        assertEquals(6429, engine.wordsMatchingSuffix("ING").size(), "suffix=ING");
+        assertEquals(1256, engine.wordsMatchingSuffix("tion").size(), "suffix=tion");
+        assertEquals(1256, engine.countWordsMatchingSuffix("tion"), "count;suffix=tion");
+        assertEquals(0, engine.wordsMatchingSuffix("zzz").size(), "suffix=zzz");
+        assertEquals(Arrays.asList("libation", "probation", "approbation"), engine.wordsMatchingSuffix("tion", 0, 3), "suffix=tion;page=0");
+        assertEquals(Arrays.asList("vacation", "desiccation", "defecation"), engine.wordsMatchingSuffix("tion", 10, 3), "suffix=tion;page=10");
+        assertEquals(6, engine.wordsMatchingSuffix("tion", 1250, 100).size(), "suffix=tion;page=last");
+        assertEquals(0, engine.wordsMatchingSuffix("tion", 1256, 100).size(), "suffix=tion;page=beyond");
+    }
+
+    @Test
+    void givenInvalidFragment_thenEmptyList() {
+        assertEquals(0, engine.wordsContaining(null).size(), "fragment=null");
+        assertEquals(0, engine.wordsContaining("").size(), "fragment=<EMPTY>");
+        assertEquals(0, engine.wordsContaining(" ").size(), "fragment=<BLANK>");
+        assertEquals(0, engine.wordsContaining("ou-gh").size(), "fragment=ou-gh");
+    }
+
+    @Test
+    void givenValidFragment_thenSomeWords() {
+        assertEquals(990, engine.wordsContaining("q").size(), "fragment=q");
+        assertEquals(172, engine.wordsContaining("ZZ").size(), "fragment=ZZ");
+        assertEquals(2881, engine.wordsContaining("ion").size(), "fragment=ion");
+        assertEquals(131, engine.wordsContaining("ough").size(), "fragment=ough");
+        assertEquals(0, engine.wordsContaining("abcd").size(), "fragment=abcd");
+        assertEquals(0, engine.wordsContaining("tiontion").size(), "fragment=tiontion");
+        assertTrue(engine.wordsContaining("endul").contains("pendulum"), "fragment=endul;word=pendulum");
+    }
+
+    @Test
+    void givenValidStartCharOnly_thenSomeWords() {
+        // uppercase, lowercase
+        assertEquals(3478, engine.searchWords('a', null, null).size(), "start=a;end=null;length=null");
+        assertEquals(3911, engine.searchWords('B', null, null).size(), "start=B;end=null;length=null");
+    }
+
+    @Test
+    void givenValidEndCharOnly_thenSomeWords() {
+        // uppercase, lowercase
+        assertEquals(677, engine.searchWords(null, 'c', null).size(), "start=null;end=c;length=null");
+        assertEquals(7654, engine.searchWords(null, 'D', null).size(), "start=null;end=D;length=null");
+    }
+
+    @Test
+    void givenValidLengthOnly_thenSomeWords() {
+        // length less than MAX
+        assertEquals(4, engine.searchWords(null, null, 1).size(), "start=null;end=null;length=1");
+        assertEquals(61, engine.searchWords(null, null, 2).size(), "start=null;end=null;length=2");
+        assertEquals(649, engine.searchWords(null, null, 3).size(), "start=null;end=null;length=3");
+        assertEquals(2446, engine.searchWords(null, null, 4).size(), "start=null;end=null;length=4");
+        assertEquals(4680, engine.searchWords(null, null, 5).size(), "start=null;end=null;length=5");
+        assertEquals(7352, engine.searchWords(null, null, 6).size(), "start=null;end=null;length=6");
+        assertEquals(9878, engine.searchWords(null, null, 7).size(), "start=null;end=null;length=7");
+        assertEquals(10466, engine.searchWords(null, null, 8).size(), "start=null;end=null;length=8");
+        assertEquals(9412, engine.searchWords(null, null, 9).size(), "start=null;end=null;length=9");
+        assertEquals(7569, engine.searchWords(null, null, 10).size(), "start=null;end=null;length=10");
+        assertEquals(5250, engine.searchWords(null, null, 11).size(), "start=null;end=null;length=11");
+        assertEquals(3383, engine.searchWords(null, null, 12).size(), "start=null;end=null;length=12");
+        assertEquals(1885, engine.searchWords(null, null, 13).size(), "start=null;end=null;length=13");
+        assertEquals(891, engine.searchWords(null, null, 14).size(), "start=null;end=null;length=14");
+        assertEquals(434, engine.searchWords(null, null, 15).size(), "start=null;end=null;length=15");
+        assertEquals(176, engine.searchWords(null, null, 16).size(), "start=null;end=null;length=16");
+        assertEquals(84, engine.searchWords(null, null, 17).size(), "start=null;end=null;length=17");
+        assertEquals(21, engine.searchWords(null, null, 18).size(), "start=null;end=null;length=18");
+        assertEquals(10, engine.searchWords(null, null, 19).size(), "start=null;end=null;length=19");
+        assertEquals(7, engine.searchWords(null, null, 20).size(), "start=null;end=null;length=20");
+        assertEquals(2, engine.searchWords(null, null, 21).size(), "start=null;end=null;length=21");
+        assertEquals(2, engine.searchWords(null, null, 22).size(), "start=null;end=null;length=22");
+    }
+
+    @Test
+    void givenValidStartCharAndValidEndCharAndValidLength_thenSomeWords() {
+        assertEquals(307, engine.searchWords('F', 'G', null).size(), "start=F;end=G;length=null");
+        assertEquals(377, engine.searchWords('h', null, 7).size(), "start=h;end=null;length=7");
+        assertEquals(30, engine.searchWords(null, 'i', 8).size(), "start=null;end=i;length=8");
+        assertEquals(17, engine.searchWords('M', 'N', 9).size(), "start=M;end=N;length=9");
+
+        Collection<String> words = engine.searchWords('f', 'r', 6);
+        assertTrue(words.contains("flower"), "start=f;end=r;length=6;word=flower");
+    }
+
+    @Test
+    void givenValidStartCharAndValidEndCharAndValidLength_thenEmptyList() {
+        // length too large
+        // wrong combo of startChar and endChar
+        assertEquals(0, engine.searchWords('m', 'n', 19).size(), "start=m;end=n;length=19");
+        assertEquals(0, engine.searchWords('K', 'q', null).size(), "start=K;end=q;length=null");
+    }
+
+    @Test
+    void givenInvalidPattern_thenEmptyList() {
+        assertEquals(0, engine.wordsMatchingPattern(null).size(), "pattern=null");
+        assertEquals(0, engine.wordsMatchingPattern("").size(), "pattern=<EMPTY>");
+        assertEquals(0, engine.wordsMatchingPattern(" ").size(), "pattern=<BLANK>");
+        assertEquals(0, engine.wordsMatchingPattern("c.t").size(), "pattern=c.t");
+        assertEquals(0, engine.wordsMatchingPattern("c7t").size(), "pattern=c7t");
+    }
+
+    @Test
+    void givenValidPattern_thenSomeWords() {
+        assertEquals(63, engine.wordsMatchingPattern("?a??e").size(), "pattern=?a??e");
+        assertEquals(4680, engine.wordsMatchingPattern("?????").size(), "pattern=?????");
+        assertEquals(20, engine.wordsMatchingPattern("??x").size(), "pattern=??x");
+        assertEquals(138, engine.wordsMatchingPattern("st*ng").size(), "pattern=st*ng");
+        assertEquals(75, engine.wordsMatchingPattern("C?T*S").size(), "pattern=C?T*S");
+        assertEquals(1256, engine.wordsMatchingPattern("*tion").size(), "pattern=*tion");
+        assertEquals(309, engine.wordsMatchingPattern("q*").size(), "pattern=q*");
+        assertEquals(1, engine.wordsMatchingPattern("a*a*a*a").size(), "pattern=a*a*a*a");
+        assertEquals(0, engine.wordsMatchingPattern("zz??zz").size(), "pattern=zz??zz");
+        assertEquals(engine.searchWords(null, null, 22), engine.wordsMatchingPattern("??????????????????????"), "pattern=?x22");
+        assertTrue(engine.wordsMatchingPattern("p*m").contains("pendulum"), "pattern=p*m;word=pendulum");
+    }
+
+    @Test
+    void givenInvalidWord_whenAnagramsOf_thenEmptyList() {
+        assertEquals(0, engine.anagramsOf((String) null).size(), "word=null");
+        assertEquals(0, engine.anagramsOf("").size(), "word=<EMPTY>");
+        assertEquals(0, engine.anagramsOf(" ").size(), "word=<BLANK>");
+        assertEquals(0, engine.anagramsOf("sta!e").size(), "word=sta!e");
+        assertEquals(0, engine.anagramsOf("zzxq").size(), "word=zzxq");
+    }
+
+    @Test
+    void givenValidWord_whenAnagramsOf_thenSomeWords() {
+        assertEquals(Arrays.asList("least", "slate", "stale", "steal", "tales", "teals"), engine.anagramsOf("Least"), "word=Least");
+        assertEquals(Arrays.asList("enlist", "inlets", "listen", "silent", "tinsel"), engine.anagramsOf("nilset"), "word=nilset");
+        assertEquals(Arrays.asList("baa"), engine.anagramsOf("aab"), "word=aab");
+    }
+
+    @Test
+    void givenManyWords_whenAnagramsOf_thenSameAsOneByOne() {
+        List<String> words = Arrays.asList("evil", "vile", "dog", "", "evil", "qqq");
+        Map<String, Collection<String>> anagrams = engine.anagramsOf(words);
+        assertEquals(Arrays.asList("evil", "vile", "dog", "", "qqq"), Arrays.asList(anagrams.keySet().toArray()), "keys");
+        for (Map.Entry<String, Collection<String>> entry : anagrams.entrySet()) {
+            assertEquals(engine.anagramsOf(entry.getKey()), entry.getValue(), "word=" + entry.getKey());
+        }
+    }
+
+    @Test
+    void whenInvalidWord_thenEmptyList() {
+        assertEquals(0, engine.generateSubWords(null, null).size(), "word=null;len=null");
+        assertEquals(0, engine.generateSubWords("", null).size(), "word=<EMPTY>;len=null");
+        assertEquals(0, engine.generateSubWords(" ", null).size(), "word=<BLANK>;len=null");
+        assertEquals(0, engine.generateSubWords("@", null).size(), "word=<PUNCT>;len=null");
+        assertEquals(0, engine.generateSubWords("fusion", 6).size(), "word=fusion;len=6");
+        assertEquals(3, engine.generateSubWords("fusion", 5).size(), "word=fusion;len=5");
+    }
+
+    @Test
+    void whenValidWord_thenSomeWord() {
+        assertEquals(16, engine.generateSubWords("fusion", null).size(), "word=fusion;len=null");
+        assertEquals(0, engine.generateSubWords("fusion", 0).size(), "word=fusion;len=0");
+        assertEquals(27, engine.generateSubWords("fusion", 1).size(), "word=fusion;len=1");
+        assertEquals(25, engine.generateSubWords("fusion", 2).size(), "word=fusion;len=2");
+        assertEquals(16, engine.generateSubWords("fusion", 3).size(), "word=fusion;len=3");
+        assertEquals(6, engine.generateSubWords("fusion", 4).size(), "word=fusion;len=4");
+        assertEquals(0, engine.generateSubWords("fusion", 5).size(), "word=fusion;len=5");
+    }
+
+    @Test
+    void givenLongWord_whenGenerateSubWordsInParallel_thenSameAsSequential() {
+        JumbleEngine sequential = new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD);
+        JumbleEngine parallel = new JumbleEngine(4, 1);
+        for (String word : Arrays.asList("fusion", "establishment", "representatives")) {
+            assertEquals(sequential.generateSubWords(word, 3), parallel.generateSubWords(word, 3), "word=" + word);
+        }
+    }
+
+    @Test
+    void givenManyWords_whenGenerateSubWordsInBulk_thenSameAsOneByOne() {
+        List<String> words = Arrays.asList("yellow", "fusion", "@", "establishment", "fusion");
+        Map<String, Collection<String>> bulk = new JumbleEngine(4, 1).generateSubWordsInBulk(words, null);
+        assertEquals(Arrays.asList("yellow", "fusion", "@", "establishment"), Arrays.asList(bulk.keySet().toArray()), "keys");
+        for (Map.Entry<String, Collection<String>> entry : bulk.entrySet()) {
+            assertEquals(engine.generateSubWords(entry.getKey(), null), entry.getValue(), "word=" + entry.getKey());
+        }
+    }
+
+    @Test
+    void givenInvalidWord_whenWordsWithinDistance_thenEmptyList() {
+        assertEquals(0, engine.wordsWithinDistance(null, 1).size(), "word=null");
+        assertEquals(0, engine.wordsWithinDistance("", 1).size(), "word=<EMPTY>");
+        assertEquals(0, engine.wordsWithinDistance(" ", 1).size(), "word=<BLANK>");
+        assertEquals(0, engine.wordsWithinDistance("tom@to", 1).size(), "word=tom@to");
+        assertEquals(0, engine.wordsWithinDistance("tomato", -1).size(), "maxDistance=-1");
+        assertEquals(0, engine.wordsWithinDistance("tomato", JumbleEngine.MAX_FUZZY_DISTANCE + 1).size(), "maxDistance=MAX+1");
+    }
+
+    @Test
+    void givenValidWord_whenWordsWithinDistance_thenSuccess() {
+        assertEquals(Arrays.asList("tomato", "tomatoes"), engine.wordsWithinDistance("Tomatoe", 1), "word=Tomatoe;maxDistance=1");
+        assertEquals(Arrays.asList("appal", "appeal", "rappel"), engine.wordsWithinDistance("appel", 1), "word=appel;maxDistance=1");
+        assertEquals(Arrays.asList("ranker"), engine.wordsWithinDistance("ranker", 0), "word=ranker;maxDistance=0");
+        assertEquals(0, engine.wordsWithinDistance("rankerx", 0).size(), "word=rankerx;maxDistance=0");
+
+        // same as brute force over the whole word list
+        for (String word : Arrays.asList("ranc", "qwerty", "bat")) {
+            List<String> expected = new ArrayList<>();
+            for (String candidate : engine.wordsMatchingPattern("*")) {
+                if (FuzzyMatcher.distance(word, candidate) <= 2) {
+                    expected.add(candidate);
+                }
+            }
+            assertEquals(expected, engine.wordsWithinDistance(word, 2), "word=" + word + ";maxDistance=2");
+        }
+    }
+
+    @Test
+    void givenIncorrectGuess_whenSuggestWords_thenSubWordsOfGame() {
+        Map<String, Boolean> subWords = new TreeMap<>();
+        for (String subWord : engine.generateSubWords("ranker", 3)) {
+            subWords.put(subWord, Boolean.FALSE);
+        }
+        GameState gameState = new GameState("ranker", "rnraek", subWords);
+        assertEquals(Arrays.asList("ran", "rank"), engine.suggestWords(gameState, "ranc", 1), "guess=ranc;maxDistance=1");
+        assertEquals(Arrays.asList("ran", "rank", "rake", "rare"), engine.suggestWords(gameState, "ranc", 2), "guess=ranc;maxDistance=2");
+
+        // already guessed words are not suggested
+        gameState.updateGuessWord("rank");
+        assertEquals(Arrays.asList("ran"), engine.suggestWords(gameState, "ranc", 1), "guess=ranc;guessed=rank");
+        assertEquals(0, engine.suggestWords(gameState, "zzz", 1).size(), "guess=zzz");
+        assertEquals(0, engine.suggestWords(gameState, null, 1).size(), "guess=null");
+    }
+
+    @Test
+    void givenValidInput_whenCreateGameState_thenExpectSuccess() {
+        assertNotNull(engine.createGameState(3, null), "length=3;minLength=null");
+        assertNotNull(engine.createGameState(4, null), "length=4;minLength=null");
+        assertNotNull(engine.createGameState(4, 3), "length=4;minLength=3");
+        assertNotNull(engine.createGameState(5, 3), "length=5;minLength=3");
+        assertNotNull(engine.createGameState(6, 5), "length=6;minLength=5");
+        assertNotNull(engine.createGameState(6, 6), "length=6;minLength=6");
+    }
+
+    @Test
+    void givenWord_whenCountSubWords_thenSameAsGenerateSubWords() {
+        for (String word : Arrays.asList("yellow", "Ranker", "titans", "gloomy", "abc", "zzxq", "aforethought")) {
+            assertEquals(engine.generateSubWords(word, 3).size(), engine.countSubWords(word, 3), "word=" + word + ";minLength=3");
+            assertEquals(engine.generateSubWords(word, 5).size(), engine.countSubWords(word, 5), "word=" + word + ";minLength=5");
+        }
+        assertEquals(0, engine.countSubWords(null, 3), "word=null");
+        assertEquals(0, engine.countSubWords("ab", 3), "word=ab");
+        assertEquals(0, engine.countSubWords("ab1", 3), "word=ab1");
+
+        // 2^26 sub-multisets: the words are scanned instead
+        String alphabet = "abcdefghijklmnopqrstuvwxyz";
+        List<String> all = new ArrayList<>(engine.generateSubWords(alphabet, 3));
+        assertEquals(all.size(), engine.countSubWords(alphabet, 3), "word=alphabet;count");
+        WordPage page = engine.generateSubWordsPage(alphabet, 3, 100, 50);
+        assertEquals(all.subList(100, 150), page.getWords(), "word=alphabet;page");
+        assertEquals(all.size(), page.getTotal(), "word=alphabet;page.total");
+        assertEquals(engine.generateSubWords(alphabet + alphabet, 3).size(), engine.countSubWords(alphabet + alphabet, 3), "word=alphabet*2;count");
+    }
+
+    @Test
+    void givenWord_whenPagingSubWords_thenSameAsGenerateSubWords() {
+        for (String word : Arrays.asList("yellow", "Ranker", "abc", "aforethought")) {
+            List<String> all = new ArrayList<>(engine.generateSubWords(word, 3));
+            assertEquals(all, engine.generateSubWords(word, 3, 0, Integer.MAX_VALUE), "word=" + word);
+            assertEquals(all.subList(Math.min(5, all.size()), Math.min(10, all.size())),
+                    engine.generateSubWords(word, 3, 5, 5), "word=" + word + ";page=5");
+        }
+        assertEquals(0, engine.generateSubWords("ab1", 3, 0, 10).size(), "word=ab1");
+    }
+
+    @Test
+    void givenDifficulty_whenCreateGameState_thenWordsInBand() {
+        int easyMax = 0;
+        int hardMin = Integer.MAX_VALUE;
+        for (int ix = 0; ix < 10; ix += 1) {
+            GameState easy = engine.createGameState(6, 3, Difficulty.EASY);
+            GameState hard = engine.createGameState(6, 3, Difficulty.HARD);
+            assertTrue(easy.getTotalWords() > 0, "easy=" + easy);
+            easyMax = Math.max(easyMax, easy.getTotalWords());
+            hardMin = Math.min(hardMin, hard.getTotalWords());
+        }
+        assertTrue(easyMax <= hardMin, "easyMax=" + easyMax + ";hardMin=" + hardMin);
+
+        GameState gameState = engine.createGameState(5, 4, 3, 4);
+        assertEquals(5, gameState.getOriginal().length(), "length=5");
+        assertTrue(gameState.getTotalWords() >= 3 && gameState.getTotalWords() <= 4, "minWords=3;maxWords=4;state=" + gameState);
+        for (String word : gameState.getSubWords().keySet()) {
+            assertTrue(word.length() >= 4, "minLength=4;word=" + word);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> { engine.createGameState(6, 3, 1000, 2000); }, "minWords=1000");
+        assertThrows(IllegalArgumentException.class, () -> { engine.createGameState(6, 3, 5, 4); }, "minWords>maxWords");
+        assertThrows(NullPointerException.class, () -> { engine.createGameState(6, 3, null); }, "difficulty=null");
+    }
+
+    @Test
+    void givenDateAndSeed_whenCreateDailyPuzzle_thenDeterministic() {
+        LocalDate date = LocalDate.of(2024, 2, 29);
+        DailyPuzzle puzzle = engine.createDailyPuzzle(date, 42L);
+        DailyPuzzle again = engine.createDailyPuzzle(date, 42L);
+        assertEquals(date, puzzle.getDate());
+        assertEquals(puzzle.getOriginal(), again.getOriginal(), "original");
+        assertEquals(puzzle.getScramble(), again.getScramble(), "scramble");
+        assertEquals(puzzle.getSubWords(), again.getSubWords(), "subWords");
+        assertEquals(JumbleEngine.DAILY_PUZZLE_LENGTH, puzzle.getOriginal().length(), "original.length");
+        assertNotEquals(puzzle.getOriginal(), puzzle.getScramble(), "scramble");
+        assertEquals(engine.generateSubWords(puzzle.getOriginal(), 3).size(), puzzle.getSubWords().size(), "subWords.size");
+
+        // a week of puzzles is not the same word every day
+        Set<String> originals = new HashSet<>();
+        for (int day = 0; day < 7; day += 1) {
+            originals.add(engine.createDailyPuzzle(date.plusDays(day), 42L).getOriginal());
+        }
+        assertTrue(originals.size() > 1, "originals=" + originals);
+    }
+
+    @Test
+    void givenDailyPuzzle_whenNewGameState_thenOwnGuesses() {
+        DailyPuzzle puzzle = engine.createDailyPuzzle(LocalDate.of(2024, 1, 1), 0L);
+        GameState player1 = puzzle.newGameState();
+        GameState player2 = puzzle.newGameState();
+        String word = puzzle.getSubWords().get(0);
+        assertTrue(player1.updateGuessWord(word), "player1;word=" + word);
+        assertEquals(Arrays.asList(word), player1.getGuessedWords(), "player1.guessedWords");
+        assertEquals(puzzle.getSubWords().size() - 1, player1.getRemainingWords(), "player1.remainingWords");
+        assertTrue(player2.getGuessedWords().isEmpty(), "player2.guessedWords");
+        assertEquals(puzzle.getSubWords().size(), player2.getRemainingWords(), "player2.remainingWords");
+        assertThrows(UnsupportedOperationException.class, () -> { puzzle.getSubWords().add("zzz"); }, "subWords read only");
+        assertSame(puzzle, player1.getPuzzle(), "puzzle");
+    }
+
+    @Test
+    void givenDailyGameState_whenWriteReadGuesses_thenSharedSubWords() throws IOException {
+        DailyPuzzle puzzle = engine.createDailyPuzzle(LocalDate.of(2024, 1, 1), 0L);
+        GameState gameState = puzzle.newGameState();
+        String word = puzzle.getSubWords().get(puzzle.getSubWords().size() - 1);
+        gameState.updateGuessWord(word);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameStateCodec.writeGuesses(gameState, new DataOutputStream(bytes));
+        // scramble and one bit per sub word, not the sub words
+        assertEquals(1 + puzzle.getScramble().length() + 1 + (puzzle.getSubWords().size() + 7) / 8, bytes.size(), "bytes.size");
+
+        GameState decoded = GameStateCodec.readGuesses(puzzle, new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertSame(puzzle.getSubWords(), decoded.words(), "shared subWords");
+        assertSame(puzzle, decoded.getPuzzle(), "puzzle");
+        assertEquals(gameState.getScramble(), decoded.getScramble(), "scramble");
+        assertEquals(Arrays.asList(word), decoded.getGuessedWords(), "guessedWords");
+        assertEquals(puzzle.getDictionaryVersion(), decoded.getDictionaryVersion(), "dictionaryVersion");
+        assertThrows(IllegalArgumentException.class,
+                () -> GameStateCodec.writeGuesses(engine.createGameState(6, 3), new DataOutputStream(new ByteArrayOutputStream())),
+                "not a daily game");
+    }
+
+    @Test
+    void givenFixedClock_whenDailyPuzzles_thenCachedPerDay() {
+        Clock clock = Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneOffset.UTC);
+        DailyPuzzles puzzles = new DailyPuzzles(engine, 7L, 2, clock);
+        puzzles.puzzleOf(LocalDate.of(2024, 3, 1));
+        puzzles.precompute();
+        // past day evicted, today + 2 days
+        assertEquals(3, puzzles.size(), "size");
+        assertSame(puzzles.today(), puzzles.puzzleOf(LocalDate.of(2024, 3, 10)), "today");
+        assertEquals(engine.createDailyPuzzle(LocalDate.of(2024, 3, 12), 7L).getOriginal(),
+                puzzles.puzzleOf(LocalDate.of(2024, 3, 12)).getOriginal(), "precomputed");
+    }
+
+    @Test
+    void givenGameState_whenEncodeDecode_thenSameState() {
+        GameState gameState = engine.createGameState(6, 3);
+        List<String> words = new ArrayList<>(gameState.getSubWords().keySet());
+        if (!words.isEmpty()) {
+            gameState.updateGuessWord(words.get(words.size() - 1));
+        }
+        byte[] bytes = GameStateCodec.encode(gameState);
+        GameState decoded = GameStateCodec.decode(bytes);
+        assertEquals(gameState.getOriginal(), decoded.getOriginal(), "original");
+        assertEquals(gameState.getScramble(), decoded.getScramble(), "scramble");
+        assertEquals(gameState.getSubWords(), decoded.getSubWords(), "subWords");
+        assertEquals(gameState.getGuessedWords(), decoded.getGuessedWords(), "guessedWords");
+        assertEquals(gameState.getRemainingWords(), decoded.getRemainingWords(), "remainingWords");
+        assertEquals(1, decoded.getDictionaryVersion(), "dictionaryVersion");
+        assertTrue(bytes.length < 16 + 8 * words.size(), "bytes.length=" + bytes.length + ";words=" + words.size());
+
+        GameState empty = GameStateCodec.decode(GameStateCodec.encode(new GameState("abc", "cab", (Map<String, Boolean>) null)));
+        assertNull(empty.getSubWords(), "subWords=null");
+        GameState version1 = GameStateCodec.decode(new byte[] { 1, 3, 'a', 'b', 'c', 3, 'c', 'a', 'b', 0 });
+        assertEquals("abc", version1.getOriginal(), "version=1;original");
+        assertEquals(0, version1.getDictionaryVersion(), "version=1;dictionaryVersion");
+        assertThrows(IllegalArgumentException.class, () -> { GameStateCodec.decode(new byte[] { 9 }); }, "version=9");
+    }
+
+    @Test
+    void givenInvalidInput_whenCreateGameState_thenExpectException() {
+        assertThrows(NullPointerException.class, () -> { engine.createGameState(null, null); }, "length=null;minLength=null");
+        assertThrows(IllegalArgumentException.class, () -> { engine.createGameState(1, null); }, "length=1;minLength=null");
+        assertThrows(IllegalArgumentException.class, () -> { engine.createGameState(2, null); }, "length=2;minLength=null");
+        assertThrows(IllegalArgumentException.class, () -> { engine.createGameState(4, 5); }, "length=4;minLength=5");
+    }
+
+    @Test
+    void givenWordArena_whenCompareOnBytes_thenSameAsString() {
+        List<String> words = Arrays.asList("a", "ab", "abc", "abd", "b", "banana", "nab");
+        WordArena arena = WordArena.of(words);
+        assertEquals(words.size(), arena.size(), "size");
+        for (int id = 0; id < arena.size(); id += 1) {
+            String word = words.get(id);
+            assertEquals(word, arena.word(id), "word=" + word);
+            assertEquals(WordArena.hash(word), arena.hash(id), "hash=" + word);
+            for (String other : Arrays.asList("", "a", "ab", "abcd", "an", "nan", "z")) {
+                assertEquals(Integer.signum(word.compareTo(other)), Integer.signum(arena.compare(id, other)), word + ";compare=" + other);
+                assertEquals(word.equals(other), arena.equals(id, other), word + ";equals=" + other);
+                assertEquals(word.contains(other), arena.contains(id, other), word + ";contains=" + other);
+            }
+        }
+        PerfectHash hash = PerfectHash.of(arena);
+        assertEquals(5, hash.indexOf("banana"), "indexOf=banana");
+        assertEquals(-1, hash.indexOf("ba"), "indexOf=ba");
+        for (int id = 0; id < arena.size(); id += 1) {
+            assertEquals(id, hash.indexOf(words.get(id)), "indexOf=" + words.get(id));
+        }
+        for (String other : Arrays.asList("", "aa", "abcd", "bananas", "z")) {
+            assertEquals(-1, hash.indexOf(other), "indexOf=" + other);
+        }
+    }
+
+    @Test
+    void givenFrontCodedStorage_whenQuery_thenSameAsArena() {
+        JumbleEngine frontCoded = new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD, null, WordStorage.FRONT_CODED);
+        DictionaryStats arenaStats = engine.getDictionaryStats();
+        DictionaryStats stats = frontCoded.getDictionaryStats();
+        assertEquals(WordStorage.FRONT_CODED, stats.getStorage(), "storage");
+        assertEquals(arenaStats.getWords(), stats.getWords(), "words");
+        assertTrue(stats.getBytesPerWord() < arenaStats.getBytesPerWord() / 2, "bytesPerWord " + stats + " vs " + arenaStats);
+        assertSameResults(engine, frontCoded);
+        assertEquals(engine.wordsMatchingPrefix("ab", 5, 40), frontCoded.wordsMatchingPrefix("ab", 5, 40), "prefix=ab;page");
+        assertEquals(engine.retrievePalindromeWords(), frontCoded.retrievePalindromeWords(), "palindromes");
+        assertEquals(WordStorage.FRONT_CODED, WordStorage.of("front-coded"), "of=front-coded");
+        assertEquals(WordStorage.ARENA, WordStorage.of(null), "of=null");
+    }
+
+    @Test
+    void givenOffHeapStorage_whenQuery_thenSameAsArena() {
+        JumbleEngine offHeap = new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD, null, WordStorage.OFF_HEAP);
+        DictionaryStats arenaStats = engine.getDictionaryStats();
+        DictionaryStats stats = offHeap.getDictionaryStats();
+        assertEquals(WordStorage.OFF_HEAP, stats.getStorage(), "storage");
+        assertFalse(stats.isMapped(), "mapped");
+        assertEquals(arenaStats.getWords(), stats.getWords(), "words");
+        assertEquals(0, arenaStats.getOffHeapBytes(), "arena offHeapBytes");
+        assertTrue(stats.getHeapBytes() < stats.getOffHeapBytes() / 2, "heapBytes " + stats);
+        assertTrue(stats.getOffHeapBytes() > arenaStats.getHeapBytes() / 2, "offHeapBytes " + stats + " vs " + arenaStats);
+        assertSameResults(engine, offHeap);
+        assertEquals(engine.wordsMatchingSuffix("tion", 3, 20), offHeap.wordsMatchingSuffix("tion", 3, 20), "suffix=tion;page");
+        assertEquals(engine.wordsContaining("umbl"), offHeap.wordsContaining("umbl"), "contains=umbl");
+        assertEquals(engine.wordsMatchingPattern("c?t"), offHeap.wordsMatchingPattern("c?t"), "pattern=c?t");
+        DictionaryStats built = offHeap.getDictionaryStats();
+        assertTrue(built.getOffHeapBytes() > stats.getOffHeapBytes(), "offHeapBytes of built indexes " + built + " vs " + stats);
+        assertTrue(built.getHeapBytes() < built.getOffHeapBytes() / 2, "heapBytes of built indexes " + built);
+        assertEquals(WordStorage.OFF_HEAP, WordStorage.of("off-heap"), "of=off-heap");
+    }
+
+    @Test
+    void givenWordFilter_whenNotWord_thenRejected() {
+        DictionaryStats stats = engine.getDictionaryStats();
+        assertTrue(stats.getFilterBytes() > 0, "filterBytes " + stats);
+        assertTrue(stats.getFilterFalsePositiveRate() > 0 && stats.getFilterFalsePositiveRate() < 0.02, "filterFalsePositiveRate " + stats);
+
+        List<String> words = Arrays.asList("abc", "jumble", "stale", "zebra", "rank", "ran", "tank");
+        WordFilter filter = WordFilter.of(words, 0.01);
+        assertTrue(filter.sizeInBytes() >= 64, "sizeInBytes");
+        for (String word : words) {
+            assertTrue(filter.mightContain(word), "mightContain=" + word);
+        }
+        Random random = new Random(1);
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int probe = 0; probe < probes; probe += 1) {
+            char[] letters = new char[8];
+            for (int ix = 0; ix < letters.length; ix += 1) {
+                letters[ix] = (char) ('a' + random.nextInt(26));
+            }
+            if (filter.mightContain(new String(letters))) {
+                falsePositives += 1;
+            }
+        }
+        assertTrue(falsePositives < probes * 0.03, "falsePositives=" + falsePositives);
+
+        // blocked: the expected rate is above the one of an unblocked filter, and measured
+        Set<String> members = new HashSet<>();
+        while (members.size() < 20_000) {
+            members.add(randomLetters(random, 6));
+        }
+        WordFilter large = WordFilter.of(new ArrayList<>(members), 0.01);
+        double unblocked = Math.pow(1 - Math.exp(-(double) large.hashes() * members.size() / (8.0 * large.sizeInBytes())), large.hashes());
+        assertTrue(large.expectedFalsePositiveRate() > unblocked, "expected=" + large.expectedFalsePositiveRate() + ";unblocked=" + unblocked);
+        falsePositives = 0;
+        for (int probe = 0; probe < probes; probe += 1) {
+            String letters = randomLetters(random, 7);
+            if (large.mightContain(letters)) {
+                falsePositives += 1;
+            }
+        }
+        double measured = (double) falsePositives / probes;
+        assertEquals(large.expectedFalsePositiveRate(), measured, large.expectedFalsePositiveRate() * 0.2,
+                "measured=" + measured + ";expected=" + large.expectedFalsePositiveRate());
+
+        GameState gameState = new GameState("ranker", "rnraek", Arrays.asList("ran", "rank", "rake"));
+        assertFalse(gameState.updateGuessWord("zzz"), "guess=zzz");
+        assertFalse(gameState.updateGuessWord("ra"), "guess=ra");
+        assertTrue(gameState.updateGuessWord("rank"), "guess=rank");
+        assertEquals(Arrays.asList("rank"), gameState.getGuessedWords(), "guessed");
+        assertTrue(gameState.isSubWord("ran"), "isSubWord=ran");
+        assertFalse(gameState.isSubWord("ranker"), "isSubWord=ranker");
+
+        assertTrue(engine.mightExist("STALE"), "mightExist=STALE");
+        assertFalse(engine.mightExist(null), "mightExist=null");
+        assertFalse(engine.mightExist("wrongword"), "mightExist=wrongword");
+        long version = engine.getDictionaryStats().getVersion();
+        assertFalse(engine.mightExist("wrongword", version), "mightExist=wrongword;version=current");
+        assertTrue(engine.mightExist("wrongword", version + 1), "mightExist=wrongword;version=other");
+        assertTrue(engine.mightExist("STALE", version), "mightExist=STALE;version=current");
+
+        JumbleEngine unfiltered = new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD,
+                DictionarySource.defaultWordList(), null, WordStorage.ARENA, 0);
+        assertEquals(0, unfiltered.getDictionaryStats().getFilterBytes(), "unfiltered filterBytes");
+        assertTrue(unfiltered.mightExist("wrongword"), "unfiltered mightExist=wrongword");
+        assertSameResults(engine, unfiltered);
+        assertThrows(IllegalArgumentException.class, () -> new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD,
+                DictionarySource.defaultWordList(), null, WordStorage.ARENA, 1.0));
+    }
+
+    private static String randomLetters(Random random, int length) {
+        char[] letters = new char[length];
+        for (int ix = 0; ix < letters.length; ix += 1) {
+            letters[ix] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+
+    /*
+     * Same results for a sample of every kind of query.
+     */
+    private static void assertSameResults(JumbleEngine expected, JumbleEngine actual) {
+        for (String word : Arrays.asList("abc", "jumble", "stale", "zebra", "zzz", "a", "")) {
+            assertEquals(expected.exists(word), actual.exists(word), "exists=" + word);
+        }
+        for (String prefix : Arrays.asList("a", "gre", "xyz", "zy")) {
+            assertEquals(expected.wordsMatchingPrefix(prefix), actual.wordsMatchingPrefix(prefix), "prefix=" + prefix);
+        }
+        assertEquals(expected.wordsMatchingSuffix("ing"), actual.wordsMatchingSuffix("ing"), "suffix=ing");
+        assertEquals(expected.wordsContaining("umb"), actual.wordsContaining("umb"), "contains=umb");
+        assertEquals(expected.wordsMatchingPattern("c?t"), actual.wordsMatchingPattern("c?t"), "pattern=c?t");
+        assertEquals(expected.searchWords('g', 'e', 5), actual.searchWords('g', 'e', 5), "search=g,e,5");
+        assertEquals(expected.anagramsOf("stale"), actual.anagramsOf("stale"), "anagram=stale");
+        assertEquals(expected.wordsWithinDistance("jumbel", 1), actual.wordsWithinDistance("jumbel", 1), "fuzzy=jumbel");
+        assertEquals(expected.generateSubWords("monster", 3), actual.generateSubWords("monster", 3), "subWords=monster");
+    }
+
+    @Test
+    void givenIndexFile_whenMapped_thenSameAsBuilt(@TempDir Path dir) throws IOException {
+        Path indexFile = dir.resolve("words.idx");
+        assertTrue(DictionaryFileBuilder.build(indexFile) > DictionaryFile.HEADER_SIZE, "size");
+        byte[] source = DictionarySource.defaultWordList().read();
+        assertNotNull(DictionaryFile.open(indexFile, source.length, DictionaryFile.checksum(source)), "open");
+
+        JumbleEngine mapped = new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD, indexFile);
+        assertTrue(mapped.getDictionaryStats().isMapped(), "mapped");
+        assertSameResults(engine, mapped);
+    }
+
+    @Test
+    void givenCorruptedOrStaleIndexFile_whenOpen_thenFallbackToBuild(@TempDir Path dir) throws IOException {
+        Path indexFile = dir.resolve("words.idx");
+        DictionaryFileBuilder.build(indexFile);
+        byte[] source = DictionarySource.defaultWordList().read();
+        long checksum = DictionaryFile.checksum(source);
+        assertThrows(IOException.class, () -> { DictionaryFile.open(indexFile, source.length + 1, checksum); }, "stale length");
+        assertThrows(IOException.class, () -> { DictionaryFile.open(indexFile, source.length, checksum + 1); }, "stale checksum");
+
+        byte[] bytes = Files.readAllBytes(indexFile);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(indexFile, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+        assertThrows(IOException.class, () -> { DictionaryFile.open(indexFile, source.length, checksum); }, "corrupted");
+        JumbleEngine corrupted = new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD, indexFile);
+        assertEquals(engine.anagramsOf("stale"), corrupted.anagramsOf("stale"), "fallback corrupted");
+        JumbleEngine missing = new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD, dir.resolve("missing.idx"));
+        assertEquals(engine.anagramsOf("stale"), missing.anagramsOf("stale"), "fallback missing");
+    }
+
+    @Test
+    void givenCorruptedSeedInIndexFile_whenOpen_thenFallbackToBuild(@TempDir Path dir) throws IOException {
+        Path indexFile = dir.resolve("words.idx");
+        DictionaryFileBuilder.build(indexFile);
+        byte[] source = DictionarySource.defaultWordList().read();
+        long checksum = DictionaryFile.checksum(source);
+
+        // the seed of the perfect hash, in the header
+        byte[] bytes = Files.readAllBytes(indexFile);
+        bytes[47] ^= 0x01;
+        Files.write(indexFile, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+        assertThrows(IOException.class, () -> { DictionaryFile.open(indexFile, source.length, checksum); }, "corrupted seed");
+        JumbleEngine corrupted = new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD, indexFile);
+        assertTrue(corrupted.exists("stale"), "fallback exists=stale");
+        assertEquals(engine.anagramsOf("stale"), corrupted.anagramsOf("stale"), "fallback corrupted seed");
+    }
+
+    @Test
+    void givenWordFile_whenReload_thenNewDictionaryAndGamesKeepTheirWords(@TempDir Path dir) throws IOException {
+        Path wordFile = dir.resolve("words.txt");
+        Files.write(wordFile, Arrays.asList("act", "cat", "tac"));
+        JumbleEngine reloadable = new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD,
+                DictionarySource.file(wordFile), null, WordStorage.ARENA);
+        assertEquals(1, reloadable.getDictionaryStats().getVersion(), "version");
+        assertEquals("file:" + wordFile, reloadable.getDictionaryStats().getSource(), "source");
+        reloadable.precomputeSubWordCounts(3, 3);
+        GameState game = reloadable.createGameState(3, 3);
+        assertEquals(1, game.getDictionaryVersion(), "game.dictionaryVersion");
+        assertEquals(2, game.getTotalWords(), "game.totalWords");
+
+        Files.write(wordFile, Arrays.asList("act", "cat", "dog", "god"));
+        DictionaryStats stats = reloadable.reload();
+        assertEquals(2, stats.getVersion(), "reloaded version");
+        assertEquals(4, stats.getWords(), "reloaded words");
+        assertSame(stats, reloadable.getDictionaryStats(), "current stats");
+        assertTrue(reloadable.exists("dog"), "exists=dog");
+        assertFalse(reloadable.exists("tac"), "exists=tac");
+        assertEquals(Arrays.asList("dog", "god"), new ArrayList<>(reloadable.anagramsOf("odg")), "anagram=odg");
+        assertEquals(2, reloadable.createGameState(3, 3).getDictionaryVersion(), "new game.dictionaryVersion");
+
+        // the old game keeps its words, and suggestions from them
+        assertEquals(2, game.getTotalWords(), "old game.totalWords");
+        assertEquals(1, GameStateCodec.decode(GameStateCodec.encode(game)).getDictionaryVersion(), "old game decoded");
+        List<String> words = new ArrayList<>(game.getSubWords().keySet());
+        assertEquals(words.subList(0, 1), reloadable.suggestWords(game, words.get(0) + "x", 1), "suggest");
+
+        Files.delete(wordFile);
+        assertThrows(IOException.class, () -> { reloadable.reload(); }, "missing word file");
+        assertEquals(2, reloadable.getDictionaryStats().getVersion(), "kept version");
+        assertTrue(reloadable.exists("dog"), "kept exists=dog");
+    }
+
+    @Test
+    void givenWatcher_whenWordFileChanged_thenReloaded(@TempDir Path dir) throws Exception {
+        Path wordFile = dir.resolve("words.txt");
+        Files.write(wordFile, Arrays.asList("act", "cat"));
+        JumbleEngine watched = new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD,
+                DictionarySource.file(wordFile), null, WordStorage.ARENA);
+        try (DictionaryWatcher watcher = new DictionaryWatcher(watched, 50)) {
+            watcher.start();
+            Files.write(wordFile, Arrays.asList("act", "cat", "dog"));
+            long deadline = System.currentTimeMillis() + 30_000;
+            while (!watched.exists("dog") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+        }
+        assertTrue(watched.exists("dog"), "exists=dog");
+        assertTrue(watched.getDictionaryStats().getVersion() >= 2, "version");
+    }
+
+    @Test
+    void givenNamedWordLists_whenLoadRegistry_thenSelectedByName(@TempDir Path dir) throws IOException {
+        Path usFile = dir.resolve("en_us.txt");
+        Path gbFile = dir.resolve("en_gb.txt");
+        Files.write(usFile, Arrays.asList("color", "colors"));
+        Files.write(gbFile, Arrays.asList("colour", "colours"));
+        Map<String, DictionarySource> sources = new LinkedHashMap<>();
+        sources.put("en-US", DictionarySource.file(usFile));
+        sources.put("en-gb", DictionarySource.file(gbFile));
+        sources.put("american", DictionarySource.file(dir.resolve("./en_us.txt")));
+        DictionaryRegistry registry = DictionaryRegistry.load(sources, null, WordStorage.ARENA, 2, 3);
+
+        assertEquals(Arrays.asList("en-us", "en-gb", "american"), new ArrayList<>(registry.getNames()), "names");
+        assertEquals("en-us", registry.getDefaultName(), "defaultName");
+        assertSame(registry.get("en-us"), registry.get(null), "default");
+        assertSame(registry.get("en-us"), registry.get("EN-US"), "case insensitive");
+        assertSame(registry.get("en-us"), registry.get("american"), "same word list, same engine");
+        assertEquals(2, registry.getEngines().size(), "engines");
+        assertNull(registry.get("fr"), "no such name");
+        assertTrue(registry.get("en-us").exists("color"), "en-us=color");
+        assertFalse(registry.get("en-us").exists("colour"), "en-us=colour");
+        assertTrue(registry.get("en-gb").exists("colour"), "en-gb=colour");
+        assertEquals(Arrays.asList("colour", "colours"), new ArrayList<>(registry.get("en-gb").wordsMatchingPrefix("col")), "en-gb prefix=col");
+        assertEquals(2, registry.getDictionaryStats().get("en-gb").getWords(), "en-gb words");
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            DictionaryRegistry.load(Collections.singletonMap("en us", DictionarySource.file(usFile)), null, WordStorage.ARENA, 1, 3);
+        }, "invalid name");
+        assertThrows(UnsupportedOperationException.class, () -> {
+            DictionaryRegistry.load(Collections.singletonMap("missing", DictionarySource.file(dir.resolve("missing.txt"))), null, WordStorage.ARENA, 1, 3);
+        }, "missing word list");
+    }
+
+    @Test
+    void givenViews_whenQueryWithView_thenMaskedWords(@TempDir Path dir) throws IOException {
+        Path wordFile = dir.resolve("words.txt");
+        Path offensiveFile = dir.resolve("offensive.txt");
+        Path commonFile = dir.resolve("common.txt");
+        Files.write(wordFile, Arrays.asList("damn", "east", "eat", "least", "sale", "seat", "slate", "stale", "steal",
+                "tale", "tales", "tea", "teals"));
+        Files.write(offensiveFile, Arrays.asList("Damn", "steal", "notaword"));
+        Files.write(commonFile, Arrays.asList("eat", "least", "sale", "slate", "tea"));
+        JumbleEngine engine = new JumbleEngine(1, 3, DictionarySource.file(wordFile), null, WordStorage.ARENA);
+        assertEquals(11, engine.defineView(DictionaryView.exclude("family-safe", DictionarySource.file(offensiveFile))), "family-safe words");
+        assertEquals(5, engine.defineView(DictionaryView.include("Common", DictionarySource.file(commonFile))), "common words");
+        JumbleEngine familySafe = engine.withView("family-safe");
+        JumbleEngine common = engine.withView("common");
+
+        assertFalse(familySafe.exists("steal"), "family-safe=steal");
+        assertTrue(familySafe.exists("stale"), "family-safe=stale");
+        assertTrue(engine.exists("steal"), "whole=steal");
+        assertEquals(Arrays.asList("least", "slate", "stale", "tales", "teals"), new ArrayList<>(familySafe.anagramsOf("least")), "family-safe anagrams");
+        assertEquals(Arrays.asList("stale"), new ArrayList<>(familySafe.wordsMatchingPrefix("st")), "family-safe prefix=st");
+        assertEquals(1, familySafe.countWordsMatchingPrefix("st"), "family-safe count prefix=st");
+        assertEquals(2, engine.countWordsMatchingPrefix("st"), "whole count prefix=st");
+        assertEquals(Arrays.asList("eat"), new ArrayList<>(common.wordsMatchingSuffix("at")), "common suffix=at");
+        assertEquals(2, engine.countWordsMatchingSuffix("at"), "whole count suffix=at");
+        assertFalse(familySafe.generateSubWords("steals", 3).contains("steal"), "family-safe sub words");
+        assertEquals(familySafe.generateSubWords("steals", 3).size(), familySafe.countSubWords("steals", 3), "family-safe count sub words");
+        assertEquals(Arrays.asList("eat", "sale", "slate", "tea"), new ArrayList<>(common.generateSubWords("least", 3)), "common sub words");
+
+        for (int ix = 0; ix < 20; ix += 1) {
+            GameState gameState = common.createGameState(5, 3);
+            assertTrue(Arrays.asList("least", "slate").contains(gameState.getOriginal()), "common game word");
+            assertTrue(Arrays.asList("eat", "least", "sale", "slate", "tea").containsAll(gameState.getSubWords().keySet()), "common game sub words");
+            assertTrue(Arrays.asList("least", "slate").contains(common.pickOneRandomWord(5)), "common random word");
+        }
+
+        engine.reload();
+        assertFalse(familySafe.exists("steal"), "family-safe after reload");
+        assertEquals(engine.getDictionaryStats().getVersion(), familySafe.getDictionaryStats().getVersion(), "same dictionary");
+        assertThrows(IllegalArgumentException.class, () -> engine.withView("missing"), "no such view");
+
+        Map<String, JumbleEngine> engines = new LinkedHashMap<>();
+        engines.put("default", engine);
+        engines.put("alias", engine);
+        DailyPuzzlesRegistry daily = new DailyPuzzlesRegistry(new DictionaryRegistry(engines), 7L, 0,
+                Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneOffset.UTC));
+        assertSame(daily.getDefault(), daily.get("alias", " "), "same word list, same puzzles");
+        assertSame(daily.get(null, "common"), daily.get("ALIAS", "Common"), "same view, same puzzles");
+        assertNotSame(daily.getDefault(), daily.get(null, "common"), "own puzzles per view");
+        assertNull(daily.get("missing", null), "no such dictionary");
+        assertNull(daily.get(null, "missing"), "no such view");
+    }
+
+    @Test
+    void givenWordList_whenParseInSegments_thenSameWords() throws IOException {
+        byte[] content = DictionarySource.defaultWordList().read();
+        String[] expected = WordListParser.sortedWords(JumbleEngine.lines(content));
+        byte[] mixed = "Tea\r\neat\r\n\r\n  Ate \rtea\nna\u00efve\neat".getBytes(StandardCharsets.UTF_8);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertArrayEquals(expected, WordListParser.parse(content, pool, 4096), "parallel");
+            assertArrayEquals(expected, WordListParser.parse(content, null), "sequential");
+            assertArrayEquals(new String[] { "ate", "eat", "na\u00efve", "tea" }, WordListParser.parse(mixed, pool, 4), "line breaks");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void givenGzipWordFile_whenLoad_thenSameAsPlain(@TempDir Path dir) throws IOException {
+        Path gzFile = dir.resolve("words.txt.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzFile))) {
+            out.write(DictionarySource.defaultWordList().read());
+        }
+        DictionarySource source = DictionarySource.file(gzFile);
+        assertTrue(source.isCompressed(), "compressed");
+        JumbleEngine loaded = new JumbleEngine(2, 3, source, null, WordStorage.ARENA);
+
+        assertEquals(engine.getDictionaryStats().getWords(), loaded.getDictionaryStats().getWords(), "words");
+        assertTrue(loaded.exists("abdicate"), "abdicate");
+        assertEquals(engine.anagramsOf("least"), loaded.anagramsOf("least"), "anagrams");
+    }
+
+}
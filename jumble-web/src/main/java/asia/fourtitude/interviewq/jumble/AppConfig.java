@@ -0,0 +1,145 @@
+package asia.fourtitude.interviewq.jumble;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import asia.fourtitude.interviewq.jumble.controller.GameEventBroadcaster;
+import asia.fourtitude.interviewq.jumble.core.DailyPuzzlesRegistry;
+import asia.fourtitude.interviewq.jumble.core.DictionaryRegistry;
+import asia.fourtitude.interviewq.jumble.core.DictionarySource;
+import asia.fourtitude.interviewq.jumble.core.DictionaryView;
+import asia.fourtitude.interviewq.jumble.core.DictionaryWatcher;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.WordStorage;
+import asia.fourtitude.interviewq.jumble.repository.GameRepository;
+
+@Configuration
+public class AppConfig {
+
+    /*
+     * The default dictionary (jumble.dictionary.*), then the named ones of
+     * jumble.dictionaries, e.g. "en-gb=/data/en_gb.txt,en-us=/data/en_us.txt".
+     * The views of jumble.dictionary.views are defined on every dictionary.
+     */
+    @Bean
+    public DictionaryRegistry dictionaryRegistry(
+            @Value("${jumble.subwords.parallelism:0}") int parallelism,
+            @Value("${jumble.subwords.parallel-threshold:10}") int parallelThreshold,
+            @Value("${jumble.game.precompute-lengths:}") int[] precomputeLengths,
+            @Value("${jumble.dictionary.name:default}") String name,
+            @Value("${jumble.dictionary.word-file:}") String wordFile,
+            @Value("${jumble.dictionary.index-file:}") String indexFile,
+            @Value("${jumble.dictionary.storage:arena}") String storage,
+            @Value("${jumble.dictionary.filter-fpr:0.01}") double filterFpr,
+            @Value("${jumble.dictionaries:}") String[] dictionaries,
+            @Value("${jumble.dictionary.views:}") String[] views) {
+        // names are case insensitive, as in DictionaryRegistry
+        Map<String, DictionarySource> sources = new LinkedHashMap<>();
+        sources.put(name.trim().toLowerCase(Locale.ROOT),
+                wordFile.isEmpty() ? DictionarySource.defaultWordList() : DictionarySource.file(Paths.get(wordFile)));
+        for (String dictionary : dictionaries) {
+            int pos = dictionary.indexOf('=');
+            if (pos <= 0 || pos == dictionary.length() - 1) {
+                throw new IllegalArgumentException("Invalid dictionary=[" + dictionary + "], expect name=word file");
+            }
+            String named = dictionary.substring(0, pos).trim().toLowerCase(Locale.ROOT);
+            if (sources.containsKey(named)) {
+                throw new IllegalArgumentException("Duplicated dictionary name=[" + named + "] in jumble.dictionaries"
+                        + (named.equals(name.trim().toLowerCase(Locale.ROOT)) ? ", already the default dictionary (jumble.dictionary.name)" : ""));
+            }
+            sources.put(named, DictionarySource.file(Paths.get(dictionary.substring(pos + 1).trim())));
+        }
+        DictionaryRegistry registry = DictionaryRegistry.load(sources,
+                indexFile.isEmpty() ? null : Collections.singletonMap(name, Paths.get(indexFile)),
+                WordStorage.of(storage),
+                parallelism > 0 ? parallelism : JumbleEngine.DEFAULT_PARALLELISM,
+                parallelThreshold,
+                filterFpr);
+        for (JumbleEngine engine : registry.getEngines()) {
+            for (String view : views) {
+                defineView(engine, view);
+            }
+            for (int length : precomputeLengths) {
+                engine.precomputeSubWordCounts(length, 3);
+            }
+        }
+        return registry;
+    }
+
+    /*
+     * Defines the `view` ("name=exclude:word file" or "name=include:word
+     * file") on `engine`.
+     */
+    private static void defineView(JumbleEngine engine, String view) {
+        int pos = view.indexOf('=');
+        int colon = view.indexOf(':', pos + 1);
+        if (pos <= 0 || colon < 0 || colon == view.length() - 1) {
+            throw new IllegalArgumentException("Invalid view=[" + view + "], expect name=exclude:word file or name=include:word file");
+        }
+        String name = view.substring(0, pos).trim();
+        String mode = view.substring(pos + 1, colon).trim();
+        DictionarySource words = DictionarySource.file(Paths.get(view.substring(colon + 1).trim()));
+        try {
+            if ("exclude".equalsIgnoreCase(mode)) {
+                engine.defineView(DictionaryView.exclude(name, words));
+            } else if ("include".equalsIgnoreCase(mode)) {
+                engine.defineView(DictionaryView.include(name, words));
+            } else {
+                throw new IllegalArgumentException("Invalid view=[" + view + "], expect exclude or include");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read view=[" + view + "]", e);
+        }
+    }
+
+    /*
+     * The default dictionary, for what is not per dictionary (web pages).
+     */
+    @Bean
+    public JumbleEngine jumbleEngine(DictionaryRegistry dictionaryRegistry) {
+        return dictionaryRegistry.getDefault();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "jumble.dictionary.watch", havingValue = "true")
+    public DictionaryWatcher dictionaryWatcher(
+            DictionaryRegistry dictionaryRegistry,
+            @Value("${jumble.dictionary.watch-debounce:1000}") long debounceMillis) {
+        return new DictionaryWatcher(dictionaryRegistry.getEngines(), debounceMillis);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public DailyPuzzlesRegistry dailyPuzzles(
+            DictionaryRegistry dictionaryRegistry,
+            @Value("${jumble.daily.seed:0}") long seed,
+            @Value("${jumble.daily.precompute-days:1}") int precomputeDays,
+            @Value("${jumble.daily.zone:UTC}") String zone) {
+        return new DailyPuzzlesRegistry(dictionaryRegistry, seed, precomputeDays, Clock.system(ZoneId.of(zone)));
+    }
+
+    @Bean(destroyMethod = "close")
+    public GameEventBroadcaster gameEventBroadcaster(
+            @Value("${jumble.game.events.timeout:1800000}") long timeoutMillis,
+            @Value("${jumble.game.events.threads:4}") int threads,
+            @Value("${jumble.game.events.queue-capacity:64}") int queueCapacity) {
+        return new GameEventBroadcaster(timeoutMillis, threads, queueCapacity);
+    }
+
+    @Bean
+    public GameRepository gameRepository() {
+        return new GameRepository();
+    }
+
+}
@@ -0,0 +1,267 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import asia.fourtitude.interviewq.jumble.core.DictionaryRegistry;
+import asia.fourtitude.interviewq.jumble.core.DictionaryStats;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.model.DictionaryOutput;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/*
+ * No authentication: expose /api/admin to internal networks only (e.g.
+ * blocked at the reverse proxy). Reload rebuilds the dictionary on the
+ * request thread, so it is disabled unless jumble.admin.reload-enabled.
+ */
+@RestController
+@Tag(name = "Admin API", description = "Administration REST API endpoint, for internal networks only.")
+@RequestMapping(path = "/api/admin")
+public class AdminApiController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdminApiController.class);
+
+    private final DictionaryRegistry dictionaryRegistry;
+
+    private final boolean reloadEnabled;
+
+    @Autowired(required = true)
+    public AdminApiController(DictionaryRegistry dictionaryRegistry,
+            @Value("${jumble.admin.reload-enabled:false}") boolean reloadEnabled) {
+        this.dictionaryRegistry = dictionaryRegistry;
+        this.reloadEnabled = reloadEnabled;
+    }
+
+    @Operation(
+            summary = "Dictionaries in use",
+            description = "Returns the version, source, memory and load time of each named dictionary, the default first. " +
+                    "Names of the same word list share one dictionary.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The dictionaries in use.",
+                                                    value = "[\n" +
+                                                            "  {\n" +
+                                                            "    \"result\": \"Loaded dictionary.\",\n" +
+                                                            "    \"name\": \"default\",\n" +
+                                                            "    \"version\": 1,\n" +
+                                                            "    \"source\": \"classpath:words.txt\",\n" +
+                                                            "    \"storage\": \"ARENA\",\n" +
+                                                            "    \"mapped\": false,\n" +
+                                                            "    \"words\": 64662,\n" +
+                                                            "    \"storage_bytes\": 1322392,\n" +
+                                                            "    \"heap_bytes\": 3446544,\n" +
+                                                            "    \"off_heap_bytes\": 0,\n" +
+                                                            "    \"filter_bytes\": 77504,\n" +
+                                                            "    \"filter_fpr\": 0.01,\n" +
+                                                            "    \"load_millis\": 180\n" +
+                                                            "  }\n" +
+                                                            "]") })) })
+    @GetMapping(value = "/dictionaries", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<DictionaryOutput>> dictionaries() {
+        List<DictionaryOutput> outputs = new ArrayList<>();
+        for (Map.Entry<String, DictionaryStats> entry : dictionaryRegistry.getDictionaryStats().entrySet()) {
+            outputs.add(new DictionaryOutput("Loaded dictionary.", entry.getKey(), entry.getValue()));
+        }
+        return new ResponseEntity<>(outputs, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Dictionary in use",
+            description = "Returns the version, source and figures of the `dictionary` (the default dictionary when none).")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = DictionaryOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The dictionary in use.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Loaded dictionary.\",\n" +
+                                                            "  \"name\": \"default\",\n" +
+                                                            "  \"version\": 1,\n" +
+                                                            "  \"source\": \"classpath:words.txt\",\n" +
+                                                            "  \"storage\": \"ARENA\",\n" +
+                                                            "  \"mapped\": false,\n" +
+                                                            "  \"words\": 64662,\n" +
+                                                            "  \"storage_bytes\": 1322392,\n" +
+                                                            "  \"heap_bytes\": 3446544,\n" +
+                                                            "  \"off_heap_bytes\": 0,\n" +
+                                                            "  \"filter_bytes\": 77504,\n" +
+                                                            "  \"filter_fpr\": 0.01,\n" +
+                                                            "  \"load_millis\": 180\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = DictionaryOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "No dictionary",
+                                                    description = "No such `dictionary`.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid dictionary.\"\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/dictionary", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DictionaryOutput> dictionary(
+            @Parameter(
+                    description = "The name of the dictionary, the default dictionary when none.",
+                    example = "default")
+            @RequestParam(name = "dictionary", required = false) String dictionary) {
+        JumbleEngine engine = dictionaryRegistry.get(dictionary);
+        if (engine == null) {
+            return invalidDictionary();
+        }
+        return new ResponseEntity<>(new DictionaryOutput("Loaded dictionary.", nameOf(dictionary),
+                engine.getDictionaryStats()), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Reloads the dictionary",
+            description = "Reads the word list of the `dictionary` (the default dictionary when none) again, " +
+                    "and swaps in the new dictionary once completely built. " +
+                    "Requests in flight finish on the previous dictionary, games already created keep their words. " +
+                    "On failure, the previous dictionary stays in use. " +
+                    "Builds on the request thread; disabled unless `jumble.admin.reload-enabled=true`.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = DictionaryOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The new dictionary.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Reloaded dictionary.\",\n" +
+                                                            "  \"name\": \"default\",\n" +
+                                                            "  \"version\": 2,\n" +
+                                                            "  \"source\": \"file:/data/words.txt\",\n" +
+                                                            "  \"storage\": \"ARENA\",\n" +
+                                                            "  \"mapped\": false,\n" +
+                                                            "  \"words\": 64670,\n" +
+                                                            "  \"storage_bytes\": 1322550,\n" +
+                                                            "  \"heap_bytes\": 3446544,\n" +
+                                                            "  \"off_heap_bytes\": 0,\n" +
+                                                            "  \"filter_bytes\": 77504,\n" +
+                                                            "  \"filter_fpr\": 0.01,\n" +
+                                                            "  \"load_millis\": 175\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = DictionaryOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "No dictionary",
+                                                    description = "No such `dictionary`.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid dictionary.\"\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "Forbidden",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = DictionaryOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Disabled",
+                                                    description = "Reload is not enabled.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Reload disabled.\"\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal Server Error",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = DictionaryOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Failed",
+                                                    description = "The word list cannot be read, the previous dictionary stays.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Failed to reload dictionary.\"\n" +
+                                                            "}") })) })
+    @PostMapping(value = "/dictionary/reload", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DictionaryOutput> reloadDictionary(
+            @Parameter(
+                    description = "The name of the dictionary, the default dictionary when none. " +
+                            "Names of the same word list are reloaded together.",
+                    example = "default")
+            @RequestParam(name = "dictionary", required = false) String dictionary) {
+        if (!reloadEnabled) {
+            DictionaryOutput output = new DictionaryOutput();
+            output.setResult("Reload disabled.");
+            return new ResponseEntity<>(output, HttpStatus.FORBIDDEN);
+        }
+        JumbleEngine engine = dictionaryRegistry.get(dictionary);
+        if (engine == null) {
+            return invalidDictionary();
+        }
+        try {
+            return new ResponseEntity<>(new DictionaryOutput("Reloaded dictionary.", nameOf(dictionary), engine.reload()),
+                    HttpStatus.OK);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to reload dictionary source=[{}]", engine.getSource(), e);
+            DictionaryOutput output = new DictionaryOutput();
+            output.setResult("Failed to reload dictionary.");
+            return new ResponseEntity<>(output, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private String nameOf(String dictionary) {
+        return dictionary == null || dictionary.trim().isEmpty()
+                ? dictionaryRegistry.getDefaultName() : dictionary.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static ResponseEntity<DictionaryOutput> invalidDictionary() {
+        DictionaryOutput output = new DictionaryOutput();
+        output.setResult("Invalid dictionary.");
+        return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+    }
+
+}
@@ -0,0 +1,631 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import asia.fourtitude.interviewq.jumble.core.DailyPuzzles;
+import asia.fourtitude.interviewq.jumble.core.DailyPuzzlesRegistry;
+import asia.fourtitude.interviewq.jumble.core.Difficulty;
+import asia.fourtitude.interviewq.jumble.core.DictionaryRegistry;
+import asia.fourtitude.interviewq.jumble.core.GameState;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.model.GameEvent;
+import asia.fourtitude.interviewq.jumble.model.GameGuessInput;
+import asia.fourtitude.interviewq.jumble.model.GameGuessModel;
+import asia.fourtitude.interviewq.jumble.model.GameGuessOutput;
+import asia.fourtitude.interviewq.jumble.repository.GameRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@Tag(name = "Game API", description = "Guessing words game REST API endpoint.")
+@RequestMapping(path = "/api/game")
+public class GameApiController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GameApiController.class);
+
+    private final JumbleEngine jumbleEngine;
+
+    private final DictionaryRegistry dictionaryRegistry;
+
+    private final DailyPuzzlesRegistry dailyPuzzles;
+
+    private final GameEventBroadcaster gameEvents;
+
+    /*
+     * Maximum edit distance of "did you mean" suggestions on incorrect
+     * guess, 0 to disable.
+     */
+    private final int suggestDistance;
+
+    /*
+     * In-memory database/repository for all the game boards/states.
+     */
+    private final GameRepository gameRepository;
+
+    @Autowired(required = true)
+    public GameApiController(
+            JumbleEngine jumbleEngine,
+            DictionaryRegistry dictionaryRegistry,
+            DailyPuzzlesRegistry dailyPuzzles,
+            GameEventBroadcaster gameEvents,
+            GameRepository gameRepository,
+            @Value("${jumble.game.suggest-distance:1}") int suggestDistance) {
+        this.jumbleEngine = jumbleEngine;
+        this.dictionaryRegistry = dictionaryRegistry;
+        this.dailyPuzzles = dailyPuzzles;
+        this.gameEvents = gameEvents;
+        this.suggestDistance = suggestDistance;
+        this.gameRepository = gameRepository;
+    }
+
+    @Operation(
+            summary = "Creates new game board/state",
+            description = "Creates a new game board/state and registered into game engine referenced by `id`. All subsequent operation/play is tied to `id`. " +
+                    "Optionally, the word is chosen by `difficulty`, or by the number of sub words to find (`min_words` to `max_words`), " +
+                    "from the `dictionary` (the default dictionary when none). The game keeps its words.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "Created a new game/board and registered into system.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Created new game.\",\n" +
+                                                            "  \"id\": \"65e0d7a4-59bf-4065-beb1-3c2220d87e1e\",\n" +
+                                                            "  \"original_word\": \"titans\",\n" +
+                                                            "  \"scramble_word\": \"nisatt\",\n" +
+                                                            "  \"total_words\": 29,\n" +
+                                                            "  \"remaining_words\": 29,\n" +
+                                                            "  \"guessed_words\": []\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Bad Request",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Invalid difficulty",
+                                                    description = "The `difficulty` is not one of easy, medium, hard.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid difficulty.\"\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "No word",
+                                                    description = "No word having the number of sub words.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"No word found with the difficulty.\"\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "No dictionary",
+                                                    description = "No such `dictionary`.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid dictionary.\"\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "No view",
+                                                    description = "No such `view` of the dictionary.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid view.\"\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/new", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<GameGuessOutput> newGame(
+            @Parameter(
+                    description = "The difficulty, by the number of sub words to find: easy (fewest), medium, hard (most).",
+                    example = "easy")
+            @RequestParam(name = "difficulty", required = false) String difficulty,
+            @Parameter(
+                    description = "The minimum number of sub words to find (inclusive). Ignored with `difficulty`.",
+                    example = "10")
+            @RequestParam(name = "min_words", required = false) Integer minWords,
+            @Parameter(
+                    description = "The maximum number of sub words to find (inclusive). Ignored with `difficulty`.",
+                    example = "20")
+            @RequestParam(name = "max_words", required = false) Integer maxWords,
+            @Parameter(
+                    description = "The name of the dictionary, the default dictionary when none.",
+                    example = "default")
+            @RequestParam(name = "dictionary", required = false) String dictionary,
+            @Parameter(
+                    description = "The name of the view of the dictionary, the whole dictionary when none.",
+                    example = "family-safe")
+            @RequestParam(name = "view", required = false) String view) {
+        /*
+         * Refer to the method's Javadoc (above) and implement accordingly.
+         * Must pass the corresponding unit tests.
+         */
+        GameGuessOutput output = new GameGuessOutput();
+
+        JumbleEngine engine = this.dictionaryRegistry.get(dictionary);
+        if (engine == null) {
+            output.setResult("Invalid dictionary.");
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+        engine = this.dictionaryRegistry.get(dictionary, view);
+        if (engine == null) {
+            output.setResult("Invalid view.");
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+
+        GameState gameState;
+        try {
+            if (difficulty != null) {
+                Difficulty level;
+                try {
+                    level = Difficulty.valueOf(difficulty.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    output.setResult("Invalid difficulty.");
+                    return new ResponseEntity<>(output, HttpStatus.BAD_REQUEST);
+                }
+                gameState = engine.createGameState(6, 3, level);
+            } else if (minWords != null || maxWords != null) {
+                gameState = engine.createGameState(6, 3,
+                        minWords != null ? minWords : 1,
+                        maxWords != null ? maxWords : Integer.MAX_VALUE);
+            } else {
+                gameState = engine.createGameState(6, 3);
+            }
+        } catch (IllegalArgumentException e) {
+            output.setResult("No word found with the difficulty.");
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+
+        /*
+         * TODO:
+         * a) Store the game state to the repository, with unique game board ID
+         * b) Return the game board/state (GameGuessOutput) to caller
+         */
+
+        return registerGame(output, gameState, dictionary, "Created new game.");
+    }
+
+    @Operation(
+            summary = "Creates new game board/state of the daily puzzle",
+            description = "Creates a new game board/state, referenced by `id`, of today's puzzle. " +
+                    "Every player gets the same word and scramble on the same day (UTC by default), each with its own guesses. " +
+                    "Each `dictionary` and `view` has its own daily puzzle (the default dictionary when none).")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "Created a new game/board of today's puzzle.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Created daily game.\",\n" +
+                                                            "  \"id\": \"0b2f5ce6-8bb5-4a7e-9d34-3e4f8d1c9a77\",\n" +
+                                                            "  \"original_word\": \"ranker\",\n" +
+                                                            "  \"scramble_word\": \"nekarr\",\n" +
+                                                            "  \"total_words\": 15,\n" +
+                                                            "  \"remaining_words\": 15,\n" +
+                                                            "  \"guessed_words\": []\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "No dictionary",
+                                                    description = "No such `dictionary`.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid dictionary.\"\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "No view",
+                                                    description = "No such `view` of the dictionary.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid view.\"\n" +
+                                                            "}") })) })
+    @GetMapping(value = "/daily", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<GameGuessOutput> newDailyGame(
+            @Parameter(
+                    description = "The name of the dictionary, the default dictionary when none.",
+                    example = "default")
+            @RequestParam(name = "dictionary", required = false) String dictionary,
+            @Parameter(
+                    description = "The name of the view of the dictionary, the whole dictionary when none.",
+                    example = "family-safe")
+            @RequestParam(name = "view", required = false) String view) {
+        GameGuessOutput output = new GameGuessOutput();
+
+        if (this.dictionaryRegistry.get(dictionary) == null) {
+            output.setResult("Invalid dictionary.");
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+        DailyPuzzles daily = this.dailyPuzzles.get(dictionary, view);
+        if (daily == null) {
+            output.setResult("Invalid view.");
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+
+        GameState gameState = daily.today().newGameState();
+        return registerGame(output, gameState, dictionary, "Created daily game.");
+    }
+
+    private ResponseEntity<GameGuessOutput> registerGame(GameGuessOutput output, GameState gameState, String dictionary, String result) {
+        // names are case insensitive, as in DictionaryRegistry
+        String name = dictionary == null || dictionary.trim().isEmpty()
+                ? this.dictionaryRegistry.getDefaultName()
+                : dictionary.trim().toLowerCase(Locale.ROOT);
+        GameGuessModel gameGuessModel = this.gameRepository.create(gameState, name);
+        output.setId(gameGuessModel.getId());
+        output.setResult(result);
+        output.setOriginalWord(gameState.getOriginal());
+        output.setScrambleWord(gameState.getScramble());
+        output.setTotalWords(gameState.getTotalWords());
+        output.setRemainingWords(gameState.getRemainingWords());
+        output.setGuessedWords(gameState.getGuessedWords());
+
+        return new ResponseEntity<>(output, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Submits word to play the game",
+            description = "Submits a guessed `word`, along with `id` to play the game.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Guessed Correctly First Time",
+                                                    description = "Guessed correctly the first time.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Guessed correctly.\",\n" +
+                                                            "  \"id\": \"88b4278c-5141-42af-86e6-2a1d4cfa5f3b\",\n" +
+                                                            "  \"original_word\": \"ranker\",\n" +
+                                                            "  \"scramble_word\": \"nekarr\",\n" +
+                                                            "  \"guess_word\": \"rank\",\n" +
+                                                            "  \"total_words\": 15,\n" +
+                                                            "  \"remaining_words\": 14,\n" +
+                                                            "  \"guessed_words\": [\n" +
+                                                            "    \"rank\"\n" +
+                                                            "  ]\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "Guessed Correctly Subsequent",
+                                                    description = "Guessed correctly with subsequent word.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Guessed correctly.\",\n" +
+                                                            "  \"id\": \"e23a268c-e4af-4123-a610-755e34ac201c\",\n" +
+                                                            "  \"original_word\": \"burger\",\n" +
+                                                            "  \"scramble_word\": \"rerugb\",\n" +
+                                                            "  \"guess_word\": \"rug\",\n" +
+                                                            "  \"total_words\": 15,\n" +
+                                                            "  \"remaining_words\": 7,\n" +
+                                                            "  \"guessed_words\": [\n" +
+                                                            "    \"bug\",\n" +
+                                                            "    \"bur\",\n" +
+                                                            "    \"err\",\n" +
+                                                            "    \"rug\",\n" +
+                                                            "    \"burr\",\n" +
+                                                            "    \"grub\",\n" +
+                                                            "    \"rube\",\n" +
+                                                            "    \"urge\"\n" +
+                                                            "  ]\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "Guessed Incorrectly",
+                                                    description = "Guessed with incorrect word.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Guessed incorrectly.\",\n" +
+                                                            "  \"id\": \"88b4278c-5141-42af-86e6-2a1d4cfa5f3b\",\n" +
+                                                            "  \"original_word\": \"ranker\",\n" +
+                                                            "  \"scramble_word\": \"rnraek\",\n" +
+                                                            "  \"guess_word\": \"answer\",\n" +
+                                                            "  \"total_words\": 15,\n" +
+                                                            "  \"remaining_words\": 15,\n" +
+                                                            "  \"guessed_words\": []\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "Guessed Incorrectly With Suggestions",
+                                                    description = "Guessed with incorrect word, close to some words of the game.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Guessed incorrectly.\",\n" +
+                                                            "  \"id\": \"88b4278c-5141-42af-86e6-2a1d4cfa5f3b\",\n" +
+                                                            "  \"original_word\": \"ranker\",\n" +
+                                                            "  \"scramble_word\": \"rnraek\",\n" +
+                                                            "  \"guess_word\": \"ranc\",\n" +
+                                                            "  \"total_words\": 15,\n" +
+                                                            "  \"remaining_words\": 15,\n" +
+                                                            "  \"guessed_words\": [],\n" +
+                                                            "  \"suggestions\": [\n" +
+                                                            "    \"ran\",\n" +
+                                                            "    \"rank\"\n" +
+                                                            "  ]\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "All Guessed",
+                                                    description = "All words guessed.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"All words guessed.\",\n" +
+                                                            "  \"id\": \"353ee769-a472-4704-a5f2-d525f181a03e\",\n" +
+                                                            "  \"original_word\": \"gloomy\",\n" +
+                                                            "  \"scramble_word\": \"gomlyo\",\n" +
+                                                            "  \"guess_word\": \"moo\",\n" +
+                                                            "  \"total_words\": 9,\n" +
+                                                            "  \"remaining_words\": 0,\n" +
+                                                            "  \"guessed_words\": [\n" +
+                                                            "    \"goo\",\n" +
+                                                            "    \"gym\",\n" +
+                                                            "    \"log\",\n" +
+                                                            "    \"loo\",\n" +
+                                                            "    \"moo\",\n" +
+                                                            "    \"glom\",\n" +
+                                                            "    \"logo\",\n" +
+                                                            "    \"loom\",\n" +
+                                                            "    \"gloom\"\n" +
+                                                            "  ]\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Invalid ID",
+                                                    description = "The input `ID` is invalid.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Invalid Game ID.\"\n" +
+                                                            "}"),
+                                            @ExampleObject(
+                                                    name = "Record not found",
+                                                    description = "The `ID` is correct format, but game board/state is not found in system.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Game board/state not found.\"\n" +
+                                                            "}") })) })
+    @PostMapping(value = "/guess", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<GameGuessOutput> playGame(
+            @Parameter(
+                    description = "Submits the `word` to guess.",
+                    required = true,
+                    schema = @Schema(implementation = GameGuessInput.class),
+                    example = "{\n" +
+                            "  \"id\": \"4579256c-326f-4169-9b56-6d1d1a2c11f0\",\n" +
+                            "  \"word\": \"answer\"\n" +
+                            "}")
+            @RequestBody GameGuessInput input) {
+        /*
+         * Refer to the method's Javadoc (above) and implement accordingly.
+         * Must pass the corresponding unit tests.
+         */
+        GameGuessOutput output = new GameGuessOutput();
+
+        /*
+         * TODO:
+         * a) Validate the input (GameGuessInput)
+         * b) Check records exists in repository (search by input `id`)
+         * c) From the input guessing `word`, implement the game logic
+         * d) Update the game board (and game state) in repository
+         * e) Return the updated game board/state (GameGuessOutput) to caller
+         */
+
+        if (null == input.getId()|| input.getId().isEmpty()) {
+            output.setResult("Invalid Game ID.");
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+        GameGuessModel header = this.gameRepository.findHeaderById(input.getId());
+        if (header == null) {
+            output.setResult("Game board/state not found.");
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+        JumbleEngine engine = this.dictionaryRegistry.get(header.getDictionary());
+        if (engine == null) {
+            engine = this.jumbleEngine;
+        }
+        boolean[] guessed = new boolean[1];
+        GameState gameState = null;
+        if (!engine.mightExist(input.getWord(), header.getDictionaryVersion())) {
+            // certainly not a word of the dictionary the game was created
+            // from, so not one of its sub words: read only, no update
+            GameGuessModel gameGuessModel = this.gameRepository.findById(input.getId());
+            if (gameGuessModel != null) {
+                gameState = gameGuessModel.getGameState();
+            }
+        }
+        if (gameState == null) {
+            // atomic per game, same game may be played from many devices
+            gameState = this.gameRepository.update(input.getId(), gameGuessModel -> {
+                GameState state = gameGuessModel.getGameState();
+                int before = state.getRemainingWords();
+                guessed[0] = state.updateGuessWord(input.getWord());
+                this.gameEvents.publishGuess(input.getId(), input.getWord(), before, state.getRemainingWords());
+                return state;
+            });
+        }
+        if (gameState == null) {
+            output.setResult("Game board/state not found.");
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+        boolean guess = guessed[0];
+
+        output.setId(input.getId());
+        output.setOriginalWord(gameState.getOriginal());
+        output.setScrambleWord(gameState.getScramble());
+        output.setGuessWord(input.getWord());
+        output.setTotalWords(gameState.getTotalWords());
+        output.setRemainingWords(gameState.getRemainingWords());
+        output.setGuessedWords(gameState.getGuessedWords());
+
+        if (guess) {
+            if (gameState.getRemainingWords() == 0) {
+                output.setResult("All words guessed.");
+            } else {
+                output.setResult("Guessed correctly.");
+            }
+        } else {
+            output.setResult("Guessed incorrectly.");
+            if (this.suggestDistance > 0) {
+                List<String> suggestions = engine.suggestWords(gameState, input.getWord(), this.suggestDistance);
+                if (!suggestions.isEmpty()) {
+                    output.setSuggestions(suggestions);
+                }
+            }
+        }
+
+        return new ResponseEntity<>(output, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Reshuffles the letters of the game",
+            description = "Reshuffles the scramble letters of game `id`, and pushes the new scramble to the subscribers of the game.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "Reshuffled the letters.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Scrambled.\",\n" +
+                                                            "  \"id\": \"88b4278c-5141-42af-86e6-2a1d4cfa5f3b\",\n" +
+                                                            "  \"original_word\": \"ranker\",\n" +
+                                                            "  \"scramble_word\": \"kraner\",\n" +
+                                                            "  \"total_words\": 15,\n" +
+                                                            "  \"remaining_words\": 14,\n" +
+                                                            "  \"guessed_words\": [\n" +
+                                                            "    \"rank\"\n" +
+                                                            "  ]\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = GameGuessOutput.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Record not found",
+                                                    description = "The game board/state is not found in system.",
+                                                    value = "{\n" +
+                                                            "  \"result\": \"Game board/state not found.\"\n" +
+                                                            "}") })) })
+    @PostMapping(value = "/scramble", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<GameGuessOutput> scrambleGame(
+            @Parameter(
+                    description = "The `id` of the game (`word` is ignored).",
+                    required = true,
+                    schema = @Schema(implementation = GameGuessInput.class),
+                    example = "{\n" +
+                            "  \"id\": \"4579256c-326f-4169-9b56-6d1d1a2c11f0\"\n" +
+                            "}")
+            @RequestBody GameGuessInput input) {
+        GameGuessOutput output = new GameGuessOutput();
+        GameState gameState = this.gameRepository.update(input.getId(), gameGuessModel -> {
+            GameState state = gameGuessModel.getGameState();
+            state.setScramble(this.jumbleEngine.scramble(state.getOriginal()));
+            this.gameEvents.publish(input.getId(), new GameEvent(GameEvent.SCRAMBLE, null, state.getScramble(), null));
+            return state;
+        });
+        if (gameState == null) {
+            output.setResult("Game board/state not found.");
+            return new ResponseEntity<>(output, HttpStatus.NOT_FOUND);
+        }
+        output.setId(input.getId());
+        output.setResult("Scrambled.");
+        output.setOriginalWord(gameState.getOriginal());
+        output.setScrambleWord(gameState.getScramble());
+        output.setTotalWords(gameState.getTotalWords());
+        output.setRemainingWords(gameState.getRemainingWords());
+        output.setGuessedWords(gameState.getGuessedWords());
+        return new ResponseEntity<>(output, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Subscribes to the updates of the game",
+            description = "Server-Sent Events stream of game `id`. First a `state` event, then compact deltas as they happen: " +
+                    "`guess` (word guessed correctly, remaining count) and `scramble` (new letters). " +
+                    "The stream ends when all words are guessed.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = GameEvent.class),
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Events",
+                                                    description = "Initial state, then a correct guess.",
+                                                    value = "event:state\n" +
+                                                            "data:{\"type\":\"state\",\"scramble_word\":\"nekarr\",\"remaining_words\":15}\n" +
+                                                            "\n" +
+                                                            "event:guess\n" +
+                                                            "data:{\"type\":\"guess\",\"guess_word\":\"rank\",\"remaining_words\":14}\n") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found") })
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> gameEvents(
+            @Parameter(
+                    description = "The `id` of the game.",
+                    required = true,
+                    example = "4579256c-326f-4169-9b56-6d1d1a2c11f0")
+            @PathVariable(name = "id") String id) {
+        GameGuessModel gameGuessModel = this.gameRepository.findById(id);
+        if (gameGuessModel == null) {
+            return ResponseEntity.notFound().build();
+        }
+        GameState gameState = gameGuessModel.getGameState();
+        GameEvent initial = new GameEvent(GameEvent.STATE, null, gameState.getScramble(), gameState.getRemainingWords());
+        return ResponseEntity.ok(this.gameEvents.subscribe(id, initial));
+    }
+
+}
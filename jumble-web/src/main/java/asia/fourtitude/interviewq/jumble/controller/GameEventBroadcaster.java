@@ -0,0 +1,267 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import asia.fourtitude.interviewq.jumble.model.GameEvent;
+
+/**
+ * Fan-out of game events to the Server-Sent Events subscribers, per game id.
+ *
+ * A subscriber is an async response ({@link SseEmitter}): no servlet thread
+ * is held while it is idle. Publishing only enqueues the event, in a
+ * bounded queue per subscriber, so the request that made the change does
+ * not wait for the clients. The queues are drained on a small pool, at
+ * most one thread per subscriber at a time (events stay in order): a slow
+ * client holds up its own events only. A subscriber whose queue is full
+ * (too slow) or failing to receive (disconnected) is dropped; the client
+ * reconnects and reloads the game.
+ */
+public class GameEventBroadcaster {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GameEventBroadcaster.class);
+
+    public static final int DEFAULT_THREADS = 4;
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    private final long timeoutMillis;
+
+    private final int queueCapacity;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final ExecutorService dispatcher;
+
+    /**
+     * @param timeoutMillis  The time after which a subscription expires
+     *                       (the client reconnects), 0 for never.
+     */
+    public GameEventBroadcaster(long timeoutMillis) {
+        this(timeoutMillis, DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param timeoutMillis  The time after which a subscription expires
+     *                       (the client reconnects), 0 for never.
+     * @param threads        The number of threads sending the events.
+     * @param queueCapacity  The maximum number of events waiting to be
+     *                       sent to one subscriber.
+     */
+    public GameEventBroadcaster(long timeoutMillis, int threads, int queueCapacity) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Invalid threads=[" + threads + "], expect positive integer");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid queueCapacity=[" + queueCapacity + "], expect positive integer");
+        }
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger counter = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "jumble-game-events-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Subscribes to the events of game `id`, starting with `initial` event.
+     *
+     * @param id       The game id.
+     * @param initial  The first event to send to the new subscriber only.
+     * @return  The emitter, to return from the controller.
+     */
+    public SseEmitter subscribe(String id, GameEvent initial) {
+        return subscribe(id, initial, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(String id, GameEvent initial, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(id, emitter);
+        Set<Subscriber> game = subscribers.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet());
+        game.add(subscriber);
+        Runnable remove = () -> unsubscribe(subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        subscriber.offer(initial);
+        return emitter;
+    }
+
+    /**
+     * Sends `event` to all subscribers of game `id`, asynchronously.
+     */
+    public void publish(String id, GameEvent event) {
+        Set<Subscriber> game = subscribers.get(id);
+        if (game != null) {
+            for (Subscriber subscriber : game) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    /**
+     * Sends the `guess` event, if `word` was newly guessed (remaining count
+     * went down), and ends the subscriptions when all words are guessed.
+     */
+    public void publishGuess(String id, String word, int remainingBefore, int remainingAfter) {
+        if (remainingAfter < remainingBefore) {
+            publish(id, new GameEvent(GameEvent.GUESS, word, null, remainingAfter));
+            if (remainingAfter == 0) {
+                complete(id);
+            }
+        }
+    }
+
+    /**
+     * Ends the subscriptions of game `id` (e.g. game over), after the
+     * events already published.
+     */
+    public void complete(String id) {
+        Set<Subscriber> game = subscribers.remove(id);
+        if (game != null) {
+            game.forEach(Subscriber::complete);
+        }
+    }
+
+    /**
+     * @return  The number of subscribers of game `id`.
+     */
+    public int subscriberCount(String id) {
+        Set<Subscriber> game = subscribers.get(id);
+        return game != null ? game.size() : 0;
+    }
+
+    public void close() {
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(game -> game.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.id, (k, game) -> {
+            game.remove(subscriber);
+            return game.isEmpty() ? null : game;
+        });
+    }
+
+    /*
+     * One subscriber: its pending events, drained by one dispatcher thread
+     * at a time.
+     */
+    private final class Subscriber implements Runnable {
+
+        final String id;
+
+        final SseEmitter emitter;
+
+        final Queue<GameEvent> events = new ArrayBlockingQueue<>(queueCapacity);
+
+        /*
+         * A drain is queued or running.
+         */
+        final AtomicBoolean scheduled = new AtomicBoolean();
+
+        /*
+         * Complete once the pending events are sent.
+         */
+        volatile boolean completing;
+
+        /*
+         * Complete now, the pending events are dropped (queue full, send
+         * failed).
+         */
+        volatile boolean dropped;
+
+        /*
+         * The emitter is completed, nothing more to send.
+         */
+        volatile boolean done;
+
+        Subscriber(String id, SseEmitter emitter) {
+            this.id = id;
+            this.emitter = emitter;
+        }
+
+        void offer(GameEvent event) {
+            if (!events.offer(event)) {
+                LOG.debug("Dropped subscriber of game id=[{}]: {} events pending", id, events.size());
+                dropped = true;
+                unsubscribe(this);
+            }
+            schedule();
+        }
+
+        void complete() {
+            completing = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (!done && scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this);
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Dropped game event, broadcaster closed");
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                GameEvent event;
+                while (!dropped && (event = events.poll()) != null) {
+                    send(event);
+                }
+                if (!done && (dropped || completing)) {
+                    done = true;
+                    events.clear();
+                    try {
+                        emitter.complete();
+                    } catch (IllegalStateException e) {
+                        // already completed (timeout, client gone)
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                // offered after the last poll, before the flag was cleared
+                if (!done && (!events.isEmpty() || dropped || completing)) {
+                    schedule();
+                }
+            }
+        }
+
+        private void send(GameEvent event) {
+            try {
+                emitter.send(SseEmitter.event().name(event.getType()).data(event, MediaType.APPLICATION_JSON));
+            } catch (IOException e) {
+                LOG.debug("Dropped subscriber of game id=[{}]: {}", id, e.toString());
+                dropped = true;
+                done = true;
+                unsubscribe(this);
+                emitter.completeWithError(e);
+            } catch (IllegalStateException e) {
+                // already completed (timeout, client gone)
+                dropped = true;
+                unsubscribe(this);
+            }
+        }
+
+    }
+
+}
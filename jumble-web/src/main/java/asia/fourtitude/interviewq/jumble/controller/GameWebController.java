@@ -0,0 +1,198 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import javax.servlet.http.HttpSession;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import asia.fourtitude.interviewq.jumble.core.DictionaryRegistry;
+import asia.fourtitude.interviewq.jumble.core.GameState;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.model.GameBoard;
+import asia.fourtitude.interviewq.jumble.model.GameEvent;
+import asia.fourtitude.interviewq.jumble.model.GameGuessModel;
+import asia.fourtitude.interviewq.jumble.repository.GameRepository;
+
+@Controller
+@RequestMapping(path = "/game")
+public class GameWebController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GameWebController.class);
+
+    /*
+     * Session attribute: the game id only, the game itself is in repository.
+     */
+    static final String GAME_ID = "gameId";
+
+    private final JumbleEngine jumbleEngine;
+
+    private final DictionaryRegistry dictionaryRegistry;
+
+    private final GameRepository gameRepository;
+
+    private final GameEventBroadcaster gameEvents;
+
+    @Autowired(required = true)
+    public GameWebController(JumbleEngine jumbleEngine, DictionaryRegistry dictionaryRegistry,
+            GameRepository gameRepository, GameEventBroadcaster gameEvents) {
+        this.jumbleEngine = jumbleEngine;
+        this.dictionaryRegistry = dictionaryRegistry;
+        this.gameRepository = gameRepository;
+        this.gameEvents = gameEvents;
+    }
+
+    /*
+     * Only the guess is bound from the request: the game id (and state)
+     * come from the session, so that a request parameter `id` cannot play
+     * the game of another session.
+     */
+    @InitBinder("board")
+    public void initBoardBinder(WebDataBinder binder) {
+        binder.setAllowedFields("word");
+    }
+
+    @ModelAttribute("board")
+    public GameBoard gameBoard(HttpSession session) {
+        /*
+         * The game board of the session, loaded from repository per request.
+         * Empty when no game (or game expired).
+         */
+        GameBoard board = new GameBoard();
+        String id = (String) session.getAttribute(GAME_ID);
+        if (id != null) {
+            GameGuessModel model = this.gameRepository.findById(id);
+            if (model != null) {
+                board.setId(id);
+                board.setState(model.getGameState());
+                board.setWord("");
+            } else {
+                session.removeAttribute(GAME_ID);
+            }
+        }
+        return board;
+    }
+
+    private void scrambleWord(GameState state) {
+        String oldScramble = state.getScramble();
+        int num = 0;
+        do {
+            String scramble = this.jumbleEngine.scramble(state.getOriginal());
+            state.setScramble(scramble);
+            num += 1;
+        } while (oldScramble.equals(state.getScramble()) && num <= 10);
+    }
+
+    @GetMapping(path = "/goodbye")
+    public String goodbye(HttpSession session) {
+        String id = (String) session.getAttribute(GAME_ID);
+        if (id != null) {
+            session.removeAttribute(GAME_ID);
+            this.gameRepository.deleteById(id);
+            this.gameEvents.complete(id);
+        }
+        return "game/board";
+    }
+
+    @GetMapping("/help")
+    public String doGetHelp() {
+        return "game/help";
+    }
+
+    @GetMapping("/new")
+    public String doGetNew(@ModelAttribute(name = "board") GameBoard board, HttpSession session) {
+        GameState state = this.jumbleEngine.createGameState(6, 3);
+
+        /*
+         * TODO:
+         * a) Assign the created game `state` (with randomly picked word) into
+         *        game `board` (session attribute)
+         * b) Presentation page to show the information of game board/state
+         * c) Must pass the corresponding unit tests
+         */
+
+        GameGuessModel model = this.gameRepository.create(state, this.dictionaryRegistry.getDefaultName());
+        session.setAttribute(GAME_ID, model.getId());
+        board.setId(model.getId());
+        board.setState(state);
+        board.setWord("");
+
+        return "game/board";
+    }
+
+    @GetMapping("/play")
+    public String doGetPlay(@ModelAttribute(name = "board") GameBoard board) {
+        if (board.getId() != null) {
+            board.setState(this.gameRepository.update(board.getId(), model -> {
+                scrambleWord(model.getGameState());
+                this.gameEvents.publish(board.getId(),
+                        new GameEvent(GameEvent.SCRAMBLE, null, model.getGameState().getScramble(), null));
+                return model.getGameState();
+            }));
+        }
+
+        return "game/board";
+    }
+
+    @PostMapping("/play")
+    public String doPostPlay(
+            @ModelAttribute(name = "board") GameBoard board,
+            BindingResult bindingResult, Model model) {
+        if (board == null || board.getState() == null) {
+            // session expired
+            return "game/board";
+        }
+
+        /*
+         * TODO:
+         * a) Validate the input `word`
+         * b) From the input guessing `word`, implement the game logic
+         * c) Update the game `board` (session attribute)
+         * d) Show the error: "Guessed incorrectly", when word is guessed incorrectly.
+         * e) Presentation page to show the information of game board/state
+         * f) Must pass the corresponding unit tests
+         */
+
+        String guessWord = board.getWord() != null ? board.getWord().trim() : "";
+        boolean[] guessed = new boolean[1];
+        GameState state = this.gameRepository.update(board.getId(), game -> {
+            GameState gameState = game.getGameState();
+            scrambleWord(gameState);
+            this.gameEvents.publish(board.getId(),
+                    new GameEvent(GameEvent.SCRAMBLE, null, gameState.getScramble(), null));
+            if (!guessWord.isEmpty()) {
+                int before = gameState.getRemainingWords();
+                guessed[0] = gameState.updateGuessWord(guessWord);
+                this.gameEvents.publishGuess(board.getId(), guessWord, before, gameState.getRemainingWords());
+            }
+            return gameState;
+        });
+        if (state == null) {
+            // game expired
+            board.setState(null);
+            return "game/board";
+        }
+        board.setState(state);
+
+        if (guessWord.isEmpty()) {
+            bindingResult.rejectValue("word", "error.word", "Please enter a word");
+            return "game/board";
+        }
+
+        if (!guessed[0]) {
+            bindingResult.rejectValue("word", "error.word", "Guessed incorrectly");
+        }
+
+        return "game/board";
+    }
+
+}
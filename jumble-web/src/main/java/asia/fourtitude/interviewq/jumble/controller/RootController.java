@@ -1,13 +1,13 @@
 package asia.fourtitude.interviewq.jumble.controller;
 
 import java.time.ZonedDateTime;
-import java.util.Collection;
 
 import javax.validation.Valid;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.WordPage;
 import asia.fourtitude.interviewq.jumble.model.ExistsForm;
 import asia.fourtitude.interviewq.jumble.model.PrefixForm;
 import asia.fourtitude.interviewq.jumble.model.ScrambleForm;
@@ -31,9 +32,16 @@ public class RootController {
 
     private final JumbleEngine jumbleEngine;
 
+    /*
+     * The maximum number of words listed per page of prefix, search and sub words.
+     */
+    private final int pageSize;
+
     @Autowired(required = true)
-    public RootController(JumbleEngine jumbleEngine) {
+    public RootController(JumbleEngine jumbleEngine,
+            @Value("${jumble.web.page-size:100}") int pageSize) {
         this.jumbleEngine = jumbleEngine;
+        this.pageSize = Math.max(1, pageSize);
     }
 
     @GetMapping
@@ -129,8 +137,10 @@ public class RootController {
          }
 
          String trimmedWord = form.getPrefix().trim();
-         Collection<String> words = this.jumbleEngine.wordsMatchingPrefix(trimmedWord);
-         form.setWords(words);
+         form.setPageSize(this.pageSize);
+         WordPage page = this.jumbleEngine.wordsMatchingPrefixPage(trimmedWord, form.getOffset(), this.pageSize);
+         form.setTotal(page.getTotal());
+         form.setWords(page.getWords());
          
         return "prefix";
     }
@@ -163,8 +173,10 @@ public class RootController {
         Character endChar = null != form.getEndChar() && !form.getEndChar().isEmpty() ? form.getEndChar().charAt(0) : null;
         Integer length = null != form.getLength() ? form.getLength() : null;
 
-        Collection<String> words = this.jumbleEngine.searchWords(startChar, endChar, length);
-        form.setWords(words);
+        form.setPageSize(this.pageSize);
+        WordPage page = this.jumbleEngine.searchWordsPage(startChar, endChar, length, form.getOffset(), this.pageSize);
+        form.setTotal(page.getTotal());
+        form.setWords(page.getWords());
 
         return "search";
     }
@@ -193,7 +205,16 @@ public class RootController {
          }
 
          String trimmedWord = form.getWord().trim();
-         form.setWords(this.jumbleEngine.generateSubWords(trimmedWord, form.getMinLength()));
+         // no sub word is longer than the longest word
+         int maxLength = this.jumbleEngine.getMaxWordLength();
+         if (trimmedWord.length() > maxLength) {
+            bindingResult.rejectValue("word", "error.word", "must be at most " + maxLength + " letters");
+            return "subWords";
+         }
+         form.setPageSize(this.pageSize);
+         WordPage page = this.jumbleEngine.generateSubWordsPage(trimmedWord, form.getMinLength(), form.getOffset(), this.pageSize);
+         form.setTotal(page.getTotal());
+         form.setWords(page.getWords());
 
         return "subWords";
     }
@@ -0,0 +1,332 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import asia.fourtitude.interviewq.jumble.core.DictionaryRegistry;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.WordPage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@Tag(name = "Word API", description = "Word REST API endpoint.")
+@RequestMapping(path = "/api/word")
+public class WordApiController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WordApiController.class);
+
+    private final DictionaryRegistry dictionaryRegistry;
+
+    @Autowired(required = true)
+    public WordApiController(DictionaryRegistry dictionaryRegistry) {
+        this.dictionaryRegistry = dictionaryRegistry;
+    }
+
+    @Operation(
+            summary = "Auto complete based on prefix",
+            description = "Returns a list of words matching the input `prefix` (of at least 3 letters).")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of words matching the `prefix`.",
+                                                    value = "[\n" +
+                                                            "  \"awe\",\n" +
+                                                            "  \"awed\",\n" +
+                                                            "  \"awes\",\n" +
+                                                            "  \"awesome\",\n" +
+                                                            "  \"awesomely\",\n" +
+                                                            "  \"awesomeness\",\n" +
+                                                            "  \"awestruck\"\n" +
+                                                            "]") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found, no such `dictionary` or `view`.") })
+    @GetMapping(value = "/{prefix}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<String>> autoComplete(
+            @Parameter(
+                    description = "The prefix.",
+                    required = true,
+                    example = "awe")
+            @PathVariable String prefix,
+            @Parameter(description = "The name of the dictionary, the default dictionary when none.", example = "default")
+            @RequestParam(name = "dictionary", required = false) String dictionary,
+            @Parameter(description = "The name of the view of the dictionary, the whole dictionary when none.", example = "family-safe")
+            @RequestParam(name = "view", required = false) String view) {
+        JumbleEngine engine = this.dictionaryRegistry.get(dictionary, view);
+        if (engine == null) {
+            return new ResponseEntity<>(Collections.emptyList(), HttpStatus.NOT_FOUND);
+        }
+        prefix = StringUtils.trimToEmpty(prefix);
+        if (prefix.length() < 3) {
+            return new ResponseEntity<>(Collections.emptyList(), HttpStatus.OK);
+        }
+        Collection<String> words = engine.wordsMatchingPrefix(prefix);
+        return new ResponseEntity<>(words, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Words ending with suffix",
+            description = "Returns a list of words ending with the input `suffix` (of at least 3 letters), "
+                    + "ordered by their endings. Use `offset` and `limit` to page through the words; "
+                    + "the total number of words is in `X-Total-Count` header.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of words matching the `suffix`.",
+                                                    value = "[\n" +
+                                                            "  \"libation\",\n" +
+                                                            "  \"probation\",\n" +
+                                                            "  \"approbation\"\n" +
+                                                            "]") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found, no such `dictionary` or `view`.") })
+    @GetMapping(value = "/suffix/{suffix}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<String>> wordsEndingWith(
+            @Parameter(
+                    description = "The suffix.",
+                    required = true,
+                    example = "tion")
+            @PathVariable String suffix,
+            @Parameter(description = "The position (0 based) of first word.", example = "0")
+            @RequestParam(name = "offset", defaultValue = "0") int offset,
+            @Parameter(description = "The maximum number of words.", example = "3")
+            @RequestParam(name = "limit", defaultValue = "" + Integer.MAX_VALUE) int limit,
+            @Parameter(description = "The name of the dictionary, the default dictionary when none.", example = "default")
+            @RequestParam(name = "dictionary", required = false) String dictionary,
+            @Parameter(description = "The name of the view of the dictionary, the whole dictionary when none.", example = "family-safe")
+            @RequestParam(name = "view", required = false) String view) {
+        JumbleEngine engine = this.dictionaryRegistry.get(dictionary, view);
+        if (engine == null) {
+            return new ResponseEntity<>(Collections.emptyList(), HttpStatus.NOT_FOUND);
+        }
+        suffix = StringUtils.trimToEmpty(suffix);
+        if (suffix.length() < 3) {
+            return new ResponseEntity<>(Collections.emptyList(), HttpStatus.OK);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        WordPage page = engine.wordsMatchingSuffixPage(suffix, offset, limit);
+        headers.set("X-Total-Count", Integer.toString(page.getTotal()));
+        return new ResponseEntity<>(page.getWords(), headers, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Words containing fragment",
+            description = "Returns a list of words containing the input `fragment` anywhere.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of words containing the `fragment`.",
+                                                    value = "[\n" +
+                                                            "  \"aforethought\",\n" +
+                                                            "  \"afterthought\",\n" +
+                                                            "  \"afterthoughts\"\n" +
+                                                            "]") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found, no such `dictionary` or `view`.") })
+    @GetMapping(value = "/contains/{fragment}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<String>> wordsContaining(
+            @Parameter(
+                    description = "The fragment.",
+                    required = true,
+                    example = "ough")
+            @PathVariable String fragment,
+            @Parameter(description = "The name of the dictionary, the default dictionary when none.", example = "default")
+            @RequestParam(name = "dictionary", required = false) String dictionary,
+            @Parameter(description = "The name of the view of the dictionary, the whole dictionary when none.", example = "family-safe")
+            @RequestParam(name = "view", required = false) String view) {
+        JumbleEngine engine = this.dictionaryRegistry.get(dictionary, view);
+        if (engine == null) {
+            return new ResponseEntity<>(Collections.emptyList(), HttpStatus.NOT_FOUND);
+        }
+        fragment = StringUtils.trimToEmpty(fragment);
+        Collection<String> words = engine.wordsContaining(fragment);
+        return new ResponseEntity<>(words, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Search words by positional pattern",
+            description = "Returns a list of words matching the crossword style `pattern`. "
+                    + "`?` matches exactly one letter, `*` matches any run of letters (including none). "
+                    + "The `?` must be URL encoded (`%3F`) in the path.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of words matching the `pattern`.",
+                                                    value = "[\n" +
+                                                            "  \"cataclysms\",\n" +
+                                                            "  \"catacombs\",\n" +
+                                                            "  \"catalogs\",\n" +
+                                                            "  \"catalogues\"\n" +
+                                                            "]") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found, no such `dictionary` or `view`.") })
+    @GetMapping(value = "/pattern/{pattern}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<String>> searchByPattern(
+            @Parameter(
+                    description = "The pattern, of letters and wildcards `?` and `*`.",
+                    required = true,
+                    example = "c?t*s")
+            @PathVariable String pattern,
+            @Parameter(description = "The name of the dictionary, the default dictionary when none.", example = "default")
+            @RequestParam(name = "dictionary", required = false) String dictionary,
+            @Parameter(description = "The name of the view of the dictionary, the whole dictionary when none.", example = "family-safe")
+            @RequestParam(name = "view", required = false) String view) {
+        JumbleEngine engine = this.dictionaryRegistry.get(dictionary, view);
+        if (engine == null) {
+            return new ResponseEntity<>(Collections.emptyList(), HttpStatus.NOT_FOUND);
+        }
+        pattern = StringUtils.trimToEmpty(pattern);
+        Collection<String> words = engine.wordsMatchingPattern(pattern);
+        return new ResponseEntity<>(words, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Anagrams of word",
+            description = "Returns a list of words which are exact anagrams of the input `word` (using all the same letters). "
+                    + "The `word` itself is included, if it is a valid word.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The list of anagrams of the `word`.",
+                                                    value = "[\n" +
+                                                            "  \"least\",\n" +
+                                                            "  \"slate\",\n" +
+                                                            "  \"stale\",\n" +
+                                                            "  \"steal\",\n" +
+                                                            "  \"tales\",\n" +
+                                                            "  \"teals\"\n" +
+                                                            "]") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found, no such `dictionary` or `view`.") })
+    @GetMapping(value = "/anagram/{word}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Collection<String>> anagrams(
+            @Parameter(
+                    description = "The word.",
+                    required = true,
+                    example = "least")
+            @PathVariable String word,
+            @Parameter(description = "The name of the dictionary, the default dictionary when none.", example = "default")
+            @RequestParam(name = "dictionary", required = false) String dictionary,
+            @Parameter(description = "The name of the view of the dictionary, the whole dictionary when none.", example = "family-safe")
+            @RequestParam(name = "view", required = false) String view) {
+        JumbleEngine engine = this.dictionaryRegistry.get(dictionary, view);
+        if (engine == null) {
+            return new ResponseEntity<>(Collections.emptyList(), HttpStatus.NOT_FOUND);
+        }
+        word = StringUtils.trimToEmpty(word);
+        Collection<String> words = engine.anagramsOf(word);
+        return new ResponseEntity<>(words, HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Anagrams of many words",
+            description = "Returns the anagrams of each of the input words, keyed by input word.")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Success",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    examples = {
+                                            @ExampleObject(
+                                                    name = "Success",
+                                                    description = "The anagrams of each input word.",
+                                                    value = "{\n" +
+                                                            "  \"dog\": [\n" +
+                                                            "    \"dog\",\n" +
+                                                            "    \"god\"\n" +
+                                                            "  ],\n" +
+                                                            "  \"evil\": [\n" +
+                                                            "    \"evil\",\n" +
+                                                            "    \"live\",\n" +
+                                                            "    \"veil\",\n" +
+                                                            "    \"vile\"\n" +
+                                                            "  ]\n" +
+                                                            "}") })),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Not Found, no such `dictionary` or `view`.") })
+    @PostMapping(value = "/anagram", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Collection<String>>> anagrams(
+            @Parameter(
+                    description = "The list of words.",
+                    required = true,
+                    example = "[\"dog\", \"evil\"]")
+            @RequestBody List<String> words,
+            @Parameter(description = "The name of the dictionary, the default dictionary when none.", example = "default")
+            @RequestParam(name = "dictionary", required = false) String dictionary,
+            @Parameter(description = "The name of the view of the dictionary, the whole dictionary when none.", example = "family-safe")
+            @RequestParam(name = "view", required = false) String view) {
+        JumbleEngine engine = this.dictionaryRegistry.get(dictionary, view);
+        if (engine == null) {
+            return new ResponseEntity<>(Collections.emptyMap(), HttpStatus.NOT_FOUND);
+        }
+        Map<String, Collection<String>> anagrams = engine.anagramsOf(words);
+        return new ResponseEntity<>(anagrams, HttpStatus.OK);
+    }
+
+}
@@ -0,0 +1,228 @@
+package asia.fourtitude.interviewq.jumble.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import asia.fourtitude.interviewq.jumble.core.DictionaryStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+@JsonInclude(Include.NON_NULL)
+public class DictionaryOutput {
+
+    @Schema(
+            title = "Result",
+            description = "Result message.",
+            example = "AnyOf[\"Loaded dictionary.\", \"Reloaded dictionary.\", \"Failed to reload dictionary.\"]",
+            requiredMode = RequiredMode.AUTO)
+    private String result;
+
+    @Schema(
+            description = "Name of the dictionary.",
+            example = "default",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "name")
+    private String name;
+
+    @Schema(
+            description = "Version of the dictionary, 1 when first loaded, then incremented on every reload.",
+            example = "2",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "version")
+    private Long version;
+
+    @Schema(
+            description = "Where the word list is read from.",
+            example = "file:/data/words.txt",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "source")
+    private String source;
+
+    @Schema(
+            description = "Storage of the dictionary words.",
+            example = "ARENA",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "storage")
+    private String storage;
+
+    @Schema(
+            description = "Whether mapped from the index file (else built from the word list).",
+            example = "false",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "mapped")
+    private Boolean mapped;
+
+    @Schema(
+            description = "Number of words.",
+            example = "64662",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "words")
+    private Integer words;
+
+    @Schema(
+            description = "Memory (bytes) of the stored words.",
+            example = "1322392",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "storage_bytes")
+    private Long storageBytes;
+
+    @Schema(
+            description = "Memory (bytes) of the words and of the indexes built so far on the Java heap.",
+            example = "4512880",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "heap_bytes")
+    private Long heapBytes;
+
+    @Schema(
+            description = "Memory (bytes) of the words and of the indexes built so far outside the Java heap (direct or mapped).",
+            example = "0",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "off_heap_bytes")
+    private Long offHeapBytes;
+
+    @Schema(
+            description = "Memory (bytes) of the Bloom filter of the words, 0 when disabled.",
+            example = "77824",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "filter_bytes")
+    private Long filterBytes;
+
+    @Schema(
+            description = "False positive rate expected from the size of the Bloom filter of the words, its blocks accounted for, 0 when disabled.",
+            example = "0.0116",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "filter_fpr")
+    private Double filterFalsePositiveRate;
+
+    @Schema(
+            description = "Time (milliseconds) to load the dictionary.",
+            example = "180",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "load_millis")
+    private Long loadMillis;
+
+    public DictionaryOutput() {
+    }
+
+    public DictionaryOutput(String result, String name, DictionaryStats stats) {
+        this.result = result;
+        this.name = name;
+        this.version = stats.getVersion();
+        this.source = stats.getSource();
+        this.storage = stats.getStorage().name();
+        this.mapped = stats.isMapped();
+        this.words = stats.getWords();
+        this.storageBytes = stats.getStorageBytes();
+        this.heapBytes = stats.getHeapBytes();
+        this.offHeapBytes = stats.getOffHeapBytes();
+        this.filterBytes = stats.getFilterBytes();
+        this.filterFalsePositiveRate = stats.getFilterFalsePositiveRate();
+        this.loadMillis = stats.getLoadMillis();
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public String getStorage() {
+        return storage;
+    }
+
+    public void setStorage(String storage) {
+        this.storage = storage;
+    }
+
+    public Boolean getMapped() {
+        return mapped;
+    }
+
+    public void setMapped(Boolean mapped) {
+        this.mapped = mapped;
+    }
+
+    public Integer getWords() {
+        return words;
+    }
+
+    public void setWords(Integer words) {
+        this.words = words;
+    }
+
+    public Long getStorageBytes() {
+        return storageBytes;
+    }
+
+    public void setStorageBytes(Long storageBytes) {
+        this.storageBytes = storageBytes;
+    }
+
+    public Long getHeapBytes() {
+        return heapBytes;
+    }
+
+    public void setHeapBytes(Long heapBytes) {
+        this.heapBytes = heapBytes;
+    }
+
+    public Long getOffHeapBytes() {
+        return offHeapBytes;
+    }
+
+    public void setOffHeapBytes(Long offHeapBytes) {
+        this.offHeapBytes = offHeapBytes;
+    }
+
+    public Long getFilterBytes() {
+        return filterBytes;
+    }
+
+    public void setFilterBytes(Long filterBytes) {
+        this.filterBytes = filterBytes;
+    }
+
+    public Double getFilterFalsePositiveRate() {
+        return filterFalsePositiveRate;
+    }
+
+    public void setFilterFalsePositiveRate(Double filterFalsePositiveRate) {
+        this.filterFalsePositiveRate = filterFalsePositiveRate;
+    }
+
+    public Long getLoadMillis() {
+        return loadMillis;
+    }
+
+    public void setLoadMillis(Long loadMillis) {
+        this.loadMillis = loadMillis;
+    }
+
+}
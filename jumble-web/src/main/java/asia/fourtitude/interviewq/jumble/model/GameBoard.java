@@ -6,11 +6,27 @@ import asia.fourtitude.interviewq.jumble.core.GameState;
 
 public class GameBoard {
 
-    private GameState state;
+    /*
+     * Game id in GameRepository, the only part kept in the session.
+     */
+    private String id;
+
+    /*
+     * Loaded from GameRepository per request.
+     */
+    private transient GameState state;
 
     @NotBlank(message = "Word cannot be empty")
     private String word;
 
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
     public GameState getState() {
         return state;
     }
@@ -30,6 +46,9 @@ public class GameBoard {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
+        if (id != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("id=[").append(id).append(']');
+        }
         if (state != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("state=[").append(state).append(']');
         }
@@ -0,0 +1,110 @@
+package asia.fourtitude.interviewq.jumble.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+
+/**
+ * A game state update pushed to subscribers (Server-Sent Events), only
+ * with what changed.
+ */
+@JsonInclude(Include.NON_NULL)
+public class GameEvent {
+
+    public static final String STATE = "state";
+
+    public static final String GUESS = "guess";
+
+    public static final String SCRAMBLE = "scramble";
+
+    @Schema(
+            description = "The event: `state` (full, on subscribe), `guess` (word guessed correctly), `scramble` (letters reshuffled).",
+            example = "guess",
+            requiredMode = RequiredMode.AUTO)
+    private String type;
+
+    @Schema(
+            description = "The word guessed correctly, for `guess` event.",
+            example = "rank",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "guess_word")
+    private String guessWord;
+
+    @Schema(
+            description = "The scramble letters, for `state` and `scramble` events.",
+            example = "nekarr",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "scramble_word")
+    private String scrambleWord;
+
+    @Schema(
+            description = "The numbers of remaining smaller/sub words to guess.",
+            example = "14",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "remaining_words")
+    private Integer remainingWords;
+
+    public GameEvent() {
+    }
+
+    public GameEvent(String type, String guessWord, String scrambleWord, Integer remainingWords) {
+        this.type = type;
+        this.guessWord = guessWord;
+        this.scrambleWord = scrambleWord;
+        this.remainingWords = remainingWords;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getGuessWord() {
+        return guessWord;
+    }
+
+    public void setGuessWord(String guessWord) {
+        this.guessWord = guessWord;
+    }
+
+    public String getScrambleWord() {
+        return scrambleWord;
+    }
+
+    public void setScrambleWord(String scrambleWord) {
+        this.scrambleWord = scrambleWord;
+    }
+
+    public Integer getRemainingWords() {
+        return remainingWords;
+    }
+
+    public void setRemainingWords(Integer remainingWords) {
+        this.remainingWords = remainingWords;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (type != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("type=[").append(type).append(']');
+        }
+        if (guessWord != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("guessWord=[").append(guessWord).append(']');
+        }
+        if (scrambleWord != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("scrambleWord=[").append(scrambleWord).append(']');
+        }
+        if (remainingWords != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("remainingWords=[").append(remainingWords).append(']');
+        }
+        return sb.toString();
+    }
+
+}
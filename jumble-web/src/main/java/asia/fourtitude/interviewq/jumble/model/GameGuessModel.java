@@ -12,6 +12,13 @@ public class GameGuessModel {
 
     private Date modifiedAt;
 
+    /*
+     * Name of the dictionary the game was created from, and its version.
+     */
+    private String dictionary;
+
+    private long dictionaryVersion;
+
     private GameState gameState;
 
     public String getId() {
@@ -38,6 +45,22 @@ public class GameGuessModel {
         this.modifiedAt = modifiedAt;
     }
 
+    public String getDictionary() {
+        return dictionary;
+    }
+
+    public void setDictionary(String dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    public long getDictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    public void setDictionaryVersion(long dictionaryVersion) {
+        this.dictionaryVersion = dictionaryVersion;
+    }
+
     public GameState getGameState() {
         return gameState;
     }
@@ -58,6 +81,9 @@ public class GameGuessModel {
         if (modifiedAt != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("modifiedAt=[").append(modifiedAt.toInstant()).append(']');
         }
+        if (dictionary != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("dictionary=[").append(dictionary).append(']');
+        }
         if (gameState != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("gameState=[").append(gameState).append(']');
         }
@@ -82,6 +82,13 @@ public class GameGuessOutput {
     @JsonProperty(value = "guessed_words")
     private List<String> guessedWords;
 
+    @Schema(
+            description = "For incorrect guess only, the \"did you mean\" words: not yet guessed words of the game, close (by spelling) to `guess_word`.",
+            example = "[\"ran\", \"rank\"]",
+            requiredMode = RequiredMode.AUTO)
+    @JsonProperty(value = "suggestions")
+    private List<String> suggestions;
+
     public String getId() {
         return id;
     }
@@ -149,6 +156,14 @@ public class GameGuessOutput {
         this.guessedWords = guessedWords;
     }
 
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
+
+    public void setSuggestions(List<String> suggestions) {
+        this.suggestions = suggestions;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -172,6 +187,9 @@ public class GameGuessOutput {
         if (guessedWords != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("guessedWords.size=[").append(guessedWords.size()).append(']');
         }
+        if (suggestions != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("suggestions=").append(suggestions);
+        }
         return sb.toString();
     }
 
@@ -0,0 +1,80 @@
+package asia.fourtitude.interviewq.jumble.model;
+
+import javax.validation.constraints.Min;
+
+/**
+ * The paging state of a form listing words: the requested `page` (1 based),
+ * and after searching, the `total` number of words and the `pageSize`.
+ */
+public abstract class PagedForm {
+
+    @Min(value = 1, message = "Invalid page")
+    private Integer page;
+
+    private Integer total;
+
+    private int pageSize;
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+
+    public Integer getTotal() {
+        return total;
+    }
+
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @return  The current page, 1 when not given.
+     */
+    public int getPageNumber() {
+        return page == null || page < 1 ? 1 : page;
+    }
+
+    /**
+     * @return  The position (0 based) of first word of the current page.
+     */
+    public int getOffset() {
+        return (int) Math.min((long) (getPageNumber() - 1) * pageSize, Integer.MAX_VALUE);
+    }
+
+    public int getPageCount() {
+        if (total == null || pageSize <= 0) {
+            return 0;
+        }
+        return (int) (((long) total + pageSize - 1) / pageSize);
+    }
+
+    public boolean hasPrevious() {
+        return getPageNumber() > 1;
+    }
+
+    public boolean hasNext() {
+        return getPageNumber() < getPageCount();
+    }
+
+    protected void appendPage(StringBuilder sb) {
+        if (page != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("page=[").append(page).append(']');
+        }
+        if (total != null) {
+            sb.append(sb.length() == 0 ? "" : ", ").append("total=[").append(total).append(']');
+        }
+    }
+
+}
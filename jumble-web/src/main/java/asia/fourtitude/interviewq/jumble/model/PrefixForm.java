@@ -5,7 +5,7 @@ import java.util.Collection;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
 
-public class PrefixForm {
+public class PrefixForm extends PagedForm {
 
     @NotBlank(message = "must not be blank")
     @Pattern(regexp = "^[A-Za-z\\s]+$", message = "Prefix words must not contains number or symbols.")
@@ -38,6 +38,7 @@ public class PrefixForm {
         if (words != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("words=[").append(words).append(']');
         }
+        appendPage(sb);
         return sb.toString();
     }
 
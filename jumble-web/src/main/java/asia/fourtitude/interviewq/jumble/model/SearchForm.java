@@ -9,7 +9,7 @@ import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 
-public class SearchForm {
+public class SearchForm extends PagedForm {
 
     @Pattern(regexp = "^[A-Za-z]+$", message = "Invalid startChar")
     @Size(max = 1, message = "size must be between 0 and 1")
@@ -72,6 +72,7 @@ public class SearchForm {
         if (words != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("words=[").append(words).append(']');
         }
+        appendPage(sb);
         return sb.toString();
     }
 
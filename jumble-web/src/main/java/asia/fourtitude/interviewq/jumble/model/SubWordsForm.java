@@ -4,7 +4,7 @@ import java.util.Collection;
 
 import javax.validation.constraints.NotBlank;
 
-public class SubWordsForm {
+public class SubWordsForm extends PagedForm {
 
     private String word;
 
@@ -48,6 +48,7 @@ public class SubWordsForm {
         if (words != null) {
             sb.append(sb.length() == 0 ? "" : ", ").append("words=[").append(words).append(']');
         }
+        appendPage(sb);
         return sb.toString();
     }
 
@@ -0,0 +1,201 @@
+package asia.fourtitude.interviewq.jumble.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import asia.fourtitude.interviewq.jumble.core.DailyPuzzle;
+import asia.fourtitude.interviewq.jumble.core.GameState;
+import asia.fourtitude.interviewq.jumble.core.GameStateCodec;
+import asia.fourtitude.interviewq.jumble.model.GameGuessModel;
+
+/**
+ * In-memory store of the game boards/states, shared by the REST API and
+ * the web game.
+ *
+ * Each game is kept as a compact binary record (header of timestamps and
+ * dictionary, then {@link GameStateCodec}), not as an object graph. Reads decode a fresh
+ * copy; changes go through {@link #update(String, Function)}, which is
+ * atomic per game id, so concurrent plays of the same game (many devices)
+ * do not lose guesses.
+ *
+ * The games of a daily puzzle share it: the puzzle (and its sub words) is
+ * kept once, each record holds its number and the game's guesses only.
+ */
+public class GameRepository {
+
+    /*
+     * Puzzle number of a record of a game with its own sub words.
+     */
+    private static final int NO_PUZZLE = -1;
+
+    private final Map<String, byte[]> records = new ConcurrentHashMap<>();
+
+    /*
+     * The daily puzzles of the games, by number and number by puzzle
+     * (DailyPuzzle is compared by identity). One per day and dictionary,
+     * kept for the games of past days.
+     */
+    private final Map<Integer, DailyPuzzle> puzzles = new ConcurrentHashMap<>();
+
+    private final Map<DailyPuzzle, Integer> puzzleNumbers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextPuzzleNumber = new AtomicInteger();
+
+    /**
+     * Stores a new game, with a new unique id.
+     *
+     * @param gameState   The game state.
+     * @param dictionary  The name of the dictionary of the game.
+     * @return  The stored game.
+     */
+    public GameGuessModel create(GameState gameState, String dictionary) {
+        GameGuessModel model = new GameGuessModel();
+        model.setId(UUID.randomUUID().toString());
+        model.setCreatedAt(new Date());
+        model.setModifiedAt(model.getCreatedAt());
+        model.setDictionary(dictionary);
+        model.setDictionaryVersion(gameState.getDictionaryVersion());
+        model.setGameState(gameState);
+        records.put(model.getId(), encode(model));
+        return model;
+    }
+
+    /**
+     * @return  A copy of the game of `id`, or null if not found.
+     */
+    public GameGuessModel findById(String id) {
+        byte[] record = id != null ? records.get(id) : null;
+        return record != null ? decode(id, record) : null;
+    }
+
+    /**
+     * Reads the header of the record only, without decoding the game state.
+     *
+     * @return  The game of `id` without its game state (id, timestamps,
+     *          dictionary), or null if not found.
+     */
+    public GameGuessModel findHeaderById(String id) {
+        byte[] record = id != null ? records.get(id) : null;
+        if (record == null) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            return readHeader(id, in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted game record id=[" + id + "]", e);
+        }
+    }
+
+    public boolean existsById(String id) {
+        return id != null && records.containsKey(id);
+    }
+
+    /**
+     * Applies `action` on the game of `id` and stores the changes, atomically
+     * (other updates of the same game wait).
+     *
+     * @param id      The game id.
+     * @param action  The change, on a decoded copy of the game.
+     * @return  The result of `action`, or null if not found.
+     */
+    public <R> R update(String id, Function<GameGuessModel, R> action) {
+        if (id == null) {
+            return null;
+        }
+        Object[] result = new Object[1];
+        records.computeIfPresent(id, (key, record) -> {
+            GameGuessModel model = decode(key, record);
+            result[0] = action.apply(model);
+            model.setModifiedAt(new Date());
+            return encode(model);
+        });
+        @SuppressWarnings("unchecked")
+        R value = (R) result[0];
+        return value;
+    }
+
+    public void deleteById(String id) {
+        if (id != null) {
+            records.remove(id);
+        }
+    }
+
+    /**
+     * @return  The number of games.
+     */
+    public int count() {
+        return records.size();
+    }
+
+    /**
+     * @return  The total size (bytes) of the game records.
+     */
+    public long sizeInBytes() {
+        long size = 0;
+        for (byte[] record : records.values()) {
+            size += record.length;
+        }
+        return size;
+    }
+
+    private int puzzleNumber(DailyPuzzle puzzle) {
+        return puzzleNumbers.computeIfAbsent(puzzle, p -> {
+            int number = nextPuzzleNumber.getAndIncrement();
+            puzzles.put(number, p);
+            return number;
+        });
+    }
+
+    private byte[] encode(GameGuessModel model) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(model.getCreatedAt().getTime());
+            out.writeLong(model.getModifiedAt().getTime());
+            out.writeUTF(model.getDictionary() != null ? model.getDictionary() : "");
+            out.writeLong(model.getDictionaryVersion());
+            GameState gameState = model.getGameState();
+            if (gameState.getPuzzle() != null) {
+                out.writeInt(puzzleNumber(gameState.getPuzzle()));
+                GameStateCodec.writeGuesses(gameState, out);
+            } else {
+                out.writeInt(NO_PUZZLE);
+                GameStateCodec.write(gameState, out);
+            }
+        } catch (IOException e) {
+            // not thrown by ByteArrayOutputStream
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private GameGuessModel decode(String id, byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            GameGuessModel model = readHeader(id, in);
+            int puzzle = in.readInt();
+            model.setGameState(puzzle == NO_PUZZLE ? GameStateCodec.read(in) : GameStateCodec.readGuesses(puzzles.get(puzzle), in));
+            return model;
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted game record id=[" + id + "]", e);
+        }
+    }
+
+    private static GameGuessModel readHeader(String id, DataInputStream in) throws IOException {
+        GameGuessModel model = new GameGuessModel();
+        model.setId(id);
+        model.setCreatedAt(new Date(in.readLong()));
+        model.setModifiedAt(new Date(in.readLong()));
+        model.setDictionary(in.readUTF());
+        model.setDictionaryVersion(in.readLong());
+        return model;
+    }
+
+}
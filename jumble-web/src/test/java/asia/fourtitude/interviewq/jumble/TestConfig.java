@@ -0,0 +1,43 @@
+package asia.fourtitude.interviewq.jumble;
+
+import java.time.Clock;
+import java.util.Collections;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import asia.fourtitude.interviewq.jumble.controller.GameEventBroadcaster;
+import asia.fourtitude.interviewq.jumble.core.DailyPuzzlesRegistry;
+import asia.fourtitude.interviewq.jumble.core.DictionaryRegistry;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.repository.GameRepository;
+
+@TestConfiguration
+public class TestConfig {
+
+    @Bean
+    public JumbleEngine jumbleEngine() {
+        return new JumbleEngine();
+    }
+
+    @Bean
+    public DictionaryRegistry dictionaryRegistry(JumbleEngine jumbleEngine) {
+        return new DictionaryRegistry(Collections.singletonMap("default", jumbleEngine));
+    }
+
+    @Bean
+    public DailyPuzzlesRegistry dailyPuzzles(DictionaryRegistry dictionaryRegistry) {
+        return new DailyPuzzlesRegistry(dictionaryRegistry, 0L, 0, Clock.systemUTC());
+    }
+
+    @Bean(destroyMethod = "close")
+    public GameEventBroadcaster gameEventBroadcaster() {
+        return new GameEventBroadcaster(60000L);
+    }
+
+    @Bean
+    public GameRepository gameRepository() {
+        return new GameRepository();
+    }
+
+}
@@ -0,0 +1,111 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import asia.fourtitude.interviewq.jumble.core.DictionaryRegistry;
+import asia.fourtitude.interviewq.jumble.core.DictionarySource;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.core.WordStorage;
+
+@WebMvcTest(controllers = AdminApiController.class, properties = "jumble.admin.reload-enabled=true")
+class AdminApiControllerTest {
+
+    /*
+     * "default" of a word file, "broken" of a word file deleted once loaded,
+     * so that its reload fails.
+     */
+    @TestConfiguration
+    static class AdminTestConfig {
+
+        @Bean
+        public DictionaryRegistry dictionaryRegistry() throws IOException {
+            Map<String, JumbleEngine> engines = new LinkedHashMap<>();
+            engines.put("default", newEngine(false));
+            engines.put("broken", newEngine(true));
+            return new DictionaryRegistry(engines);
+        }
+
+        private static JumbleEngine newEngine(boolean deleted) throws IOException {
+            Path file = Files.createTempFile("words", ".txt");
+            file.toFile().deleteOnExit();
+            Files.write(file, Arrays.asList("ant", "bee", "cat", "dog"), StandardCharsets.UTF_8);
+            JumbleEngine engine = new JumbleEngine(1, JumbleEngine.DEFAULT_PARALLEL_THRESHOLD,
+                    DictionarySource.file(file), null, WordStorage.ARENA);
+            if (deleted) {
+                Files.delete(file);
+            }
+            return engine;
+        }
+
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void whenGetDictionaries_thenAllDictionaries() throws Exception {
+        this.mockMvc.perform(get("/api/admin/dictionaries"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("default"))
+                .andExpect(jsonPath("$[0].words").value(4))
+                .andExpect(jsonPath("$[0].filter_bytes").value(greaterThan(0)))
+                .andExpect(jsonPath("$[1].name").value("broken"));
+    }
+
+    @Test
+    void whenGetDictionary_thenStats() throws Exception {
+        this.mockMvc.perform(get("/api/admin/dictionary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value("Loaded dictionary."))
+                .andExpect(jsonPath("$.name").value("default"))
+                .andExpect(jsonPath("$.storage").value("ARENA"))
+                .andExpect(jsonPath("$.words").value(4));
+
+        this.mockMvc.perform(get("/api/admin/dictionary").param("dictionary", "missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.result").value("Invalid dictionary."));
+    }
+
+    @Test
+    void whenReload_thenNewVersion() throws Exception {
+        this.mockMvc.perform(post("/api/admin/dictionary/reload"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value("Reloaded dictionary."))
+                .andExpect(jsonPath("$.name").value("default"))
+                .andExpect(jsonPath("$.version").value(greaterThan(1)))
+                .andExpect(jsonPath("$.words").value(4));
+    }
+
+    @Test
+    void givenMissingWordFile_whenReload_thenFailedAndKept() throws Exception {
+        this.mockMvc.perform(post("/api/admin/dictionary/reload").param("dictionary", "broken"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.result").value("Failed to reload dictionary."));
+
+        this.mockMvc.perform(get("/api/admin/dictionary").param("dictionary", "broken"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.words").value(4));
+    }
+
+}
@@ -1,12 +1,16 @@
 package asia.fourtitude.interviewq.jumble.controller;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
@@ -22,11 +26,15 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import asia.fourtitude.interviewq.jumble.TestConfig;
+import asia.fourtitude.interviewq.jumble.core.DailyPuzzle;
 import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
 import asia.fourtitude.interviewq.jumble.model.GameGuessInput;
+import asia.fourtitude.interviewq.jumble.model.GameGuessModel;
+import asia.fourtitude.interviewq.jumble.repository.GameRepository;
 
 @WebMvcTest(GameApiController.class)
 @Import(TestConfig.class)
@@ -40,6 +48,9 @@ class GameApiControllerTest {
     @Autowired
     JumbleEngine jumbleEngine;
 
+    @Autowired
+    GameRepository gameRepository;
+
     /*
      * NOTE: Refer to "RootControllerTest.java", "GameWebControllerTest.java"
      * as reference. Search internet for resource/tutorial/help in implementing
@@ -87,6 +98,152 @@ class GameApiControllerTest {
             assertEquals(OM.readTree(json).get("total_words").asInt(), OM.readTree(json).get("remaining_words").asInt()); // `remainingWords` > 0 and same as `totalWords`
     }
 
+    @Test
+    void givenWordsRange_whenCreateNewGame_thenSuccess() throws Exception {
+        this.mvc.perform(get("/api/game/new").param("min_words", "20").param("max_words", "22"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result").value("Created new game."))
+            .andExpect(jsonPath("$.total_words").value(both(greaterThanOrEqualTo(20)).and(lessThanOrEqualTo(22))))
+            .andExpect(jsonPath("$.remaining_words").value(both(greaterThanOrEqualTo(20)).and(lessThanOrEqualTo(22))));
+
+        this.mvc.perform(get("/api/game/new").param("difficulty", "Hard"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result").value("Created new game."))
+            .andExpect(jsonPath("$.total_words").value(greaterThan(0)));
+    }
+
+    @Test
+    void givenUnknownDictionary_whenCreateNewGame_thenNotFound() throws Exception {
+        this.mvc.perform(get("/api/game/new").param("dictionary", "unknown"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.result").value("Invalid dictionary."));
+        this.mvc.perform(get("/api/game/new").param("dictionary", "default"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result").value("Created new game."));
+    }
+
+    @Test
+    void givenUnknownDictionaryOrView_whenCreateDailyGame_thenNotFound() throws Exception {
+        this.mvc.perform(get("/api/game/daily").param("dictionary", "unknown"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.result").value("Invalid dictionary."))
+            .andExpect(jsonPath("$.id").doesNotExist());
+        this.mvc.perform(get("/api/game/daily").param("view", "unknown"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.result").value("Invalid view."))
+            .andExpect(jsonPath("$.id").doesNotExist());
+        this.mvc.perform(get("/api/game/daily").param("dictionary", "Default"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result").value("Created daily game."));
+    }
+
+    @Test
+    void givenInvalidDifficulty_whenCreateNewGame_thenError() throws Exception {
+        this.mvc.perform(get("/api/game/new").param("difficulty", "extreme"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.result").value("Invalid difficulty."))
+            .andExpect(jsonPath("$.id").doesNotExist());
+
+        this.mvc.perform(get("/api/game/new").param("min_words", "1000"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.result").value("No word found with the difficulty."))
+            .andExpect(jsonPath("$.id").doesNotExist());
+    }
+
+    @Test
+    void whenCreateDailyGame_thenSamePuzzleOwnBoard() throws Exception {
+        MvcResult result1 = this.mvc.perform(get("/api/game/daily"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result").value("Created daily game."))
+            .andExpect(jsonPath("$.id").isNotEmpty())
+            .andExpect(jsonPath("$.total_words").value(greaterThan(0)))
+            .andExpect(jsonPath("$.guessed_words").isEmpty())
+            .andReturn();
+        MvcResult result2 = this.mvc.perform(get("/api/game/daily"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        JsonNode game1 = OM.readTree(result1.getResponse().getContentAsString());
+        JsonNode game2 = OM.readTree(result2.getResponse().getContentAsString());
+        assertNotEquals(game1.get("id").asText(), game2.get("id").asText(), "id");
+        assertEquals(game1.get("original_word").asText(), game2.get("original_word").asText(), "original_word");
+        assertEquals(game1.get("scramble_word").asText(), game2.get("scramble_word").asText(), "scramble_word");
+
+        // the boards share the puzzle, a record holds the guesses only
+        DailyPuzzle puzzle = gameRepository.findById(game1.get("id").asText()).getGameState().getPuzzle();
+        assertNotNull(puzzle, "puzzle");
+        assertSame(puzzle, gameRepository.findById(game2.get("id").asText()).getGameState().getPuzzle(), "same puzzle");
+        long size = gameRepository.sizeInBytes();
+        this.mvc.perform(get("/api/game/daily")).andExpect(status().isOk());
+        int totalWords = game1.get("total_words").asInt();
+        assertTrue(gameRepository.sizeInBytes() - size <= 64 + (totalWords + 7) / 8,
+                "record size=" + (gameRepository.sizeInBytes() - size) + ";total_words=" + totalWords);
+
+        // guessing on one board does not change the other
+        String word = jumbleEngine.generateSubWords(game1.get("original_word").asText(), 3).iterator().next();
+        GameGuessInput input = new GameGuessInput();
+        input.setId(game1.get("id").asText());
+        input.setWord(word);
+        this.mvc.perform(post("/api/game/guess").contentType(MediaType.APPLICATION_JSON).content(OM.writeValueAsString(input)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result").value("Guessed correctly."));
+        input.setId(game2.get("id").asText());
+        input.setWord("zzzzzz");
+        this.mvc.perform(post("/api/game/guess").contentType(MediaType.APPLICATION_JSON).content(OM.writeValueAsString(input)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.remaining_words").value(equalTo(game2.get("total_words").asInt())))
+            .andExpect(jsonPath("$.guessed_words").isEmpty());
+    }
+
+    @Test
+    void givenSubscriber_whenPlayGame_thenEventsPushed() throws Exception {
+        // at least 2 words, so that the stream does not end after first guess
+        MvcResult newGameResult = this.mvc.perform(get("/api/game/new").param("min_words", "2"))
+            .andExpect(status().isOk())
+            .andReturn();
+        JsonNode game = OM.readTree(newGameResult.getResponse().getContentAsString());
+        String gameId = game.get("id").asText();
+        int totalWords = game.get("total_words").asInt();
+
+        MvcResult events = this.mvc.perform(get("/api/game/" + gameId + "/events"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        awaitContent(events, "event:state");
+
+        String word = jumbleEngine.generateSubWords(game.get("original_word").asText(), 3).iterator().next();
+        GameGuessInput input = new GameGuessInput();
+        input.setId(gameId);
+        input.setWord(word);
+        this.mvc.perform(post("/api/game/guess").contentType(MediaType.APPLICATION_JSON).content(OM.writeValueAsString(input)))
+            .andExpect(status().isOk());
+        awaitContent(events, "event:guess\ndata:{\"type\":\"guess\",\"guess_word\":\"" + word + "\",\"remaining_words\":" + (totalWords - 1) + "}");
+
+        this.mvc.perform(post("/api/game/scramble").contentType(MediaType.APPLICATION_JSON).content(OM.writeValueAsString(input)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result").value("Scrambled."));
+        awaitContent(events, "event:scramble\ndata:{\"type\":\"scramble\",\"scramble_word\":");
+    }
+
+    @Test
+    void givenMissingRecord_whenSubscribeEvents_thenNotFound() throws Exception {
+        this.mvc.perform(get("/api/game/" + UUID.randomUUID() + "/events"))
+            .andExpect(status().isNotFound());
+    }
+
+    /*
+     * Events are sent by the broadcaster thread, waits for them.
+     */
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), "expected=" + expected + ";content=" + content);
+        return content;
+    }
+
     @Test
     void givenMissingId_whenPlayGame_thenInvalidId() throws Exception {
         /*
@@ -235,7 +392,17 @@ class GameApiControllerTest {
             .andExpect(jsonPath("$.total_words").value(greaterThan(0)))
             .andExpect(jsonPath("$.remaining_words").value(greaterThan(0)))
             .andExpect(jsonPath("$.guessed_words").isArray())
-            .andExpect(jsonPath("$.guessed_words").isEmpty());
+            .andExpect(jsonPath("$.guessed_words").isEmpty())
+            // not close to any word of the game
+            .andExpect(jsonPath("$.suggestions").doesNotExist());
+
+        // not a word of the game's dictionary: answered without updating the game
+        GameGuessModel header = gameRepository.findHeaderById(gameId);
+        assertEquals("default", header.getDictionary(), "dictionary");
+        assertEquals(jumbleEngine.getDictionaryStats().getVersion(), header.getDictionaryVersion(), "dictionaryVersion");
+        assertNull(header.getGameState(), "header only");
+        assertFalse(jumbleEngine.mightExist(input.getWord(), header.getDictionaryVersion()), "mightExist=" + input.getWord());
+        assertEquals(gameRepository.findById(gameId).getCreatedAt(), gameRepository.findById(gameId).getModifiedAt(), "modifiedAt");
     }
 
     @Test
@@ -0,0 +1,86 @@
+package asia.fourtitude.interviewq.jumble.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import asia.fourtitude.interviewq.jumble.model.GameEvent;
+
+class GameEventBroadcasterTest {
+
+    /*
+     * Counts the events sent and the completion, optionally blocking every
+     * send until `release` (a client not reading).
+     */
+    static class TestEmitter extends SseEmitter {
+
+        final CountDownLatch sent;
+
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        final CountDownLatch release;
+
+        TestEmitter(int events, CountDownLatch release) {
+            super(0L);
+            this.sent = new CountDownLatch(events);
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sent.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+
+    }
+
+    @Test
+    void givenBlockedSubscriber_whenPublish_thenOthersServedAndBlockedDropped() throws Exception {
+        GameEventBroadcaster broadcaster = new GameEventBroadcaster(0L, 2, 4);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            GameEvent initial = new GameEvent(GameEvent.STATE, null, "cba", 3);
+            TestEmitter blocked = new TestEmitter(1, release);
+            broadcaster.subscribe("slow", initial, blocked);
+            assertTrue(blocked.sent.await(5, TimeUnit.SECONDS), "blocked in first send");
+
+            // queue full: dropped at once, publishing does not wait
+            for (int ix = 0; ix < 10; ix += 1) {
+                broadcaster.publish("slow", new GameEvent(GameEvent.GUESS, "ab", null, 2));
+            }
+            assertEquals(0, broadcaster.subscriberCount("slow"), "slow subscriberCount");
+
+            // the events of the other games still go out
+            TestEmitter other = new TestEmitter(3, null);
+            broadcaster.subscribe("fast", initial, other);
+            broadcaster.publishGuess("fast", "ab", 3, 2);
+            broadcaster.publishGuess("fast", "ba", 2, 0);
+            assertTrue(other.sent.await(5, TimeUnit.SECONDS), "other events");
+            assertTrue(other.completed.await(5, TimeUnit.SECONDS), "other completed");
+            assertEquals(1, blocked.completed.getCount(), "blocked not completed while sending");
+
+            release.countDown();
+            assertTrue(blocked.completed.await(5, TimeUnit.SECONDS), "blocked completed");
+        } finally {
+            release.countDown();
+            broadcaster.close();
+        }
+    }
+
+}
@@ -7,6 +7,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +22,7 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import asia.fourtitude.interviewq.jumble.TestConfig;
 import asia.fourtitude.interviewq.jumble.model.GameBoard;
+import asia.fourtitude.interviewq.jumble.repository.GameRepository;
 
 @WebMvcTest(GameWebController.class)
 @Import(TestConfig.class)
@@ -29,6 +31,9 @@ class GameWebControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private GameRepository gameRepository;
+
     @Test
     void whenVisitGoodbye_thenExpectSuccess() throws Exception {
         this.mockMvc.perform(get("/game/goodbye"))
@@ -64,6 +69,61 @@ class GameWebControllerTest {
         assertNotNull(board.getState().getGuessedWords(), "board.state.guessedWords");
         assertTrue(board.getState().getGuessedWords().isEmpty(), "board.state.guessedWords.isEmpty");
         assertEquals("", board.getWord(), "board.word");
+
+        // session only holds the game id
+        MockHttpSession session = (MockHttpSession) resu.getRequest().getSession();
+        assertEquals(Collections.singletonList(GameWebController.GAME_ID), Collections.list(session.getAttributeNames()), "session.attributeNames");
+        assertEquals(board.getId(), session.getAttribute(GameWebController.GAME_ID), "session.gameId");
+    }
+
+    @Test
+    void givenVisitNew_whenVisitGoodbye_thenGameRemoved() throws Exception {
+        MvcResult resu = this.mockMvc.perform(get("/game/new"))
+                .andExpect(status().isOk())
+                .andReturn();
+        MockHttpSession session = (MockHttpSession) resu.getRequest().getSession();
+        String id = (String) session.getAttribute(GameWebController.GAME_ID);
+        assertTrue(gameRepository.existsById(id), "repository.exists");
+
+        this.mockMvc.perform(get("/game/goodbye").session(session))
+                .andExpect(view().name("game/board"))
+                .andExpect(status().isOk());
+        assertNull(session.getAttribute(GameWebController.GAME_ID), "session.gameId");
+        assertFalse(gameRepository.existsById(id), "repository.exists");
+
+        resu = this.mockMvc.perform(get("/game/play").session(session))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertNull(((GameBoard) resu.getModelAndView().getModel().get("board")).getState(), "board.state");
+    }
+
+    @Test
+    void givenOtherGameId_whenPlay_thenOwnGameOnly() throws Exception {
+        MvcResult other = this.mockMvc.perform(get("/game/new"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String otherId = (String) ((MockHttpSession) other.getRequest().getSession()).getAttribute(GameWebController.GAME_ID);
+        String otherScramble = gameRepository.findById(otherId).getGameState().getScramble();
+        String otherWord = gameRepository.findById(otherId).getGameState().getSubWords().keySet().iterator().next();
+
+        MvcResult resu = this.mockMvc.perform(get("/game/new"))
+                .andExpect(status().isOk())
+                .andReturn();
+        MockHttpSession session = (MockHttpSession) resu.getRequest().getSession();
+        String id = (String) session.getAttribute(GameWebController.GAME_ID);
+
+        this.mockMvc.perform(get("/game/play").session(session).param("id", otherId))
+                .andExpect(status().isOk());
+        resu = this.mockMvc.perform(post("/game/play")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("id", otherId)
+                        .param("word", otherWord))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(id, ((GameBoard) resu.getModelAndView().getModel().get("board")).getId(), "board.id");
+        assertEquals(otherScramble, gameRepository.findById(otherId).getGameState().getScramble(), "other.scramble");
+        assertTrue(gameRepository.findById(otherId).getGameState().getGuessedWords().isEmpty(), "other.guessedWords");
     }
 
     @Test
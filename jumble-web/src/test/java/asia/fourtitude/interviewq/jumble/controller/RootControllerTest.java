@@ -171,6 +171,20 @@ class RootControllerTest {
                 .andExpect(content().string(containsString(result)));
     }
 
+    @Test
+    void givenPage_whenExecPrefix_thenOnePage() throws Exception {
+        this.mockMvc.perform(post("/prefix")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("prefix", "pe")
+                        .param("page", "2"))
+                .andExpect(view().name("prefix"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("<p>The number of words: <span>714</span></p>")))
+                .andExpect(content().string(containsString("<ol start=\"101\">")))
+                .andExpect(content().string(containsString("Page <span>2</span> of <span>8</span>")))
+                .andExpect(content().string(not(containsString("<span>pea</span>"))));
+    }
+
     @Test
     void givenStartChar_whenExecSearch_thenSuccess() throws Exception {
         this.mockMvc.perform(post("/search")
@@ -375,4 +389,18 @@ class RootControllerTest {
                 .andExpect(content().string(containsString("<span id=\"iptWordFeedback\" class=\"col-sm-4 text-danger is-invalid\">")));
     }
 
+    @Test
+    void givenWordLongerThanAnyWord_whenExecSubWords_thenFailure() throws Exception {
+        StringBuilder word = new StringBuilder();
+        while (word.length() <= 200) {
+            word.append("abcdefghijklmnopqrstuvwxyz");
+        }
+        this.mockMvc.perform(post("/subWords")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("word", word.toString()))
+                .andExpect(view().name("subWords"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("<span id=\"iptWordFeedback\" class=\"col-sm-4 text-danger is-invalid\">must be at most ")));
+    }
+
 }
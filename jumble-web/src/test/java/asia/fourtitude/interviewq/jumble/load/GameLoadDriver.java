@@ -0,0 +1,323 @@
+package asia.fourtitude.interviewq.jumble.load;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import asia.fourtitude.interviewq.jumble.JumbleApplication;
+import asia.fourtitude.interviewq.jumble.core.JumbleEngine;
+import asia.fourtitude.interviewq.jumble.model.GameGuessInput;
+
+/**
+ * Load generator for the Game REST API ("/api/game/new", "/api/game/guess").
+ *
+ * Boots the application on a random local port, then simulates a number of
+ * concurrent players. Each player creates a game, and submits a number of
+ * guesses (a mix of correct and incorrect words) with think time in
+ * between, then starts over with a new game until the run ends.
+ *
+ * Reports throughput, p50/p99/p999 latency per endpoint, and the growth of
+ * used heap (after GC) between start and end of the run.
+ *
+ * Run with: mvn -pl jumble-web -am -Pload test-compile exec:exec [-Dload.args="--players=200 --duration=60"]
+ *
+ * Options (all optional):
+ *   --players=50          number of concurrent players
+ *   --duration=30         length of measured run, in seconds
+ *   --warmup=5            length of warm up (not measured), in seconds
+ *   --think=500           mean think time between requests, in milliseconds
+ *   --correct=0.5         ratio of correct guesses (0.0 to 1.0)
+ *   --guesses=10          number of guesses per game, before starting a new game
+ */
+public class GameLoadDriver {
+
+    static final ObjectMapper OM = new ObjectMapper();
+
+    private final Map<String, String> options;
+
+    private final PrintStream cout;
+
+    private final int players;
+
+    private final long durationMillis;
+
+    private final long warmupMillis;
+
+    private final long thinkMillis;
+
+    private final double correctRatio;
+
+    private final int guessesPerGame;
+
+    private volatile boolean recording;
+
+    private volatile boolean running;
+
+    private final LatencyRecorder newGameLatency = new LatencyRecorder();
+
+    private final LatencyRecorder guessLatency = new LatencyRecorder();
+
+    private final AtomicLong errors = new AtomicLong();
+
+    public GameLoadDriver(Map<String, String> options, PrintStream cout) {
+        this.options = options;
+        this.cout = cout;
+        this.players = Integer.parseInt(option("players", "50"));
+        this.durationMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(option("duration", "30")));
+        this.warmupMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(option("warmup", "5")));
+        this.thinkMillis = Long.parseLong(option("think", "500"));
+        this.correctRatio = Double.parseDouble(option("correct", "0.5"));
+        this.guessesPerGame = Integer.parseInt(option("guesses", "10"));
+    }
+
+    private String option(String name, String defaultValue) {
+        String value = options.get(name);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+
+    public void run() throws InterruptedException {
+        // devtools restarter would re-launch main() in another class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        String[] appArgs = {
+                "--server.port=0",
+                // test classpath also has "TestConfig" with the same beans
+                "--spring.main.allow-bean-definition-overriding=true",
+                "--logging.level.asia.fourtitude.interviewq.jumble=INFO" };
+
+        try (ConfigurableApplicationContext context = SpringApplication.run(JumbleApplication.class, appArgs)) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            JumbleEngine engine = context.getBean(JumbleEngine.class);
+            String baseUrl = "http://localhost:" + port;
+            cout.printf("Application started at %s%n", baseUrl);
+            cout.printf("players=[%d] duration=[%ds] warmup=[%ds] think=[%dms] correct=[%.2f] guesses=[%d]%n",
+                    players, durationMillis / 1000, warmupMillis / 1000, thinkMillis, correctRatio, guessesPerGame);
+
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            System.gc();
+            long heapStart = memory.getHeapMemoryUsage().getUsed();
+
+            ExecutorService pool = Executors.newFixedThreadPool(players);
+            CountDownLatch done = new CountDownLatch(players);
+            this.running = true;
+            for (int ix = 0; ix < players; ix += 1) {
+                final long seed = ix;
+                pool.execute(() -> {
+                    try {
+                        new Player(baseUrl, engine, new Random(seed)).play();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            Thread.sleep(warmupMillis);
+            this.recording = true;
+            long tStart = System.nanoTime();
+            Thread.sleep(durationMillis);
+            this.recording = false;
+            long tStop = System.nanoTime();
+            this.running = false;
+            done.await();
+            pool.shutdown();
+
+            System.gc();
+            long heapStop = memory.getHeapMemoryUsage().getUsed();
+
+            double seconds = (tStop - tStart) / 1e9;
+            cout.println();
+            cout.printf("%-12s %10s %10s %10s %10s %10s %10s%n", "endpoint", "requests", "req/sec", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+            report("/new", newGameLatency, seconds);
+            report("/guess", guessLatency, seconds);
+            cout.printf("errors     : %d%n", errors.get());
+            cout.printf("heap start : %,d bytes%n", heapStart);
+            cout.printf("heap end   : %,d bytes%n", heapStop);
+            cout.printf("heap growth: %,d bytes%n", heapStop - heapStart);
+        }
+    }
+
+    private void report(String name, LatencyRecorder recorder, double seconds) {
+        long[] nanos = recorder.sorted();
+        cout.printf("%-12s %10d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                nanos.length,
+                nanos.length / seconds,
+                percentile(nanos, 0.50) / 1e6,
+                percentile(nanos, 0.99) / 1e6,
+                percentile(nanos, 0.999) / 1e6,
+                nanos.length == 0 ? 0.0 : nanos[nanos.length - 1] / 1e6);
+    }
+
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int pos = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(pos, sorted.length - 1))];
+    }
+
+    /*
+     * One simulated player. Answers for correct guesses are computed from
+     * the engine (outside of the measured request), the way a player
+     * "knows" some of the words.
+     */
+    private class Player {
+
+        private final String baseUrl;
+
+        private final JumbleEngine engine;
+
+        private final Random random;
+
+        Player(String baseUrl, JumbleEngine engine, Random random) {
+            this.baseUrl = baseUrl;
+            this.engine = engine;
+            this.random = random;
+        }
+
+        void play() {
+            while (running) {
+                try {
+                    JsonNode game = request("GET", "/api/game/new", null, newGameLatency);
+                    String id = game.get("id").asText();
+                    List<String> answers = new ArrayList<>(engine.generateSubWords(game.get("original_word").asText(), 3));
+                    for (int ix = 0; ix < guessesPerGame && running; ix += 1) {
+                        think();
+                        GameGuessInput input = new GameGuessInput();
+                        input.setId(id);
+                        if (!answers.isEmpty() && random.nextDouble() < correctRatio) {
+                            input.setWord(answers.remove(random.nextInt(answers.size())));
+                        } else {
+                            input.setWord("zzz" + random.nextInt(1000));
+                        }
+                        request("POST", "/api/game/guess", OM.writeValueAsBytes(input), guessLatency);
+                    }
+                    think();
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                }
+            }
+        }
+
+        private void think() {
+            if (thinkMillis <= 0) {
+                return;
+            }
+            // exponential distribution around the mean think time
+            long millis = (long) (-Math.log(1.0 - random.nextDouble()) * thinkMillis);
+            try {
+                Thread.sleep(Math.min(millis, thinkMillis * 10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private JsonNode request(String method, String path, byte[] body, LatencyRecorder recorder) throws IOException {
+            long tStart = System.nanoTime();
+            HttpURLConnection conn = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+            conn.setRequestMethod(method);
+            conn.setRequestProperty("Accept", "application/json");
+            if (body != null) {
+                conn.setDoOutput(true);
+                conn.setRequestProperty("Content-Type", "application/json");
+                try (OutputStream out = conn.getOutputStream()) {
+                    out.write(body);
+                }
+            }
+            int status = conn.getResponseCode();
+            byte[] content;
+            try (InputStream in = status < 400 ? conn.getInputStream() : conn.getErrorStream()) {
+                content = readAll(in);
+            }
+            long elapsed = System.nanoTime() - tStart;
+            if (status != 200) {
+                throw new IOException("Unexpected HTTP status=[" + status + "] path=[" + path + "]");
+            }
+            if (recording) {
+                recorder.record(elapsed);
+            }
+            return OM.readTree(new String(content, StandardCharsets.UTF_8));
+        }
+
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (in != null) {
+            byte[] buf = new byte[8192];
+            int len;
+            while ((len = in.read(buf)) != -1) {
+                out.write(buf, 0, len);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /*
+     * Collects raw latencies (nanoseconds). Good enough for runs of a few
+     * million requests, and gives exact percentiles.
+     */
+    static class LatencyRecorder {
+
+        private long[] values = new long[1024];
+
+        private int size;
+
+        synchronized void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            for (String token : arg.trim().split("\\s+")) {
+                if (token.startsWith("--") && token.indexOf('=') > 2) {
+                    int pos = token.indexOf('=');
+                    options.put(token.substring(2, pos), token.substring(pos + 1));
+                }
+            }
+        }
+        return options;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        new GameLoadDriver(parseOptions(args), System.out).run();
+        System.exit(0);
+    }
+
+}